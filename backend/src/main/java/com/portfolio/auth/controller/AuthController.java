@@ -5,12 +5,18 @@ import com.portfolio.auth.dto.ChangePasswordResponse;
 import com.portfolio.auth.dto.LoginRequest;
 import com.portfolio.auth.dto.LoginResponse;
 import com.portfolio.auth.dto.UserDto;
+import com.portfolio.auth.service.LoginBackoff;
+import com.portfolio.common.exception.ServiceUnavailableException;
+import com.portfolio.common.exception.TooManyRequestsException;
 import com.portfolio.config.JwtConfig;
 import com.portfolio.security.JwtTokenProvider;
+import com.portfolio.security.TokenRevocationList;
 import com.portfolio.user.entity.User;
 import com.portfolio.user.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -38,8 +44,19 @@ public class AuthController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private LoginBackoff loginBackoff;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
+        long retryAfter = loginBackoff.retryAfterSeconds(loginRequest.getUsername());
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException(
+                    "Too many failed login attempts, please try again in " + retryAfter + " seconds", retryAfter);
+        }
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
@@ -48,6 +65,7 @@ public class AuthController {
                     )
             );
 
+            loginBackoff.recordSuccess(loginRequest.getUsername());
             String token = tokenProvider.generateToken(authentication);
 
             User user = userService.findByUsername(loginRequest.getUsername())
@@ -68,6 +86,7 @@ public class AuthController {
 
             return ResponseEntity.ok(response);
         } catch (BadCredentialsException e) {
+            loginBackoff.recordFailure(loginRequest.getUsername());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body("Invalid username or password");
         }
@@ -104,6 +123,8 @@ public class AuthController {
 
             ChangePasswordResponse response = ChangePasswordResponse.builder()
                     .message("Password changed successfully")
+                    .token(tokenProvider.generateToken(user))
+                    .expiresIn(jwtConfig.getExpiration() / 1000)
                     .user(userDto)
                     .build();
 
@@ -114,9 +135,26 @@ public class AuthController {
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(e.getMessage());
+        } catch (ServiceUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Failed to change password");
         }
     }
+
+    /**
+     * Revoke the token of this request, on every node, so it cannot be used again even if it leaked
+     */
+    @PostMapping("/logout")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        String token = authorization.startsWith("Bearer ") ? authorization.substring(7) : authorization;
+        Claims claims = tokenProvider.getValidClaims(token);
+        if (claims != null && claims.getId() != null) {
+            tokenRevocationList.revoke(claims.getId(), claims.getSubject(), claims.getExpiration());
+        }
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -11,5 +11,8 @@ import lombok.NoArgsConstructor;
 @Builder
 public class ChangePasswordResponse {
     private String message;
+    // Tokens issued before the change no longer work; this one replaces them
+    private String token;
+    private Long expiresIn;
     private UserDto user;
 }
@@ -0,0 +1,42 @@
+package com.portfolio.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A JWT that must no longer be accepted, identified by its {@code jti} claim
+ */
+@Entity
+@Table(name = "revoked_tokens")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@NamedQueries({
+    @NamedQuery(
+        name = "RevokedToken.findRevokedSince",
+        query = "SELECT t FROM RevokedToken t WHERE t.revokedAt >= :since AND t.expiresAt > :now"
+    ),
+    @NamedQuery(
+        name = "RevokedToken.deleteExpired",
+        query = "DELETE FROM RevokedToken t WHERE t.expiresAt <= :now"
+    )
+})
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(nullable = false, length = 50)
+    private String username;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
@@ -0,0 +1,25 @@
+package com.portfolio.auth.repository;
+
+import com.portfolio.auth.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Revocations recorded at or after {@code since} whose tokens have not expired yet
+     */
+    @Query(name = "RevokedToken.findRevokedSince")
+    List<RevokedToken> findRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(name = "RevokedToken.deleteExpired")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,115 @@
+package com.portfolio.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Exponential backoff per username after failed logins.
+ * The first few failures are free; after that each failure doubles the wait before the next
+ * attempt, up to {@link #MAX_DELAY}. Attempts during the wait are refused before any password
+ * is hashed. A successful login clears the record.
+ */
+@Component
+@Slf4j
+public class LoginBackoff {
+
+    static final int FREE_FAILURES = 3;
+    static final Duration MAX_DELAY = Duration.ofMinutes(15);
+    static final int MAX_TRACKED = 10_000;
+
+    private final Clock clock;
+    private final Map<String, Failures> failures = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LoginBackoff() {
+        this(Clock.systemUTC());
+    }
+
+    LoginBackoff(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Time left before the username may try again
+     * @return Seconds to wait, or 0 if an attempt is allowed now
+     */
+    public long retryAfterSeconds(String username) {
+        Failures record = failures.get(key(username));
+        if (record == null) {
+            return 0;
+        }
+        long waitMillis = record.blockedUntil - clock.millis();
+        return waitMillis <= 0 ? 0 : (waitMillis + 999) / 1000;
+    }
+
+    public void recordFailure(String username) {
+        String key = key(username);
+        if (failures.size() >= MAX_TRACKED && !failures.containsKey(key)) {
+            evictWeakest();
+        }
+        long now = clock.millis();
+        failures.compute(key, (name, record) -> {
+            int count = record == null ? 1 : record.count + 1;
+            return new Failures(count, now, now + delayMillis(count));
+        });
+    }
+
+    public void recordSuccess(String username) {
+        failures.remove(key(username));
+    }
+
+    /**
+     * Forget usernames whose last failure is older than the longest delay
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long cutoff = clock.millis() - MAX_DELAY.toMillis();
+        failures.values().removeIf(record -> record.lastFailure < cutoff);
+    }
+
+    /**
+     * Make room by forgetting the username with the fewest failures, oldest first. A spray of random
+     * names fills the map with single failures, so a username under sustained attack is never the one dropped.
+     */
+    private void evictWeakest() {
+        Map.Entry<String, Failures> weakest = null;
+        for (Map.Entry<String, Failures> entry : failures.entrySet()) {
+            Failures record = entry.getValue();
+            if (weakest == null || record.count < weakest.getValue().count
+                    || (record.count == weakest.getValue().count && record.lastFailure < weakest.getValue().lastFailure)) {
+                weakest = entry;
+            }
+        }
+        if (weakest != null) {
+            failures.remove(weakest.getKey(), weakest.getValue());
+            log.debug("Tracking {} usernames with failed logins; forgot {}", MAX_TRACKED, weakest.getKey());
+        }
+    }
+
+    int trackedUsernames() {
+        return failures.size();
+    }
+
+    static long delayMillis(int count) {
+        if (count < FREE_FAILURES) {
+            return 0;
+        }
+        int doublings = Math.min(count - FREE_FAILURES, 20);
+        return Math.min(1000L << doublings, MAX_DELAY.toMillis());
+    }
+
+    private static String key(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Failures(int count, long lastFailure, long blockedUntil) {
+    }
+}
@@ -1,13 +1,22 @@
 package com.portfolio.blog.controller;
 
+import com.portfolio.blog.dto.BlogDraftDto;
+import com.portfolio.blog.dto.BlogDraftPatchDto;
 import com.portfolio.blog.dto.BlogDto;
+import com.portfolio.blog.dto.BlogRevisionDiffDto;
+import com.portfolio.blog.dto.BlogRevisionDto;
+import com.portfolio.blog.dto.BlogSummaryDto;
+import com.portfolio.blog.service.BlogDraftService;
+import com.portfolio.blog.service.BlogRevisionService;
 import com.portfolio.blog.service.BlogService;
+import com.portfolio.common.exception.ErrorResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -16,12 +25,30 @@ import java.util.Map;
 @CrossOrigin(origins = "*", maxAge = 3600)
 public class BlogController {
 
+    private static final int MAX_POPULAR_LIMIT = 20;
+
     @Autowired
     private BlogService blogService;
 
+    @Autowired
+    private BlogDraftService blogDraftService;
+
+    @Autowired
+    private BlogRevisionService blogRevisionService;
+
     @GetMapping
-    public ResponseEntity<List<BlogDto>> getPublishedBlogs() {
-        List<BlogDto> blogs = blogService.getPublishedBlogs();
+    public ResponseEntity<List<BlogSummaryDto>> getPublishedBlogs() {
+        List<BlogSummaryDto> blogs = blogService.getPublishedBlogs();
+        return ResponseEntity.ok(blogs);
+    }
+
+    /**
+     * Most viewed published blogs
+     * @param limit Number of blogs to return (1-20)
+     */
+    @GetMapping("/popular")
+    public ResponseEntity<List<BlogSummaryDto>> getPopularBlogs(@RequestParam(defaultValue = "5") int limit) {
+        List<BlogSummaryDto> blogs = blogService.getPopularBlogs(Math.max(1, Math.min(limit, MAX_POPULAR_LIMIT)));
         return ResponseEntity.ok(blogs);
     }
 
@@ -32,10 +59,30 @@ public class BlogController {
         return ResponseEntity.ok(blogs);
     }
 
+    /**
+     * Re-render stored blog HTML, e.g. after a renderer upgrade
+     * ADMIN only
+     * @param force Re-render every post instead of only stale ones
+     */
+    @PostMapping("/re-render")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<Map<String, Integer>> rerenderBlogs(
+            @RequestParam(defaultValue = "false") boolean force) {
+        int rerendered = blogService.rerenderBlogs(force);
+        return ResponseEntity.ok(Map.of("rerendered", rerendered));
+    }
+
     @GetMapping("/{slug}")
-    public ResponseEntity<BlogDto> getBlogBySlug(@PathVariable String slug) {
-        BlogDto blog = blogService.getBlogBySlug(slug);
-        return ResponseEntity.ok(blog);
+    public ResponseEntity<?> getBlogBySlug(@PathVariable String slug) {
+        // Crawlers probe junk slugs, so the 404 is built here instead of throwing
+        return blogService.getBlogBySlug(slug)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(ErrorResponse.builder()
+                        .timestamp(LocalDateTime.now())
+                        .status(HttpStatus.NOT_FOUND.value())
+                        .error("Not Found")
+                        .message("Blog not found with slug: '" + slug + "'")
+                        .build()));
     }
 
     @PostMapping
@@ -49,16 +96,72 @@ public class BlogController {
     @PreAuthorize("hasRole('admin')")
     public ResponseEntity<BlogDto> updateBlog(@PathVariable String id, @Valid @RequestBody BlogDto blogDto) {
         BlogDto updatedBlog = blogService.updateBlog(id, blogDto);
+        // The saved post supersedes any autosaved draft
+        blogDraftService.discard(id);
         return ResponseEntity.ok(updatedBlog);
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('admin')")
     public ResponseEntity<Void> deleteBlog(@PathVariable String id) {
+        blogDraftService.discard(id);
         blogService.deleteBlog(id);
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Current autosave draft, or the saved content (revision 0) when there is none
+     * ADMIN only
+     */
+    @GetMapping("/{id}/draft")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<BlogDraftDto> getDraft(@PathVariable String id) {
+        return ResponseEntity.ok(blogDraftService.getDraft(id));
+    }
+
+    /**
+     * Apply editor edits to the autosave draft; answers 409 if baseRevision is stale
+     * ADMIN only
+     */
+    @PatchMapping("/{id}/draft")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<BlogDraftDto> patchDraft(@PathVariable String id,
+                                                   @Valid @RequestBody BlogDraftPatchDto patch) {
+        BlogDraftDto draft = blogDraftService.applyEdits(id, patch.getBaseRevision(), patch.getEdits());
+        return ResponseEntity.ok(draft);
+    }
+
+    @DeleteMapping("/{id}/draft")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<Void> discardDraft(@PathVariable String id) {
+        blogDraftService.discard(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Revision history, newest first, without content
+     * ADMIN only
+     */
+    @GetMapping("/{id}/revisions")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<List<BlogRevisionDto>> getRevisions(@PathVariable String id) {
+        return ResponseEntity.ok(blogRevisionService.getRevisions(id));
+    }
+
+    @GetMapping("/{id}/revisions/{revision}")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<BlogRevisionDto> getRevision(@PathVariable String id, @PathVariable int revision) {
+        return ResponseEntity.ok(blogRevisionService.getRevision(id, revision));
+    }
+
+    @GetMapping("/{id}/revisions/{from}/diff/{to}")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<BlogRevisionDiffDto> diffRevisions(@PathVariable String id,
+                                                             @PathVariable int from,
+                                                             @PathVariable int to) {
+        return ResponseEntity.ok(blogRevisionService.diff(id, from, to));
+    }
+
     @PostMapping("/{id}/cover-image")
     @PreAuthorize("hasRole('admin')")
     public ResponseEntity<BlogDto> uploadCoverImage(
@@ -0,0 +1,20 @@
+package com.portfolio.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of a blog's autosave draft. Content is only included when the draft is fetched.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlogDraftDto {
+    private String blogId;
+    private String content;
+    private long revision;
+    private int length;
+}
@@ -0,0 +1,47 @@
+package com.portfolio.blog.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Text edits against a known draft revision. Edits are applied in order,
+ * each against the text produced by the previous one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlogDraftPatchDto {
+
+    @NotNull(message = "Base revision is required")
+    private Long baseRevision;
+
+    @NotEmpty(message = "At least one edit is required")
+    @Valid
+    private List<TextEdit> edits;
+
+    /**
+     * Replace {@code deleteCount} characters at {@code position} with {@code insert}.
+     * Positions count UTF-16 code units, as JavaScript string indices do.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TextEdit {
+        @Min(value = 0, message = "Position must not be negative")
+        private int position;
+
+        @Min(value = 0, message = "Delete count must not be negative")
+        private int deleteCount;
+
+        private String insert;
+    }
+}
@@ -2,6 +2,7 @@ package com.portfolio.blog.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,6 +23,8 @@ public class BlogDto {
     private String title;
 
     @NotBlank(message = "Slug is required")
+    // These segments are taken by GET /api/blogs/popular and /api/blogs/all
+    @Pattern(regexp = "(?!(popular|all)$).*", message = "Slug is reserved")
     private String slug;
 
     private String excerpt;
@@ -41,4 +44,14 @@ public class BlogDto {
 
     private LocalDateTime publishedDate;
     private Integer readingTime;
+    private Integer wordCount;
+
+    @Builder.Default
+    private List<BlogOutlineEntry> outline = new ArrayList<>();
+
+    private String renderedHtml;
+    private Long viewCount;
+
+    @Builder.Default
+    private List<RelatedBlogDto> relatedPosts = new ArrayList<>();
 }
@@ -0,0 +1,41 @@
+package com.portfolio.blog.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON column helpers for the stored heading outline.
+ */
+public final class BlogJsonSupport {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BlogJsonSupport() {
+    }
+
+    public static List<BlogOutlineEntry> readOutline(String json) {
+        if (json == null || json.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<BlogOutlineEntry>>() {});
+        } catch (JsonProcessingException e) {
+            return new ArrayList<>();
+        }
+    }
+
+    public static String writeOutline(List<BlogOutlineEntry> outline) {
+        if (outline == null || outline.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(outline);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
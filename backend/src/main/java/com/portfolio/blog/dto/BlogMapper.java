@@ -1,41 +1,50 @@
 package com.portfolio.blog.dto;
 
 import com.portfolio.blog.entity.Blog;
+import com.portfolio.blog.repository.BlogSummaryView;
 import org.mapstruct.*;
 
 import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface BlogMapper {
-    @Mapping(target = "tags", source = "tagsList")
+    @Mapping(target = "outline", expression = "java(BlogJsonSupport.readOutline(blog.getOutline()))")
+    @Mapping(target = "relatedPosts", ignore = true)
     BlogDto toDto(Blog blog);
 
-    @Mapping(target = "tags", ignore = true)
+    @Mapping(target = "outline", expression = "java(BlogJsonSupport.readOutline(view.getOutline()))")
+    BlogSummaryDto toSummaryDto(BlogSummaryView view);
+
+    List<BlogSummaryDto> toSummaryDtoList(List<BlogSummaryView> views);
+
     @Mapping(target = "coverImageData", ignore = true)
     @Mapping(target = "coverImageContentType", ignore = true)
     @Mapping(target = "coverImageFileSize", ignore = true)
+    @Mapping(target = "readingTime", ignore = true)
+    @Mapping(target = "wordCount", ignore = true)
+    @Mapping(target = "outline", ignore = true)
+    @Mapping(target = "renderedHtml", ignore = true)
+    @Mapping(target = "contentHash", ignore = true)
+    @Mapping(target = "rendererVersion", ignore = true)
+    @Mapping(target = "viewCount", ignore = true)
     Blog toEntity(BlogDto dto);
 
-    @AfterMapping
-    default void setTagsList(BlogDto dto, @MappingTarget Blog blog) {
-        blog.setTagsList(dto.getTags());
-    }
-
     List<BlogDto> toDtoList(List<Blog> blogs);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
-    @Mapping(target = "tags", ignore = true)
     @Mapping(target = "publishedDate", ignore = true)
     @Mapping(target = "coverImage", ignore = true)
     @Mapping(target = "coverImageData", ignore = true)
     @Mapping(target = "coverImageContentType", ignore = true)
     @Mapping(target = "coverImageFileSize", ignore = true)
+    @Mapping(target = "readingTime", ignore = true)
+    @Mapping(target = "wordCount", ignore = true)
+    @Mapping(target = "outline", ignore = true)
+    @Mapping(target = "renderedHtml", ignore = true)
+    @Mapping(target = "contentHash", ignore = true)
+    @Mapping(target = "rendererVersion", ignore = true)
+    @Mapping(target = "viewCount", ignore = true)
     void updateEntityFromDto(BlogDto dto, @MappingTarget Blog blog);
-
-    @AfterMapping
-    default void updateTagsList(BlogDto dto, @MappingTarget Blog blog) {
-        blog.setTagsList(dto.getTags());
-    }
 }
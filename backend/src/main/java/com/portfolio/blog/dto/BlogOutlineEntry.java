@@ -0,0 +1,16 @@
+package com.portfolio.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlogOutlineEntry {
+    private int level;
+    private String text;
+    private String anchor;
+}
@@ -0,0 +1,36 @@
+package com.portfolio.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Difference between two revisions as a sequence of chunks which, read in order,
+ * spell the old text (EQUAL + DELETE) and the new text (EQUAL + INSERT).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlogRevisionDiffDto {
+    private int fromRevision;
+    private int toRevision;
+    private List<Chunk> chunks;
+
+    public enum Operation {
+        EQUAL,
+        DELETE,
+        INSERT
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chunk {
+        private Operation operation;
+        private String text;
+    }
+}
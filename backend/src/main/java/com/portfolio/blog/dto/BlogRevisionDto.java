@@ -0,0 +1,24 @@
+package com.portfolio.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A saved version of a blog. Content is only included when a single revision is fetched.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlogRevisionDto {
+    private int revisionNumber;
+    private String title;
+    private String content;
+    private int contentLength;
+    private boolean checkpoint;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+package com.portfolio.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Blog listing entry. Carries everything the list page needs without the article body.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlogSummaryDto {
+    private String id;
+    private String title;
+    private String slug;
+    private String excerpt;
+    private String coverImage;
+
+    @Builder.Default
+    private List<String> tags = new ArrayList<>();
+
+    private Boolean published;
+    private LocalDateTime publishedDate;
+    private Integer readingTime;
+    private Integer wordCount;
+    private Long viewCount;
+
+    @Builder.Default
+    private List<BlogOutlineEntry> outline = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package com.portfolio.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Link to a related post shown under a blog article
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RelatedBlogDto {
+    private String id;
+    private String slug;
+    private String title;
+}
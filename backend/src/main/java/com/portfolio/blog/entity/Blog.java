@@ -1,13 +1,12 @@
 package com.portfolio.blog.entity;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.common.converter.CompressedTextConverter;
+import com.portfolio.common.converter.StringListJsonConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,12 +25,18 @@ import java.util.UUID;
     @NamedQuery(
         name = "Blog.findPublishedBlogs",
         query = "SELECT b FROM Blog b WHERE b.published = true ORDER BY b.publishedDate DESC"
+    ),
+    @NamedQuery(
+        name = "Blog.findIdsNeedingRender",
+        query = "SELECT b.id FROM Blog b WHERE b.rendererVersion IS NULL OR b.rendererVersion < :rendererVersion"
+    ),
+    @NamedQuery(
+        name = "Blog.findAllIds",
+        query = "SELECT b.id FROM Blog b"
     )
 })
 public class Blog {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
     @Id
     @Column(length = 36)
     private String id;
@@ -42,10 +47,14 @@ public class Blog {
     @Column(nullable = false, unique = true, length = 250)
     private String slug;
 
-    @Column(columnDefinition = "TEXT")
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB")
     private String excerpt;
 
-    @Column(columnDefinition = "TEXT", nullable = false)
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB", nullable = false)
     private String content;
 
     @Column(name = "cover_image", length = 500)
@@ -61,8 +70,9 @@ public class Blog {
     @Column(name = "cover_image_file_size")
     private Integer coverImageFileSize;
 
+    @Convert(converter = StringListJsonConverter.class)
     @Column(columnDefinition = "JSON")
-    private String tags;
+    private List<String> tags;
 
     @Column(name = "is_published", nullable = false)
     private boolean published;
@@ -70,9 +80,33 @@ public class Blog {
     @Column(name = "published_at")
     private LocalDateTime publishedDate;
 
-    @Transient
+    @Column(name = "reading_time")
     private Integer readingTime;
 
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    @Column(columnDefinition = "JSON")
+    private String outline;
+
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "rendered_html", columnDefinition = "MEDIUMBLOB")
+    private String renderedHtml;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "renderer_version")
+    private Integer rendererVersion;
+
+    /**
+     * Only ever changed through relative updates by the view counter, so JPA never writes it
+     */
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long viewCount;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -93,28 +127,4 @@ public class Blog {
     protected void preUpdate() {
         updatedAt = LocalDateTime.now();
     }
-
-    @Transient
-    public List<String> getTagsList() {
-        if (tags == null || tags.isEmpty()) {
-            return new ArrayList<>();
-        }
-        try {
-            return objectMapper.readValue(tags, new TypeReference<List<String>>() {});
-        } catch (JsonProcessingException e) {
-            return new ArrayList<>();
-        }
-    }
-
-    public void setTagsList(List<String> tagsList) {
-        if (tagsList == null || tagsList.isEmpty()) {
-            this.tags = null;
-            return;
-        }
-        try {
-            this.tags = objectMapper.writeValueAsString(tagsList);
-        } catch (JsonProcessingException e) {
-            this.tags = null;
-        }
-    }
 }
@@ -0,0 +1,41 @@
+package com.portfolio.blog.entity;
+
+import com.portfolio.common.converter.CompressedTextConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Autosaved editor content for a blog, kept apart from the published content
+ */
+@Entity
+@Table(name = "blog_drafts")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlogDraft {
+
+    @Id
+    @Column(name = "blog_id", length = 36)
+    private String blogId;
+
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB", nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+}
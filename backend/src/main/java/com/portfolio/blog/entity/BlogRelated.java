@@ -0,0 +1,53 @@
+package com.portfolio.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * One stored related-post recommendation. Rows are replaced per blog by
+ * {@link com.portfolio.blog.service.BlogRelatedIndex}.
+ */
+@Entity
+@Table(name = "blog_related")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@NamedQueries({
+    @NamedQuery(
+        name = "BlogRelated.findAllOrdered",
+        query = "SELECT r FROM BlogRelated r ORDER BY r.blogId, r.position"
+    ),
+    @NamedQuery(
+        name = "BlogRelated.deleteByBlogIds",
+        query = "DELETE FROM BlogRelated r WHERE r.blogId IN :blogIds"
+    )
+})
+public class BlogRelated {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "blog_id", nullable = false, length = 36)
+    private String blogId;
+
+    @Column(name = "related_blog_id", nullable = false, length = 36)
+    private String relatedBlogId;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(nullable = false)
+    private int position;
+
+    @PrePersist
+    protected void prePersist() {
+        if (id == null) {
+            id = UUID.randomUUID().toString();
+        }
+    }
+}
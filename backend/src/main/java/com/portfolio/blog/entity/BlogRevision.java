@@ -0,0 +1,71 @@
+package com.portfolio.blog.entity;
+
+import com.portfolio.common.converter.CompressedTextConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One saved version of a blog's content. Checkpoint rows hold the full text;
+ * the others hold a delta against the previous revision
+ * (see {@link com.portfolio.blog.service.BlogRevisionService}).
+ */
+@Entity
+@Table(name = "blog_revisions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@NamedQueries({
+    @NamedQuery(
+        name = "BlogRevision.findChain",
+        query = "SELECT r FROM BlogRevision r WHERE r.blogId = :blogId"
+                + " AND r.revisionNumber <= :revisionNumber"
+                + " AND r.revisionNumber >= (SELECT MAX(c.revisionNumber) FROM BlogRevision c"
+                + " WHERE c.blogId = :blogId AND c.checkpoint = true AND c.revisionNumber <= :revisionNumber)"
+                + " ORDER BY r.revisionNumber"
+    )
+})
+public class BlogRevision {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "blog_id", nullable = false, length = 36)
+    private String blogId;
+
+    @Column(name = "revision_number", nullable = false)
+    private int revisionNumber;
+
+    @Column(nullable = false)
+    private boolean checkpoint;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB", nullable = false)
+    private String payload;
+
+    @Column(name = "content_length", nullable = false)
+    private int contentLength;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void prePersist() {
+        if (id == null) {
+            id = UUID.randomUUID().toString();
+        }
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,9 @@
+package com.portfolio.blog.repository;
+
+import com.portfolio.blog.entity.BlogDraft;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BlogDraftRepository extends JpaRepository<BlogDraft, String> {
+}
@@ -0,0 +1,27 @@
+package com.portfolio.blog.repository;
+
+import com.portfolio.blog.entity.BlogRelated;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BlogRelatedRepository extends JpaRepository<BlogRelated, String> {
+
+    @Query(name = "BlogRelated.findAllOrdered")
+    List<BlogRelated> findAllOrdered();
+
+    @Query("SELECT r.blogId AS blogId, r.relatedBlogId AS relatedBlogId, b.slug AS slug, b.title AS title " +
+           "FROM BlogRelated r JOIN Blog b ON b.id = r.relatedBlogId " +
+           "WHERE b.published = true ORDER BY r.blogId, r.position")
+    List<BlogRelatedView> findPublishedLinks();
+
+    @Modifying
+    @Query(name = "BlogRelated.deleteByBlogIds")
+    int deleteByBlogIds(@Param("blogIds") Collection<String> blogIds);
+}
@@ -0,0 +1,11 @@
+package com.portfolio.blog.repository;
+
+/**
+ * A stored related-post link joined with the related post's slug and title.
+ */
+public interface BlogRelatedView {
+    String getBlogId();
+    String getRelatedBlogId();
+    String getSlug();
+    String getTitle();
+}
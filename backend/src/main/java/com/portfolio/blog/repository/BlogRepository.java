@@ -1,6 +1,7 @@
 package com.portfolio.blog.repository;
 
 import com.portfolio.blog.entity.Blog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,4 +18,42 @@ public interface BlogRepository extends JpaRepository<Blog, String> {
 
     @Query(name = "Blog.findPublishedBlogs")
     List<Blog> findPublishedBlogs();
+
+    @Query("SELECT b.id AS id, b.title AS title, b.slug AS slug, b.excerpt AS excerpt, " +
+           "b.coverImage AS coverImage, b.tags AS tags, b.published AS published, " +
+           "b.publishedDate AS publishedDate, b.readingTime AS readingTime, " +
+           "b.wordCount AS wordCount, b.outline AS outline, b.updatedAt AS updatedAt, " +
+           "b.viewCount AS viewCount " +
+           "FROM Blog b WHERE b.published = true ORDER BY b.publishedDate DESC")
+    List<BlogSummaryView> findPublishedSummaries();
+
+    @Query("SELECT b.id AS id, b.title AS title, b.slug AS slug, b.excerpt AS excerpt, " +
+           "b.coverImage AS coverImage, b.tags AS tags, b.published AS published, " +
+           "b.publishedDate AS publishedDate, b.readingTime AS readingTime, " +
+           "b.wordCount AS wordCount, b.outline AS outline, b.updatedAt AS updatedAt, " +
+           "b.viewCount AS viewCount " +
+           "FROM Blog b WHERE b.published = true ORDER BY b.viewCount DESC, b.publishedDate DESC")
+    List<BlogSummaryView> findPopularSummaries(Pageable pageable);
+
+    @Query("SELECT b.id AS id, b.slug AS slug, b.title AS title, b.tags AS tags, " +
+           "b.content AS content, b.renderedHtml AS renderedHtml " +
+           "FROM Blog b WHERE b.published = true")
+    List<BlogTextView> findPublishedTexts();
+
+    @Query("SELECT b.id AS id, b.slug AS slug, b.title AS title, b.tags AS tags, " +
+           "b.content AS content, b.renderedHtml AS renderedHtml " +
+           "FROM Blog b WHERE b.id = :id AND b.published = true")
+    Optional<BlogTextView> findPublishedTextById(@Param("id") String id);
+
+    @Query("SELECT b.id AS id, b.slug AS slug FROM Blog b WHERE b.published = true")
+    List<BlogSlugView> findPublishedSlugs();
+
+    @Query("SELECT b.slug FROM Blog b WHERE b.id = :id AND b.published = true")
+    Optional<String> findPublishedSlugById(@Param("id") String id);
+
+    @Query(name = "Blog.findIdsNeedingRender")
+    List<String> findIdsNeedingRender(@Param("rendererVersion") int rendererVersion);
+
+    @Query(name = "Blog.findAllIds")
+    List<String> findAllIds();
 }
@@ -0,0 +1,25 @@
+package com.portfolio.blog.repository;
+
+import com.portfolio.blog.entity.BlogRevision;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BlogRevisionRepository extends JpaRepository<BlogRevision, String> {
+
+    @Query("SELECT r.revisionNumber AS revisionNumber, r.title AS title, r.checkpoint AS checkpoint,"
+            + " r.contentLength AS contentLength, r.contentHash AS contentHash, r.createdAt AS createdAt"
+            + " FROM BlogRevision r WHERE r.blogId = :blogId ORDER BY r.revisionNumber DESC")
+    List<BlogRevisionSummaryView> findSummaries(@Param("blogId") String blogId, Pageable pageable);
+
+    /**
+     * The revision and the deltas leading to it from the nearest checkpoint, oldest first
+     */
+    @Query(name = "BlogRevision.findChain")
+    List<BlogRevision> findChain(@Param("blogId") String blogId, @Param("revisionNumber") int revisionNumber);
+}
@@ -0,0 +1,15 @@
+package com.portfolio.blog.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Revision metadata without the payload, used for listing history.
+ */
+public interface BlogRevisionSummaryView {
+    int getRevisionNumber();
+    String getTitle();
+    boolean isCheckpoint();
+    int getContentLength();
+    String getContentHash();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,9 @@
+package com.portfolio.blog.repository;
+
+/**
+ * Slug and id of a blog, used to build the slug index.
+ */
+public interface BlogSlugView {
+    String getId();
+    String getSlug();
+}
@@ -0,0 +1,23 @@
+package com.portfolio.blog.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Closed projection over the blogs table that leaves out the content and cover image columns.
+ */
+public interface BlogSummaryView {
+    String getId();
+    String getTitle();
+    String getSlug();
+    String getExcerpt();
+    String getCoverImage();
+    List<String> getTags();
+    boolean isPublished();
+    LocalDateTime getPublishedDate();
+    Integer getReadingTime();
+    Integer getWordCount();
+    String getOutline();
+    LocalDateTime getUpdatedAt();
+    Long getViewCount();
+}
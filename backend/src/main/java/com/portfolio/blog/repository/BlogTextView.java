@@ -0,0 +1,15 @@
+package com.portfolio.blog.repository;
+
+import java.util.List;
+
+/**
+ * Closed projection with the fields used to compute related posts.
+ */
+public interface BlogTextView {
+    String getId();
+    String getSlug();
+    String getTitle();
+    List<String> getTags();
+    String getContent();
+    String getRenderedHtml();
+}
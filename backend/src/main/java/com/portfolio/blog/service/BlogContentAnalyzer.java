@@ -0,0 +1,68 @@
+package com.portfolio.blog.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Derives reading statistics from blog content.
+ * Runs once per save so that listings never need the article body.
+ * The heading outline comes from {@link BlogContentRenderer} so that anchors match the rendered HTML.
+ */
+@Component
+public class BlogContentAnalyzer {
+
+    private static final int WORDS_PER_MINUTE = 200;
+
+    private static final Pattern SCRIPT_OR_STYLE = Pattern.compile(
+        "<(script|style)[^>]*>.*?</\\1>", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Analyze blog content (Quill HTML, or Markdown for older posts)
+     * @param content Raw blog content
+     * @return Word count and reading time in minutes
+     */
+    public BlogContentStats analyze(String content) {
+        if (content == null || content.isBlank()) {
+            return new BlogContentStats(0, 0);
+        }
+
+        int wordCount = countWords(toPlainText(content));
+        int readingTime = wordCount == 0 ? 0 : Math.max(1, (wordCount + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE);
+
+        return new BlogContentStats(wordCount, readingTime);
+    }
+
+    private static String toPlainText(String content) {
+        String text = SCRIPT_OR_STYLE.matcher(content).replaceAll(" ");
+        text = HTML_TAG.matcher(text).replaceAll(" ");
+        return decodeEntities(text);
+    }
+
+    private int countWords(String text) {
+        int count = 0;
+        for (String token : WHITESPACE.split(text)) {
+            if (token.codePoints().anyMatch(Character::isLetterOrDigit)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String decodeEntities(String text) {
+        return text.replace("&nbsp;", " ")
+            .replace("&lt;", "<")
+            .replace("&gt;", ">")
+            .replace("&quot;", "\"")
+            .replace("&#39;", "'")
+            .replace("&amp;", "&");
+    }
+
+    /**
+     * Result of analyzing a single piece of content
+     */
+    public record BlogContentStats(int wordCount, int readingTime) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.blog.dto.BlogOutlineEntry;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders blog content to sanitized HTML once per edit.
+ * Accepts Quill HTML or Markdown, strips anything outside the safelist,
+ * assigns heading anchors (the table of contents) and highlights code blocks.
+ */
+@Component
+public class BlogContentRenderer {
+
+    /**
+     * Bump whenever the rendered output changes so stored renderings get refreshed
+     */
+    public static final int RENDERER_VERSION = 1;
+
+    private static final String BASE_URI = "https://localhost/";
+
+    private static final Safelist SAFELIST = Safelist.relaxed()
+        .addAttributes(":all", "class")
+        .addAttributes("pre", "spellcheck", "data-language")
+        .addProtocols("img", "src", "data")
+        .preserveRelativeLinks(true);
+
+    private final Parser markdownParser = Parser.builder().build();
+    private final HtmlRenderer markdownRenderer = HtmlRenderer.builder().build();
+
+    /**
+     * Render raw blog content
+     * @param content Quill HTML or Markdown
+     * @return Sanitized HTML, table of contents and hash of the source content
+     */
+    public RenderedBlogContent render(String content) {
+        String source = content == null ? "" : content;
+        String html = isMarkdown(source) ? markdownRenderer.render(markdownParser.parse(source)) : source;
+
+        Document.OutputSettings outputSettings = new Document.OutputSettings().prettyPrint(false);
+        String cleaned = Jsoup.clean(html, BASE_URI, SAFELIST, outputSettings);
+
+        Document document = Jsoup.parseBodyFragment(cleaned, BASE_URI);
+        document.outputSettings(outputSettings);
+
+        List<BlogOutlineEntry> toc = assignHeadingAnchors(document);
+        highlightCodeBlocks(document);
+
+        return new RenderedBlogContent(document.body().html(), toc, hash(source));
+    }
+
+    /**
+     * SHA-256 of the raw content, used to skip re-rendering unchanged posts
+     */
+    public String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest((content == null ? "" : content).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static String toAnchor(String headingText) {
+        String normalized = Normalizer.normalize(headingText, Normalizer.Form.NFKD)
+            .replaceAll("\\p{M}", "")
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("[^a-z0-9\\s-]", "")
+            .trim()
+            .replaceAll("[\\s-]+", "-");
+        return normalized.isEmpty() ? "section" : normalized;
+    }
+
+    private boolean isMarkdown(String content) {
+        return !content.stripLeading().startsWith("<");
+    }
+
+    private List<BlogOutlineEntry> assignHeadingAnchors(Document document) {
+        List<BlogOutlineEntry> toc = new ArrayList<>();
+        Map<String, Integer> anchorCounts = new HashMap<>();
+
+        for (Element heading : document.body().select("h1, h2, h3, h4, h5, h6")) {
+            String text = heading.text().trim();
+            if (text.isEmpty()) {
+                continue;
+            }
+
+            String anchor = toAnchor(text);
+            int seen = anchorCounts.merge(anchor, 1, Integer::sum);
+            if (seen > 1) {
+                anchor = anchor + "-" + seen;
+            }
+            heading.attr("id", anchor);
+
+            toc.add(BlogOutlineEntry.builder()
+                .level(heading.tagName().charAt(1) - '0')
+                .text(text)
+                .anchor(anchor)
+                .build());
+        }
+        return toc;
+    }
+
+    private void highlightCodeBlocks(Document document) {
+        for (Element pre : document.body().select("pre")) {
+            Element code = pre.selectFirst("> code");
+            Element target = code != null ? code : pre;
+            String language = detectLanguage(target);
+
+            target.html(CodeHighlighter.highlight(target.wholeText(), language));
+            pre.addClass("hl");
+            if (language != null) {
+                pre.attr("data-language", language);
+            }
+        }
+    }
+
+    private String detectLanguage(Element element) {
+        for (String cssClass : element.classNames()) {
+            if (cssClass.startsWith("language-")) {
+                return cssClass.substring("language-".length());
+            }
+            if (cssClass.startsWith("lang-")) {
+                return cssClass.substring("lang-".length());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Output of a single render
+     */
+    public record RenderedBlogContent(String html, List<BlogOutlineEntry> toc, String contentHash) {
+    }
+}
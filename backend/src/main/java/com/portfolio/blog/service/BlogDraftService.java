@@ -0,0 +1,202 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.blog.dto.BlogDraftDto;
+import com.portfolio.blog.dto.BlogDraftPatchDto.TextEdit;
+import com.portfolio.blog.entity.BlogDraft;
+import com.portfolio.blog.repository.BlogDraftRepository;
+import com.portfolio.blog.repository.BlogRepository;
+import com.portfolio.common.exception.ConflictException;
+import com.portfolio.common.exception.ResourceNotFoundException;
+import com.portfolio.common.exception.ValidationException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Autosave for the blog editor.
+ * The editor sends small text edits; they are applied to an in-memory buffer per post
+ * and written behind on a schedule, so a burst of keystroke saves becomes one draft write.
+ * Drafts live in their own table and never touch the published content until the post is saved.
+ */
+@Service
+@Slf4j
+public class BlogDraftService {
+
+    static final int MAX_DRAFT_LENGTH = 4_000_000;
+    static final Duration IDLE_EVICTION = Duration.ofMinutes(30);
+
+    private final BlogRepository blogRepository;
+    private final BlogDraftRepository draftRepository;
+    private final Clock clock;
+    private final Map<String, DraftBuffer> buffers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BlogDraftService(BlogRepository blogRepository, BlogDraftRepository draftRepository) {
+        this(blogRepository, draftRepository, Clock.systemUTC());
+    }
+
+    BlogDraftService(BlogRepository blogRepository, BlogDraftRepository draftRepository, Clock clock) {
+        this.blogRepository = blogRepository;
+        this.draftRepository = draftRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * Get the current draft, starting from the saved content when there is none
+     * @param blogId Blog id
+     * @return Draft content and revision (0 when nothing has been autosaved)
+     */
+    public BlogDraftDto getDraft(String blogId) {
+        DraftBuffer buffer = buffer(blogId);
+        synchronized (buffer) {
+            buffer.touch(clock.millis());
+            return toDto(blogId, buffer, true);
+        }
+    }
+
+    /**
+     * Apply editor edits to the draft
+     * @param blogId Blog id
+     * @param baseRevision Revision the edits were computed against
+     * @param edits Edits, applied in order
+     * @return New revision and length
+     * @throws ConflictException if the draft moved on since baseRevision
+     */
+    public BlogDraftDto applyEdits(String blogId, long baseRevision, List<TextEdit> edits) {
+        DraftBuffer buffer = buffer(blogId);
+        synchronized (buffer) {
+            if (buffer.discarded) {
+                throw new ConflictException("Draft for blog '" + blogId + "' was discarded");
+            }
+            if (buffer.revision != baseRevision) {
+                throw new ConflictException("Draft for blog '" + blogId + "' is at revision "
+                        + buffer.revision + ", not " + baseRevision);
+            }
+            validate(buffer.content.length(), edits);
+
+            for (TextEdit edit : edits) {
+                String insert = edit.getInsert() == null ? "" : edit.getInsert();
+                buffer.content.replace(edit.getPosition(), edit.getPosition() + edit.getDeleteCount(), insert);
+            }
+            buffer.revision++;
+            buffer.touch(clock.millis());
+            return toDto(blogId, buffer, false);
+        }
+    }
+
+    /**
+     * Drop the draft, e.g. once the post itself has been saved
+     */
+    public void discard(String blogId) {
+        DraftBuffer buffer = buffers.remove(blogId);
+        if (buffer != null) {
+            synchronized (buffer) {
+                buffer.discarded = true;
+            }
+        }
+        if (draftRepository.existsById(blogId)) {
+            draftRepository.deleteById(blogId);
+        }
+    }
+
+    /**
+     * Write drafts that changed since the last flush and evict idle ones
+     */
+    @Scheduled(fixedDelayString = "${app.blog-drafts.flush-interval-ms:15000}")
+    public void flush() {
+        long now = clock.millis();
+        for (Map.Entry<String, DraftBuffer> entry : buffers.entrySet()) {
+            DraftBuffer buffer = entry.getValue();
+            synchronized (buffer) {
+                if (buffer.discarded) {
+                    continue;
+                }
+                if (buffer.revision != buffer.flushedRevision) {
+                    try {
+                        draftRepository.save(BlogDraft.builder()
+                                .blogId(entry.getKey())
+                                .content(buffer.content.toString())
+                                .revision(buffer.revision)
+                                .build());
+                        buffer.flushedRevision = buffer.revision;
+                    } catch (DataAccessException e) {
+                        log.warn("Failed to write draft for blog {}, will retry", entry.getKey(), e);
+                    }
+                } else if (now - buffer.lastAccess > IDLE_EVICTION.toMillis()) {
+                    buffers.remove(entry.getKey(), buffer);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private DraftBuffer buffer(String blogId) {
+        return buffers.computeIfAbsent(blogId, this::loadBuffer);
+    }
+
+    private DraftBuffer loadBuffer(String blogId) {
+        return draftRepository.findById(blogId)
+                .map(draft -> new DraftBuffer(draft.getContent(), draft.getRevision(), clock.millis()))
+                .orElseGet(() -> blogRepository.findById(blogId)
+                        .map(blog -> new DraftBuffer(blog.getContent(), 0, clock.millis()))
+                        .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", blogId)));
+    }
+
+    private static void validate(int length, List<TextEdit> edits) {
+        long current = length;
+        for (TextEdit edit : edits) {
+            if (edit.getPosition() > current || (long) edit.getPosition() + edit.getDeleteCount() > current) {
+                throw new ValidationException("Edit at " + edit.getPosition() + " (+" + edit.getDeleteCount()
+                        + ") is outside the draft of length " + current);
+            }
+            current += (edit.getInsert() == null ? 0 : edit.getInsert().length()) - edit.getDeleteCount();
+        }
+        if (current > MAX_DRAFT_LENGTH) {
+            throw new ValidationException("Draft exceeds " + MAX_DRAFT_LENGTH + " characters");
+        }
+    }
+
+    private static BlogDraftDto toDto(String blogId, DraftBuffer buffer, boolean withContent) {
+        return BlogDraftDto.builder()
+                .blogId(blogId)
+                .content(withContent ? buffer.content.toString() : null)
+                .revision(buffer.revision)
+                .length(buffer.content.length())
+                .build();
+    }
+
+    /**
+     * Mutable draft state; guarded by its own monitor
+     */
+    private static final class DraftBuffer {
+        private final StringBuilder content;
+        private long revision;
+        private long flushedRevision;
+        private long lastAccess;
+        private boolean discarded;
+
+        DraftBuffer(String content, long revision, long now) {
+            this.content = new StringBuilder(content == null ? "" : content);
+            this.revision = revision;
+            this.flushedRevision = revision;
+            this.lastAccess = now;
+        }
+
+        void touch(long now) {
+            lastAccess = now;
+        }
+    }
+}
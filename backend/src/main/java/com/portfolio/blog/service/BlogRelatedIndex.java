@@ -0,0 +1,389 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.blog.dto.RelatedBlogDto;
+import com.portfolio.blog.entity.BlogRelated;
+import com.portfolio.blog.repository.BlogRelatedRepository;
+import com.portfolio.blog.repository.BlogRelatedView;
+import com.portfolio.blog.repository.BlogRepository;
+import com.portfolio.blog.repository.BlogTextView;
+import com.portfolio.common.event.ContentChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Precomputes related posts for every published blog.
+ * Relatedness combines tag overlap (Jaccard) with TF-IDF cosine similarity of the content.
+ * At startup the stored lists are served straight from {@code blog_related} while the full
+ * index is rebuilt in the background; after that a change to one post only re-scores the
+ * pairs involving that post, with a full rebuild once enough posts changed to shift the IDF
+ * weights. All index work runs on a single background thread, and readers get immutable
+ * lists from memory, so the detail endpoint adds no queries.
+ */
+@Component
+@Slf4j
+public class BlogRelatedIndex {
+
+    static final int RELATED_LIMIT = 3;
+    static final double TAG_WEIGHT = 0.4;
+    static final double TEXT_WEIGHT = 0.6;
+    static final double MIN_SCORE = 0.05;
+
+    /**
+     * Incremental updates leave unrelated pairs scored with the old IDF weights, so the whole
+     * index is rebuilt after this many updates, or after this share of the corpus if larger
+     */
+    static final int REBUILD_MIN_UPDATES = 20;
+    static final double REBUILD_DRIFT_RATIO = 0.1;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+        "the", "and", "for", "are", "but", "not", "you", "your", "with", "this", "that", "from",
+        "have", "has", "had", "was", "were", "will", "would", "can", "could", "should", "into",
+        "about", "there", "their", "they", "them", "then", "than", "what", "when", "which", "while",
+        "who", "how", "all", "any", "our", "out", "use", "using", "used", "also", "just", "more",
+        "most", "some", "such", "only", "other", "its", "it's", "one", "two", "get", "like", "been"
+    );
+
+    private final BlogRepository blogRepository;
+    private final BlogRelatedRepository relatedRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+
+    // Owned by the executor thread
+    private final Map<String, Document> documents = new HashMap<>();
+    private final Map<String, Integer> documentFrequency = new HashMap<>();
+    private final Map<String, List<ScoredBlog>> scores = new HashMap<>();
+    private boolean built;
+    private int updatesSinceRebuild;
+
+    // Read by request threads
+    private final Map<String, List<RelatedBlogDto>> related = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BlogRelatedIndex(BlogRepository blogRepository, BlogRelatedRepository relatedRepository,
+                            PlatformTransactionManager transactionManager) {
+        this(blogRepository, relatedRepository, transactionManager, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "blog-related-index");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    BlogRelatedIndex(BlogRepository blogRepository, BlogRelatedRepository relatedRepository,
+                     PlatformTransactionManager transactionManager, Executor executor) {
+        this.blogRepository = blogRepository;
+        this.relatedRepository = relatedRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+    }
+
+    /**
+     * Related posts for a blog, best match first
+     * @param blogId Id of the blog being read
+     * @return Precomputed related posts, empty if none or not computed yet
+     */
+    public List<RelatedBlogDto> getRelated(String blogId) {
+        return related.getOrDefault(blogId, List.of());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        submit(this::load);
+        submit(this::rebuild);
+    }
+
+    /**
+     * Re-score the changed post once its transaction has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.contentType() != ContentChangedEvent.ContentType.BLOG) {
+            return;
+        }
+        if (event.id() == null) {
+            submit(this::rebuild);
+        } else {
+            submit(() -> update(event.id()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void submit(Runnable task) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Failed to update related blog posts", e);
+            }
+        });
+    }
+
+    /**
+     * Serve the persisted lists until the first rebuild has finished
+     */
+    void load() {
+        Map<String, List<RelatedBlogDto>> stored = relatedRepository.findPublishedLinks().stream()
+                .collect(Collectors.groupingBy(BlogRelatedView::getBlogId, Collectors.mapping(
+                        view -> RelatedBlogDto.builder()
+                                .id(view.getRelatedBlogId())
+                                .slug(view.getSlug())
+                                .title(view.getTitle())
+                                .build(),
+                        Collectors.toUnmodifiableList())));
+        related.putAll(stored);
+        log.info("Loaded stored related posts for {} blogs", stored.size());
+    }
+
+    /**
+     * Build the whole index and store every list that differs from what is persisted
+     */
+    void rebuild() {
+        documents.clear();
+        documentFrequency.clear();
+        scores.clear();
+        for (BlogTextView view : blogRepository.findPublishedTexts()) {
+            addDocument(toDocument(view));
+        }
+        for (String id : documents.keySet()) {
+            scores.put(id, scoreAgainstAll(documents.get(id)));
+        }
+
+        Map<String, List<String>> stored = relatedRepository.findAllOrdered().stream()
+                .collect(Collectors.groupingBy(BlogRelated::getBlogId, LinkedHashMap::new,
+                        Collectors.mapping(BlogRelated::getRelatedBlogId, Collectors.toList())));
+        Set<String> changed = new HashSet<>(stored.keySet());
+        changed.removeAll(documents.keySet());
+        for (Map.Entry<String, List<ScoredBlog>> entry : scores.entrySet()) {
+            List<String> ids = entry.getValue().stream().map(ScoredBlog::blogId).toList();
+            if (!ids.equals(stored.getOrDefault(entry.getKey(), List.of()))) {
+                changed.add(entry.getKey());
+            }
+        }
+
+        persist(changed);
+        scores.keySet().forEach(this::publish);
+        related.keySet().retainAll(scores.keySet());
+        built = true;
+        updatesSinceRebuild = 0;
+        log.info("Related posts computed for {} blogs ({} lists updated)", documents.size(), changed.size());
+    }
+
+    /**
+     * Re-score only the pairs involving one post
+     */
+    void update(String blogId) {
+        if (!built || ++updatesSinceRebuild >= Math.max(REBUILD_MIN_UPDATES,
+                (int) (documents.size() * REBUILD_DRIFT_RATIO))) {
+            rebuild();
+            return;
+        }
+
+        Document previous = documents.remove(blogId);
+        if (previous != null) {
+            previous.terms().keySet().forEach(term -> documentFrequency.computeIfPresent(term,
+                    (key, count) -> count == 1 ? null : count - 1));
+        }
+        Document document = blogRepository.findPublishedTextById(blogId).map(this::toDocument).orElse(null);
+        if (document != null) {
+            addDocument(document);
+        }
+
+        Set<String> changed = new HashSet<>();
+        changed.add(blogId);
+        if (document != null) {
+            scores.put(blogId, scoreAgainstAll(document));
+        } else {
+            scores.remove(blogId);
+        }
+
+        for (Document other : documents.values()) {
+            if (other.id().equals(blogId)) {
+                continue;
+            }
+            List<ScoredBlog> current = scores.getOrDefault(other.id(), List.of());
+            boolean listed = current.stream().anyMatch(scored -> scored.blogId().equals(blogId));
+            if (listed) {
+                // Its score or metadata changed, and the post may now drop out of the list
+                scores.put(other.id(), scoreAgainstAll(other));
+                changed.add(other.id());
+            } else if (document != null) {
+                double score = score(other, document);
+                if (score >= MIN_SCORE && (current.size() < RELATED_LIMIT
+                        || score > current.get(current.size() - 1).score())) {
+                    List<ScoredBlog> updated = new ArrayList<>(current);
+                    updated.add(new ScoredBlog(blogId, score));
+                    scores.put(other.id(), topScores(updated));
+                    changed.add(other.id());
+                }
+            }
+        }
+
+        persist(changed);
+        changed.forEach(this::publish);
+    }
+
+    private void addDocument(Document document) {
+        documents.put(document.id(), document);
+        document.terms().keySet().forEach(term -> documentFrequency.merge(term, 1, Integer::sum));
+    }
+
+    private List<ScoredBlog> scoreAgainstAll(Document document) {
+        List<ScoredBlog> candidates = new ArrayList<>();
+        for (Document other : documents.values()) {
+            if (!other.id().equals(document.id())) {
+                double score = score(document, other);
+                if (score >= MIN_SCORE) {
+                    candidates.add(new ScoredBlog(other.id(), score));
+                }
+            }
+        }
+        return topScores(candidates);
+    }
+
+    private static List<ScoredBlog> topScores(List<ScoredBlog> candidates) {
+        return candidates.stream()
+                .sorted(Comparator.comparingDouble(ScoredBlog::score).reversed().thenComparing(ScoredBlog::blogId))
+                .limit(RELATED_LIMIT)
+                .toList();
+    }
+
+    double score(Document a, Document b) {
+        return TAG_WEIGHT * tagOverlap(a.tags(), b.tags()) + TEXT_WEIGHT * cosine(a, b);
+    }
+
+    private static double tagOverlap(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        long shared = a.stream().filter(b::contains).count();
+        return (double) shared / (a.size() + b.size() - shared);
+    }
+
+    private double cosine(Document a, Document b) {
+        Document smaller = a.terms().size() <= b.terms().size() ? a : b;
+        Document larger = smaller == a ? b : a;
+        double dot = 0;
+        for (Map.Entry<String, Double> entry : smaller.terms().entrySet()) {
+            Double other = larger.terms().get(entry.getKey());
+            if (other != null) {
+                double idf = idf(entry.getKey());
+                dot += entry.getValue() * other * idf * idf;
+            }
+        }
+        if (dot == 0) {
+            return 0;
+        }
+        return dot / (norm(a) * norm(b));
+    }
+
+    private double norm(Document document) {
+        double sum = 0;
+        for (Map.Entry<String, Double> entry : document.terms().entrySet()) {
+            double weight = entry.getValue() * idf(entry.getKey());
+            sum += weight * weight;
+        }
+        return Math.sqrt(sum);
+    }
+
+    private double idf(String term) {
+        int frequency = documentFrequency.getOrDefault(term, 0);
+        return Math.log((documents.size() + 1.0) / (frequency + 1.0)) + 1;
+    }
+
+    private void persist(Set<String> blogIds) {
+        if (blogIds.isEmpty()) {
+            return;
+        }
+        List<BlogRelated> rows = new ArrayList<>();
+        for (String blogId : blogIds) {
+            List<ScoredBlog> list = scores.getOrDefault(blogId, List.of());
+            for (int position = 0; position < list.size(); position++) {
+                rows.add(BlogRelated.builder()
+                        .blogId(blogId)
+                        .relatedBlogId(list.get(position).blogId())
+                        .score(list.get(position).score())
+                        .position(position)
+                        .build());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            relatedRepository.deleteByBlogIds(blogIds);
+            relatedRepository.saveAll(rows);
+        });
+    }
+
+    private void publish(String blogId) {
+        List<ScoredBlog> list = scores.get(blogId);
+        if (list == null || list.isEmpty()) {
+            related.remove(blogId);
+            return;
+        }
+        related.put(blogId, list.stream()
+                .map(scored -> documents.get(scored.blogId()))
+                .map(document -> RelatedBlogDto.builder()
+                        .id(document.id())
+                        .slug(document.slug())
+                        .title(document.title())
+                        .build())
+                .toList());
+    }
+
+    Document toDocument(BlogTextView view) {
+        String html = view.getRenderedHtml() != null ? view.getRenderedHtml() : view.getContent();
+        String text = html == null ? "" : Jsoup.parse(html).text();
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (String token : NON_WORD.split((view.getTitle() + " " + text).toLowerCase(Locale.ROOT))) {
+            if (token.length() > 2 && !STOP_WORDS.contains(token)) {
+                counts.merge(token, 1, Integer::sum);
+            }
+        }
+        Map<String, Double> terms = new HashMap<>();
+        counts.forEach((term, count) -> terms.put(term, 1 + Math.log(count)));
+
+        Set<String> tags = view.getTags().stream()
+                .map(tag -> tag.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+
+        return new Document(view.getId(), view.getSlug(), view.getTitle(), tags, terms);
+    }
+
+    /**
+     * A post's tags and log-scaled term frequencies
+     */
+    record Document(String id, String slug, String title, Set<String> tags, Map<String, Double> terms) {
+    }
+
+    private record ScoredBlog(String blogId, double score) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.blog.dto.BlogRevisionDiffDto;
+import com.portfolio.blog.dto.BlogRevisionDto;
+import com.portfolio.blog.entity.Blog;
+import com.portfolio.blog.entity.BlogRevision;
+import com.portfolio.blog.repository.BlogRepository;
+import com.portfolio.blog.repository.BlogRevisionRepository;
+import com.portfolio.blog.repository.BlogRevisionSummaryView;
+import com.portfolio.common.event.ContentChangedEvent;
+import com.portfolio.common.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Revision history of blog content.
+ * A revision is recorded whenever a save changes the title or content. Every
+ * {@link #CHECKPOINT_INTERVAL}-th revision stores the full text; the ones in between store a
+ * {@link TextDelta} against their predecessor, so a small edit to a large post costs a few
+ * hundred bytes. Any revision is rebuilt from its checkpoint plus at most
+ * {@code CHECKPOINT_INTERVAL - 1} deltas, and listing reads metadata only.
+ */
+@Service
+@Slf4j
+@Transactional
+public class BlogRevisionService {
+
+    static final int CHECKPOINT_INTERVAL = 10;
+
+    private final BlogRepository blogRepository;
+    private final BlogRevisionRepository revisionRepository;
+    private final BlogContentRenderer contentRenderer;
+
+    @Autowired
+    public BlogRevisionService(BlogRepository blogRepository, BlogRevisionRepository revisionRepository,
+                               BlogContentRenderer contentRenderer) {
+        this.blogRepository = blogRepository;
+        this.revisionRepository = revisionRepository;
+        this.contentRenderer = contentRenderer;
+    }
+
+    /**
+     * Runs inside the saving transaction, so a revision exists exactly when the save commits
+     */
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.contentType() != ContentChangedEvent.ContentType.BLOG
+                || event.changeType() == ContentChangedEvent.ChangeType.DELETED
+                || event.id() == null) {
+            return;
+        }
+        blogRepository.findById(event.id()).ifPresent(this::record);
+    }
+
+    /**
+     * Record the current state of a blog unless it matches the latest revision
+     * @return The new revision, or empty when nothing changed
+     */
+    public Optional<BlogRevision> record(Blog blog) {
+        String content = blog.getContent() == null ? "" : blog.getContent();
+        String hash = contentRenderer.hash(content);
+        Optional<BlogRevisionSummaryView> latest = latestSummary(blog.getId());
+        if (latest.isPresent() && latest.get().getContentHash().equals(hash)
+                && latest.get().getTitle().equals(blog.getTitle())) {
+            return Optional.empty();
+        }
+
+        int number = latest.map(view -> view.getRevisionNumber() + 1).orElse(1);
+        String payload = content;
+        boolean checkpoint = (number - 1) % CHECKPOINT_INTERVAL == 0;
+        if (!checkpoint) {
+            String delta = TextDelta.encode(reconstruct(blog.getId(), number - 1), content);
+            // A rewrite is cheaper to store (and to rebuild from) as a fresh checkpoint
+            if (delta.length() * 2L < content.length()) {
+                payload = delta;
+            } else {
+                checkpoint = true;
+            }
+        }
+
+        return Optional.of(revisionRepository.save(BlogRevision.builder()
+                .blogId(blog.getId())
+                .revisionNumber(number)
+                .checkpoint(checkpoint)
+                .title(blog.getTitle())
+                .payload(payload)
+                .contentLength(content.length())
+                .contentHash(hash)
+                .build()));
+    }
+
+    /**
+     * List revisions of a blog, newest first, without their content
+     */
+    @Transactional(readOnly = true)
+    public List<BlogRevisionDto> getRevisions(String blogId) {
+        if (!blogRepository.existsById(blogId)) {
+            throw new ResourceNotFoundException("Blog", "id", blogId);
+        }
+        return revisionRepository.findSummaries(blogId, Pageable.unpaged()).stream()
+                .map(view -> BlogRevisionDto.builder()
+                        .revisionNumber(view.getRevisionNumber())
+                        .title(view.getTitle())
+                        .contentLength(view.getContentLength())
+                        .checkpoint(view.isCheckpoint())
+                        .createdAt(view.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Get one revision with its full content
+     */
+    @Transactional(readOnly = true)
+    public BlogRevisionDto getRevision(String blogId, int revisionNumber) {
+        List<BlogRevision> chain = chain(blogId, revisionNumber);
+        BlogRevision revision = chain.get(chain.size() - 1);
+        return BlogRevisionDto.builder()
+                .revisionNumber(revision.getRevisionNumber())
+                .title(revision.getTitle())
+                .content(replay(chain))
+                .contentLength(revision.getContentLength())
+                .checkpoint(revision.isCheckpoint())
+                .createdAt(revision.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Compare two revisions; only the chains leading to these two are read
+     */
+    @Transactional(readOnly = true)
+    public BlogRevisionDiffDto diff(String blogId, int fromRevision, int toRevision) {
+        String from = reconstruct(blogId, fromRevision);
+        String to = fromRevision == toRevision ? from : reconstruct(blogId, toRevision);
+        return BlogRevisionDiffDto.builder()
+                .fromRevision(fromRevision)
+                .toRevision(toRevision)
+                .chunks(TextDelta.chunks(from, to))
+                .build();
+    }
+
+    String reconstruct(String blogId, int revisionNumber) {
+        return replay(chain(blogId, revisionNumber));
+    }
+
+    private List<BlogRevision> chain(String blogId, int revisionNumber) {
+        List<BlogRevision> chain = revisionRepository.findChain(blogId, revisionNumber);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getRevisionNumber() != revisionNumber) {
+            throw new ResourceNotFoundException("Blog revision", "number", revisionNumber);
+        }
+        return chain;
+    }
+
+    private static String replay(List<BlogRevision> chain) {
+        String text = chain.get(0).getPayload();
+        for (int i = 1; i < chain.size(); i++) {
+            text = TextDelta.apply(text, chain.get(i).getPayload());
+        }
+        return text;
+    }
+
+    private Optional<BlogRevisionSummaryView> latestSummary(String blogId) {
+        return revisionRepository.findSummaries(blogId, PageRequest.of(0, 1)).stream().findFirst();
+    }
+}
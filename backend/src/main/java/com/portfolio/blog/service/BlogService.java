@@ -1,17 +1,21 @@
 package com.portfolio.blog.service;
 
 import com.portfolio.blog.dto.BlogDto;
+import com.portfolio.blog.dto.BlogSummaryDto;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface BlogService {
     List<BlogDto> getAllBlogs();
     BlogDto getBlogById(String id);
-    BlogDto getBlogBySlug(String slug);
+    Optional<BlogDto> getBlogBySlug(String slug);
     BlogDto createBlog(BlogDto blogDto);
     BlogDto updateBlog(String id, BlogDto blogDto);
     void deleteBlog(String id);
-    List<BlogDto> getPublishedBlogs();
+    List<BlogSummaryDto> getPublishedBlogs();
+    List<BlogSummaryDto> getPopularBlogs(int limit);
+    int rerenderBlogs(boolean force);
     BlogDto uploadCoverImage(String id, String base64Data, String contentType);
     byte[] getCoverImageData(String id);
     String getCoverImageContentType(String id);
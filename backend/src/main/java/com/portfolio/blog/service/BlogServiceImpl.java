@@ -1,31 +1,63 @@
 package com.portfolio.blog.service;
 
 import com.portfolio.blog.dto.BlogDto;
+import com.portfolio.blog.dto.BlogJsonSupport;
 import com.portfolio.blog.dto.BlogMapper;
+import com.portfolio.blog.dto.BlogSummaryDto;
 import com.portfolio.blog.entity.Blog;
 import com.portfolio.blog.repository.BlogRepository;
+import com.portfolio.common.event.ContentChangedEvent;
+import com.portfolio.common.event.ContentChangedEvent.ChangeType;
+import com.portfolio.common.event.ContentChangedEvent.ContentType;
 import com.portfolio.common.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @Transactional
 public class BlogServiceImpl implements BlogService {
 
+    private static final int RERENDER_BATCH_SIZE = 25;
+
     private final BlogRepository blogRepository;
     private final BlogMapper blogMapper;
     private final BlogImageValidationService imageValidationService;
+    private final BlogContentAnalyzer contentAnalyzer;
+    private final BlogContentRenderer contentRenderer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlogViewCounter viewCounter;
+    private final BlogRelatedIndex relatedIndex;
+    private final BlogSlugIndex slugIndex;
+    private final EntityManager entityManager;
 
     @Autowired
     public BlogServiceImpl(BlogRepository blogRepository, BlogMapper blogMapper,
-                           BlogImageValidationService imageValidationService) {
+                           BlogImageValidationService imageValidationService,
+                           BlogContentAnalyzer contentAnalyzer,
+                           BlogContentRenderer contentRenderer,
+                           ApplicationEventPublisher eventPublisher,
+                           BlogViewCounter viewCounter,
+                           BlogRelatedIndex relatedIndex,
+                           BlogSlugIndex slugIndex,
+                           EntityManager entityManager) {
         this.blogRepository = blogRepository;
         this.blogMapper = blogMapper;
         this.imageValidationService = imageValidationService;
+        this.contentAnalyzer = contentAnalyzer;
+        this.contentRenderer = contentRenderer;
+        this.eventPublisher = eventPublisher;
+        this.viewCounter = viewCounter;
+        this.relatedIndex = relatedIndex;
+        this.slugIndex = slugIndex;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -45,10 +77,28 @@ public class BlogServiceImpl implements BlogService {
 
     @Override
     @Transactional(readOnly = true)
-    public BlogDto getBlogBySlug(String slug) {
-        Blog blog = blogRepository.findBySlug(slug)
-                .orElseThrow(() -> new ResourceNotFoundException("Blog", "slug", slug));
-        return blogMapper.toDto(blog);
+    public Optional<BlogDto> getBlogBySlug(String slug) {
+        // Unknown slugs are answered from the index, without a query or an exception
+        return slugIndex.resolve(slug)
+                .flatMap(blogRepository::findById)
+                // The index of this node may lag a rename or unpublish made on another node
+                .filter(blog -> blog.isPublished() && slug.equals(blog.getSlug()))
+                .map(this::toReaderDto);
+    }
+
+    private BlogDto toReaderDto(Blog blog) {
+        BlogDto blogDto = blogMapper.toDto(blog);
+
+        viewCounter.record(blog.getId());
+        long storedViews = blog.getViewCount() == null ? 0 : blog.getViewCount();
+        blogDto.setViewCount(storedViews + viewCounter.pendingViews(blog.getId()));
+        blogDto.setRelatedPosts(relatedIndex.getRelated(blog.getId()));
+
+        // Readers get the stored rendering; the raw source is only needed by the editor
+        if (blogDto.getRenderedHtml() != null) {
+            blogDto.setContent(null);
+        }
+        return blogDto;
     }
 
     @Override
@@ -60,7 +110,10 @@ public class BlogServiceImpl implements BlogService {
             blog.setPublishedDate(LocalDateTime.now());
         }
 
+        prepareContent(blog, true);
+
         Blog savedBlog = blogRepository.save(blog);
+        publishChange(savedBlog.getId(), ChangeType.CREATED);
         return blogMapper.toDto(savedBlog);
     }
 
@@ -77,7 +130,10 @@ public class BlogServiceImpl implements BlogService {
             blog.setPublishedDate(LocalDateTime.now());
         }
 
+        prepareContent(blog, false);
+
         Blog updatedBlog = blogRepository.save(blog);
+        publishChange(updatedBlog.getId(), ChangeType.UPDATED);
         return blogMapper.toDto(updatedBlog);
     }
 
@@ -86,13 +142,38 @@ public class BlogServiceImpl implements BlogService {
         Blog blog = blogRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog", "id", id));
         blogRepository.delete(blog);
+        publishChange(id, ChangeType.DELETED);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<BlogDto> getPublishedBlogs() {
-        List<Blog> blogs = blogRepository.findPublishedBlogs();
-        return blogMapper.toDtoList(blogs);
+    public List<BlogSummaryDto> getPublishedBlogs() {
+        return blogMapper.toSummaryDtoList(blogRepository.findPublishedSummaries());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BlogSummaryDto> getPopularBlogs(int limit) {
+        // Ranked by flushed counts; views still buffered in the counter show up after the next flush
+        return blogMapper.toSummaryDtoList(blogRepository.findPopularSummaries(PageRequest.of(0, limit)));
+    }
+
+    @Override
+    public int rerenderBlogs(boolean force) {
+        List<String> ids = force
+                ? blogRepository.findAllIds()
+                : blogRepository.findIdsNeedingRender(BlogContentRenderer.RENDERER_VERSION);
+
+        for (int from = 0; from < ids.size(); from += RERENDER_BATCH_SIZE) {
+            List<String> batch = ids.subList(from, Math.min(from + RERENDER_BATCH_SIZE, ids.size()));
+            List<Blog> blogs = blogRepository.findAllById(batch);
+            blogs.forEach(blog -> prepareContent(blog, true));
+            blogRepository.saveAll(blogs);
+            blogRepository.flush();
+            // Detach the batch so memory stays bounded by one batch, not by every blog re-rendered
+            entityManager.clear();
+        }
+        return ids.size();
     }
 
     @Override
@@ -108,6 +189,7 @@ public class BlogServiceImpl implements BlogService {
         blog.setCoverImage("/api/blogs/" + id + "/cover-image");
 
         Blog updatedBlog = blogRepository.save(blog);
+        publishChange(id, ChangeType.UPDATED);
         return blogMapper.toDto(updatedBlog);
     }
 
@@ -132,4 +214,32 @@ public class BlogServiceImpl implements BlogService {
 
         return blog.getCoverImageContentType();
     }
+
+    /**
+     * Compute reading stats and the stored rendering from the current content.
+     * Done at write time so that reads never parse or sanitize the article body.
+     * Unless forced, skipped when neither the content nor the renderer version changed.
+     */
+    private void prepareContent(Blog blog, boolean force) {
+        String contentHash = contentRenderer.hash(blog.getContent());
+        if (!force
+                && contentHash.equals(blog.getContentHash())
+                && Integer.valueOf(BlogContentRenderer.RENDERER_VERSION).equals(blog.getRendererVersion())) {
+            return;
+        }
+
+        BlogContentAnalyzer.BlogContentStats stats = contentAnalyzer.analyze(blog.getContent());
+        BlogContentRenderer.RenderedBlogContent rendered = contentRenderer.render(blog.getContent());
+
+        blog.setWordCount(stats.wordCount());
+        blog.setReadingTime(stats.readingTime());
+        blog.setOutline(BlogJsonSupport.writeOutline(rendered.toc()));
+        blog.setRenderedHtml(rendered.html());
+        blog.setContentHash(rendered.contentHash());
+        blog.setRendererVersion(BlogContentRenderer.RENDERER_VERSION);
+    }
+
+    private void publishChange(String id, ChangeType changeType) {
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentType.BLOG, id, changeType));
+    }
 }
@@ -0,0 +1,109 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.blog.repository.BlogRepository;
+import com.portfolio.blog.repository.BlogSlugView;
+import com.portfolio.common.event.ContentChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory map from slug to id for every published blog.
+ * The map is complete once loaded, so a slug that is not in it is answered as not found
+ * without a query; this also covers junk slugs from crawlers, with no negative cache to bound.
+ * It is loaded on first use and kept current from {@link ContentChangedEvent}s of this node; a
+ * periodic reload picks up posts published, renamed or removed on other nodes. A full reload
+ * builds new maps and publishes them with one volatile write, so readers never see a partial map.
+ */
+@Component
+public class BlogSlugIndex {
+
+    private final BlogRepository blogRepository;
+
+    private volatile Maps maps;
+
+    @Autowired
+    public BlogSlugIndex(BlogRepository blogRepository) {
+        this.blogRepository = blogRepository;
+    }
+
+    /**
+     * Resolve the slug of a published blog
+     * @param slug Slug from the request path
+     * @return Blog id, empty if no published blog has this slug
+     */
+    public Optional<String> resolve(String slug) {
+        Maps current = maps;
+        if (current == null) {
+            current = load();
+        }
+        return Optional.ofNullable(current.slugToId().get(slug));
+    }
+
+    /**
+     * Apply a committed blog change; a slug rename or unpublish replaces the old entry
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onContentChanged(ContentChangedEvent event) {
+        // Until loaded there is nothing to patch; the load reads committed state
+        Maps current = maps;
+        if (event.contentType() != ContentChangedEvent.ContentType.BLOG || current == null) {
+            return;
+        }
+        if (event.id() == null) {
+            maps = build();
+            return;
+        }
+        String slug = event.changeType() == ContentChangedEvent.ChangeType.DELETED
+                ? null
+                : blogRepository.findPublishedSlugById(event.id()).orElse(null);
+        String previous = slug == null
+                ? current.idToSlug().remove(event.id())
+                : current.idToSlug().put(event.id(), slug);
+        if (previous != null && !previous.equals(slug)) {
+            current.slugToId().remove(previous, event.id());
+        }
+        if (slug != null) {
+            current.slugToId().put(slug, event.id());
+        }
+    }
+
+    /**
+     * Reload from the database, so changes made on other nodes are served here too
+     */
+    @Scheduled(fixedDelayString = "${app.blog-slugs.refresh-interval-ms:30000}")
+    public synchronized void refresh() {
+        // Not loaded yet means not used yet; the first lookup reads committed state anyway
+        if (maps != null) {
+            maps = build();
+        }
+    }
+
+    private synchronized Maps load() {
+        if (maps == null) {
+            maps = build();
+        }
+        return maps;
+    }
+
+    private Maps build() {
+        Map<String, String> slugToId = new ConcurrentHashMap<>();
+        Map<String, String> idToSlug = new ConcurrentHashMap<>();
+        for (BlogSlugView view : blogRepository.findPublishedSlugs()) {
+            slugToId.put(view.getSlug(), view.getId());
+            idToSlug.put(view.getId(), view.getSlug());
+        }
+        return new Maps(slugToId, idToSlug);
+    }
+
+    /**
+     * Both directions of the index, swapped together on a full reload
+     */
+    private record Maps(Map<String, String> slugToId, Map<String, String> idToSlug) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.common.event.ContentChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts blog views in memory and writes them to the database in batches.
+ * Readers only touch a per-post {@link LongAdder}, so concurrent views of the same post
+ * never contend on a database row; the scheduled flush turns the accumulated deltas into
+ * one relative {@code UPDATE} per post. Adders are kept until their post is deleted (one per
+ * viewed post) so an increment can never land on an adder that a flush has just discarded.
+ */
+@Component
+@Slf4j
+public class BlogViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE blogs SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BlogViewCounter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Record a single view
+     * @param blogId Id of the viewed blog
+     */
+    public void record(String blogId) {
+        LongAdder adder = pending.get(blogId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(blogId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * Views recorded for a blog that have not been flushed yet
+     */
+    public long pendingViews(String blogId) {
+        LongAdder adder = pending.get(blogId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Write accumulated views to the database
+     * @return Number of views written
+     */
+    @Scheduled(fixedDelayString = "${app.blog-views.flush-interval-ms:10000}")
+    public synchronized long flush() {
+        List<Object[]> batch = new ArrayList<>();
+
+        for (Map.Entry<String, LongAdder> entry : pending.entrySet()) {
+            // Subtract exactly what was read; views recorded meanwhile stay in the adder for the next flush
+            long delta = entry.getValue().sum();
+            if (delta > 0) {
+                entry.getValue().add(-delta);
+                batch.add(new Object[] {delta, entry.getKey()});
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (DataAccessException e) {
+            // Put the deltas back so they are retried on the next flush
+            for (Object[] args : batch) {
+                record((String) args[1], (Long) args[0]);
+            }
+            log.warn("Failed to flush {} blog view counts, will retry", batch.size(), e);
+            return 0;
+        }
+        return batch.stream().mapToLong(args -> (Long) args[0]).sum();
+    }
+
+    /**
+     * Drop the adder of a deleted blog; its pending views have no row left to update
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onContentChanged(ContentChangedEvent event) {
+        if (event.contentType() == ContentChangedEvent.ContentType.BLOG
+                && event.changeType() == ContentChangedEvent.ChangeType.DELETED) {
+            pending.remove(event.id());
+        }
+    }
+
+    /**
+     * Flush outstanding views on graceful shutdown
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        long written = flush();
+        if (written > 0) {
+            log.info("Flushed {} blog views on shutdown", written);
+        }
+    }
+
+    private void record(String blogId, long views) {
+        pending.computeIfAbsent(blogId, id -> new LongAdder()).add(views);
+    }
+}
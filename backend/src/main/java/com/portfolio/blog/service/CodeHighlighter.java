@@ -0,0 +1,123 @@
+package com.portfolio.blog.service;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Minimal single-pass syntax highlighter for blog code blocks.
+ * Wraps keywords, strings, comments and numbers in {@code hl-*} spans;
+ * everything else is HTML-escaped and passed through unchanged.
+ */
+final class CodeHighlighter {
+
+    private static final Set<String> KEYWORDS = Set.of(
+        "abstract", "as", "async", "await", "boolean", "break", "byte", "case", "catch", "char",
+        "class", "const", "continue", "def", "default", "defer", "delete", "do", "double", "elif",
+        "else", "enum", "export", "extends", "false", "final", "finally", "float", "fn", "for",
+        "from", "func", "function", "go", "if", "implements", "import", "in", "instanceof", "int",
+        "interface", "let", "long", "match", "module", "new", "nil", "None", "null", "package",
+        "private", "protected", "pub", "public", "record", "return", "self", "short", "static",
+        "struct", "super", "switch", "synchronized", "this", "throw", "throws", "True", "False",
+        "true", "try", "type", "typeof", "val", "var", "void", "while", "with", "yield"
+    );
+
+    private static final Set<String> HASH_COMMENT_LANGUAGES = Set.of(
+        "bash", "sh", "shell", "python", "py", "ruby", "rb", "yaml", "yml", "toml", "dockerfile", "properties"
+    );
+
+    private CodeHighlighter() {
+    }
+
+    static String highlight(String code, String language) {
+        boolean hashComments = language != null
+            && HASH_COMMENT_LANGUAGES.contains(language.toLowerCase(Locale.ROOT));
+        StringBuilder out = new StringBuilder(code.length() + code.length() / 2);
+        int length = code.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = code.charAt(i);
+            int end;
+
+            if (c == '/' && i + 1 < length && code.charAt(i + 1) == '/') {
+                end = lineEnd(code, i);
+                span(out, "hl-comment", code, i, end);
+            } else if (c == '/' && i + 1 < length && code.charAt(i + 1) == '*') {
+                int close = code.indexOf("*/", i + 2);
+                end = close < 0 ? length : close + 2;
+                span(out, "hl-comment", code, i, end);
+            } else if (c == '#' && hashComments) {
+                end = lineEnd(code, i);
+                span(out, "hl-comment", code, i, end);
+            } else if (c == '"' || c == '\'' || c == '`') {
+                end = stringEnd(code, i, c);
+                span(out, "hl-string", code, i, end);
+            } else if (Character.isDigit(c) && (i == 0 || !Character.isJavaIdentifierPart(code.charAt(i - 1)))) {
+                end = i + 1;
+                while (end < length && (Character.isLetterOrDigit(code.charAt(end)) || code.charAt(end) == '.'
+                        || code.charAt(end) == '_')) {
+                    end++;
+                }
+                span(out, "hl-number", code, i, end);
+            } else if (Character.isJavaIdentifierStart(c)) {
+                end = i + 1;
+                while (end < length && Character.isJavaIdentifierPart(code.charAt(end))) {
+                    end++;
+                }
+                if (KEYWORDS.contains(code.substring(i, end))) {
+                    span(out, "hl-keyword", code, i, end);
+                } else {
+                    escape(out, code, i, end);
+                }
+            } else {
+                end = i + 1;
+                escape(out, code, i, end);
+            }
+            i = end;
+        }
+        return out.toString();
+    }
+
+    private static int lineEnd(String code, int from) {
+        int newline = code.indexOf('\n', from);
+        return newline < 0 ? code.length() : newline;
+    }
+
+    private static int stringEnd(String code, int start, char quote) {
+        int i = start + 1;
+        while (i < code.length()) {
+            char c = code.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == quote) {
+                return i + 1;
+            }
+            if (c == '\n' && quote != '`') {
+                return i;
+            }
+            i++;
+        }
+        return code.length();
+    }
+
+    private static void span(StringBuilder out, String cssClass, String code, int start, int end) {
+        out.append("<span class=\"").append(cssClass).append("\">");
+        escape(out, code, start, end);
+        out.append("</span>");
+    }
+
+    private static void escape(StringBuilder out, String code, int start, int end) {
+        for (int i = start; i < Math.min(end, code.length()); i++) {
+            char c = code.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.blog.dto.BlogRevisionDiffDto.Chunk;
+import com.portfolio.blog.dto.BlogRevisionDiffDto.Operation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Segment-level diff for blog content.
+ * Text is cut after every newline and every {@code >}, so an HTML post diffs roughly per tag
+ * and per paragraph of text, and a Markdown post per line. Segments are compared with
+ * Myers' O(ND) algorithm after trimming the common prefix and suffix; when the texts differ
+ * by more than {@link #MAX_EDIT_DISTANCE} segments the middle is treated as replaced outright.
+ *
+ * <p>Encoded deltas are a sequence of operations against the base text:
+ * {@code =n\n} copies n segments, {@code -n\n} skips n segments and
+ * {@code +len\n<text>} inserts len characters.
+ */
+final class TextDelta {
+
+    static final int MAX_EDIT_DISTANCE = 500;
+
+    private TextDelta() {
+    }
+
+    /**
+     * Encode target as operations against base
+     */
+    static String encode(String base, String target) {
+        List<String> a = segment(base);
+        List<String> b = segment(target);
+        StringBuilder out = new StringBuilder();
+        for (Run run : diff(a, b)) {
+            if (run.operation() == Operation.INSERT) {
+                String text = join(b, run.start(), run.length());
+                out.append('+').append(text.length()).append('\n').append(text);
+            } else {
+                out.append(run.operation() == Operation.EQUAL ? '=' : '-').append(run.length()).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Rebuild the target text from base and a delta produced by {@link #encode}
+     * @throws IllegalStateException if the delta does not fit the base
+     */
+    static String apply(String base, String delta) {
+        List<String> a = segment(base);
+        StringBuilder out = new StringBuilder(base.length() + 64);
+        int segment = 0;
+        int pos = 0;
+        while (pos < delta.length()) {
+            char op = delta.charAt(pos);
+            int newline = delta.indexOf('\n', pos);
+            if (newline < 0) {
+                throw new IllegalStateException("Truncated delta at offset " + pos);
+            }
+            int n = Integer.parseInt(delta, pos + 1, newline, 10);
+            pos = newline + 1;
+            switch (op) {
+                case '=' -> {
+                    if (segment + n > a.size()) {
+                        throw new IllegalStateException("Delta copies past the end of the base text");
+                    }
+                    for (int i = 0; i < n; i++) {
+                        out.append(a.get(segment++));
+                    }
+                }
+                case '-' -> segment += n;
+                case '+' -> {
+                    out.append(delta, pos, pos + n);
+                    pos += n;
+                }
+                default -> throw new IllegalStateException("Unknown delta operation '" + op + "'");
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Human-readable difference between two texts
+     */
+    static List<Chunk> chunks(String from, String to) {
+        List<String> a = segment(from);
+        List<String> b = segment(to);
+        List<Chunk> chunks = new ArrayList<>();
+        for (Run run : diff(a, b)) {
+            List<String> source = run.operation() == Operation.INSERT ? b : a;
+            chunks.add(new Chunk(run.operation(), join(source, run.start(), run.length())));
+        }
+        return chunks;
+    }
+
+    static List<String> segment(String text) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '>') {
+                segments.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) {
+            segments.add(text.substring(start));
+        }
+        return segments;
+    }
+
+    /**
+     * A run of one operation; start indexes the new text for INSERT and the old text otherwise
+     */
+    record Run(Operation operation, int start, int length) {
+    }
+
+    static List<Run> diff(List<String> aSegments, List<String> bSegments) {
+        Map<String, Integer> ids = new HashMap<>();
+        int[] a = intern(aSegments, ids);
+        int[] b = intern(bSegments, ids);
+
+        int prefix = 0;
+        while (prefix < a.length && prefix < b.length && a[prefix] == b[prefix]) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < a.length - prefix && suffix < b.length - prefix
+                && a[a.length - 1 - suffix] == b[b.length - 1 - suffix]) {
+            suffix++;
+        }
+
+        List<Run> runs = new ArrayList<>();
+        if (prefix > 0) {
+            runs.add(new Run(Operation.EQUAL, 0, prefix));
+        }
+        int[] aMiddle = Arrays.copyOfRange(a, prefix, a.length - suffix);
+        int[] bMiddle = Arrays.copyOfRange(b, prefix, b.length - suffix);
+        char[] ops = myers(aMiddle, bMiddle);
+        if (ops == null) {
+            ops = new char[aMiddle.length + bMiddle.length];
+            Arrays.fill(ops, 0, aMiddle.length, '-');
+            Arrays.fill(ops, aMiddle.length, ops.length, '+');
+        }
+        appendRuns(runs, ops, prefix, prefix);
+        if (suffix > 0) {
+            runs.add(new Run(Operation.EQUAL, a.length - suffix, suffix));
+        }
+        return runs;
+    }
+
+    private static void appendRuns(List<Run> runs, char[] ops, int aPos, int bPos) {
+        int i = 0;
+        while (i < ops.length) {
+            char op = ops[i];
+            int j = i;
+            while (j < ops.length && ops[j] == op) {
+                j++;
+            }
+            int length = j - i;
+            switch (op) {
+                case '=' -> {
+                    runs.add(new Run(Operation.EQUAL, aPos, length));
+                    aPos += length;
+                    bPos += length;
+                }
+                case '-' -> {
+                    runs.add(new Run(Operation.DELETE, aPos, length));
+                    aPos += length;
+                }
+                default -> {
+                    runs.add(new Run(Operation.INSERT, bPos, length));
+                    bPos += length;
+                }
+            }
+            i = j;
+        }
+    }
+
+    /**
+     * Shortest edit script as one of '=', '-', '+' per step, or null when it is longer than MAX_EDIT_DISTANCE
+     */
+    private static char[] myers(int[] a, int[] b) {
+        int n = a.length;
+        int m = b.length;
+        int max = Math.min(n + m, MAX_EDIT_DISTANCE);
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= max; d++) {
+            trace.add(v.clone());
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[x] == b[y]) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    return backtrack(trace, offset, n, m, d);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static char[] backtrack(List<int[]> trace, int offset, int n, int m, int distance) {
+        char[] reversed = new char[n + m];
+        int length = 0;
+        int x = n;
+        int y = m;
+        for (int d = distance; d > 0; d--) {
+            int[] v = trace.get(d);
+            int k = x - y;
+            int prevK = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) ? k + 1 : k - 1;
+            int prevX = v[offset + prevK];
+            int prevY = prevX - prevK;
+            while (x > prevX && y > prevY) {
+                reversed[length++] = '=';
+                x--;
+                y--;
+            }
+            reversed[length++] = x == prevX ? '+' : '-';
+            x = prevX;
+            y = prevY;
+        }
+        while (x > 0 && y > 0) {
+            reversed[length++] = '=';
+            x--;
+            y--;
+        }
+        char[] ops = new char[length];
+        for (int i = 0; i < length; i++) {
+            ops[i] = reversed[length - 1 - i];
+        }
+        return ops;
+    }
+
+    private static int[] intern(List<String> segments, Map<String, Integer> ids) {
+        int[] result = new int[segments.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.computeIfAbsent(segments.get(i), s -> ids.size());
+        }
+        return result;
+    }
+
+    private static String join(List<String> segments, int start, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = start; i < start + length; i++) {
+            sb.append(segments.get(i));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,72 @@
+package com.portfolio.common.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-memory cache for values read from the database that are dropped whenever a write changes them.
+ * <p>
+ * {@link #evictOnCommit(Object)} drops the entry right away and again once the writing transaction
+ * completes. A read that loaded the old row before the commit can still finish after that second
+ * eviction, so every eviction also bumps a counter: a load that overlapped any eviction returns its
+ * value to the caller but does not store it.
+ *
+ * @param <K> Key type; single-value caches use one constant key
+ * @param <V> Cached value type
+ */
+public class CommitAwareCache<K, V> {
+
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Get a cached value, loading it on a miss
+     * @param key Cache key
+     * @param loader Reads the current value; a null result is returned but not cached
+     * @return Cached or freshly loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = values.get(key);
+        if (value != null) {
+            return value;
+        }
+        long evictionsBefore = evictions.get();
+        value = loader.apply(key);
+        if (value != null && evictions.get() == evictionsBefore) {
+            values.putIfAbsent(key, value);
+            // An eviction between the check and the put would otherwise leave the old value behind
+            if (evictions.get() != evictionsBefore) {
+                values.remove(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drop a value now
+     */
+    public void evict(K key) {
+        evictions.incrementAndGet();
+        values.remove(key);
+    }
+
+    /**
+     * Drop a value now and again once the current transaction completes, if there is one
+     */
+    public void evictOnCommit(K key) {
+        evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(key);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.portfolio.common.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Stores large text columns deflate-compressed.
+ * <p>
+ * Encoded values start with a header: magic byte {@code 0xFF} (never the first byte of UTF-8 text),
+ * a format version and a codec id. Deflated values then carry the uncompressed length as a 4-byte
+ * int, followed by a raw deflate stream. Short or incompressible text is stored uncompressed
+ * behind the same header. Values without the magic byte are legacy UTF-8 rows written before
+ * compression and are read as-is.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    static final byte MAGIC = (byte) 0xFF;
+    static final byte VERSION = 1;
+    static final byte CODEC_STORED = 0;
+    static final byte CODEC_DEFLATE = 1;
+
+    private static final int HEADER_LENGTH = 3;
+    private static final int MIN_COMPRESS_LENGTH = 256;
+    private static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+
+    private static final Pool<Deflater> DEFLATERS = new Pool<>(
+            () -> new Deflater(Deflater.DEFAULT_COMPRESSION, true), Deflater::reset, Deflater::end);
+    private static final Pool<Inflater> INFLATERS = new Pool<>(
+            () -> new Inflater(true), Inflater::reset, Inflater::end);
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return attribute == null ? null : encode(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : decode(dbData);
+    }
+
+    /**
+     * Whether a stored value already has the compression header
+     */
+    public static boolean isEncoded(byte[] value) {
+        return value != null && value.length >= HEADER_LENGTH && value[0] == MAGIC;
+    }
+
+    public static byte[] encode(String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= MIN_COMPRESS_LENGTH) {
+            byte[] deflated = deflate(raw);
+            if (deflated.length < raw.length) {
+                return ByteBuffer.allocate(HEADER_LENGTH + Integer.BYTES + deflated.length)
+                        .put(MAGIC).put(VERSION).put(CODEC_DEFLATE)
+                        .putInt(raw.length)
+                        .put(deflated)
+                        .array();
+            }
+        }
+        return ByteBuffer.allocate(HEADER_LENGTH + raw.length)
+                .put(MAGIC).put(VERSION).put(CODEC_STORED)
+                .put(raw)
+                .array();
+    }
+
+    public static String decode(byte[] value) {
+        if (!isEncoded(value)) {
+            return new String(value, StandardCharsets.UTF_8);
+        }
+        if (value[1] != VERSION) {
+            throw new IllegalStateException("Unsupported compressed text version " + value[1]);
+        }
+        return switch (value[2]) {
+            case CODEC_STORED -> new String(value, HEADER_LENGTH, value.length - HEADER_LENGTH, StandardCharsets.UTF_8);
+            case CODEC_DEFLATE -> new String(inflate(value), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("Unsupported compressed text codec " + value[2]);
+        };
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = DEFLATERS.borrow();
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 3 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(buffer);
+                out.write(buffer, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            DEFLATERS.release(deflater);
+        }
+    }
+
+    private static byte[] inflate(byte[] value) {
+        int length = ByteBuffer.wrap(value, HEADER_LENGTH, Integer.BYTES).getInt();
+        int offset = HEADER_LENGTH + Integer.BYTES;
+        Inflater inflater = INFLATERS.borrow();
+        try {
+            inflater.setInput(value, offset, value.length - offset);
+            byte[] raw = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, read, length - read);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += inflated;
+            }
+            if (read != length) {
+                throw new IllegalStateException("Truncated compressed text: expected " + length + " bytes, got " + read);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed text", e);
+        } finally {
+            INFLATERS.release(inflater);
+        }
+    }
+
+    /**
+     * Small bounded pool so native zlib state is reused instead of allocated per value
+     */
+    private static final class Pool<T> {
+        private final Queue<T> idle = new ArrayBlockingQueue<>(POOL_SIZE);
+        private final Supplier<T> factory;
+        private final Consumer<T> reset;
+        private final Consumer<T> close;
+
+        Pool(Supplier<T> factory, Consumer<T> reset, Consumer<T> close) {
+            this.factory = factory;
+            this.reset = reset;
+            this.close = close;
+        }
+
+        T borrow() {
+            T item = idle.poll();
+            return item != null ? item : factory.get();
+        }
+
+        void release(T item) {
+            reset.accept(item);
+            if (!idle.offer(item)) {
+                close.accept(item);
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.portfolio.common.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps a JSON array of strings column (tags, technologies) to a mutable {@code List<String>}.
+ * <p>
+ * The column is parsed once when the entity is loaded, by a small hand-written parser for flat
+ * string arrays, instead of on every getter call through a reflective ObjectMapper. Empty lists are
+ * stored as NULL. A value that is itself a JSON string holding an array (what some drivers and H2
+ * store when a string is bound to a JSON column) is unwrapped once. Malformed values are logged
+ * with their content and read as an empty list, so one bad row cannot make a page fail to load.
+ * Entities get an {@link ArrayList} because the generated mappers update these lists in place.
+ */
+@Converter
+@Slf4j
+public class StringListJsonConverter implements AttributeConverter<List<String>, String> {
+
+    private static final int MAX_LOGGED_LENGTH = 200;
+
+    @Override
+    public String convertToDatabaseColumn(List<String> attribute) {
+        return write(attribute);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String dbData) {
+        try {
+            return new ArrayList<>(parse(dbData));
+        } catch (IllegalArgumentException e) {
+            String shown = dbData.length() > MAX_LOGGED_LENGTH ? dbData.substring(0, MAX_LOGGED_LENGTH) + "…" : dbData;
+            log.warn("Reading malformed JSON string list as empty: {} in {}", e.getMessage(), shown);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Parse a JSON array of strings
+     * @param json Array text; null or blank reads as an empty list
+     * @return Immutable list
+     * @throws IllegalArgumentException if the text is not a flat array of strings
+     */
+    public static List<String> parse(String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        Reader reader = new Reader(json);
+        reader.skipWhitespace();
+        List<String> values;
+        if (reader.peek() == '"') {
+            String inner = reader.readString();
+            reader.expectEnd();
+            Reader innerReader = new Reader(inner);
+            innerReader.skipWhitespace();
+            values = innerReader.readArray();
+            innerReader.expectEnd();
+        } else {
+            values = reader.readArray();
+            reader.expectEnd();
+        }
+        return values;
+    }
+
+    /**
+     * Write a list as a JSON array of strings
+     * @return Array text, or null for a null or empty list; null elements are left out
+     */
+    public static String write(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(values.size() * 16);
+        sb.append('[');
+        boolean first = true;
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            if (!first) {
+                sb.append(',');
+            }
+            appendQuoted(sb, value);
+            first = false;
+        }
+        return first ? null : sb.append(']').toString();
+    }
+
+    private static void appendQuoted(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                case '\b' -> sb.append("\\b");
+                case '\f' -> sb.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    private static final class Reader {
+        private final String text;
+        private int pos;
+
+        Reader(String text) {
+            this.text = text;
+        }
+
+        char peek() {
+            return pos < text.length() ? text.charAt(pos) : 0;
+        }
+
+        void skipWhitespace() {
+            while (pos < text.length()) {
+                char c = text.charAt(pos);
+                if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                    return;
+                }
+                pos++;
+            }
+        }
+
+        void expect(char c) {
+            if (peek() != c || pos >= text.length()) {
+                throw error("expected '" + c + "'");
+            }
+            pos++;
+        }
+
+        void expectEnd() {
+            skipWhitespace();
+            if (pos < text.length()) {
+                throw error("unexpected trailing content");
+            }
+        }
+
+        List<String> readArray() {
+            expect('[');
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return List.of();
+            }
+            List<String> values = new ArrayList<>();
+            while (true) {
+                skipWhitespace();
+                values.add(readString());
+                skipWhitespace();
+                if (peek() == ']') {
+                    pos++;
+                    return List.copyOf(values);
+                }
+                expect(',');
+            }
+        }
+
+        String readString() {
+            expect('"');
+            int start = pos;
+            // Fast path: no escapes, the value is a plain substring
+            while (pos < text.length()) {
+                char c = text.charAt(pos);
+                if (c == '"') {
+                    return text.substring(start, pos++);
+                }
+                if (c == '\\' || c < 0x20) {
+                    break;
+                }
+                pos++;
+            }
+            StringBuilder sb = new StringBuilder(pos - start + 16).append(text, start, pos);
+            while (pos < text.length()) {
+                char c = text.charAt(pos++);
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c < 0x20) {
+                    throw error("unescaped control character");
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                if (pos >= text.length()) {
+                    break;
+                }
+                char escaped = text.charAt(pos++);
+                switch (escaped) {
+                    case '"', '\\', '/' -> sb.append(escaped);
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'u' -> {
+                        if (pos + 4 > text.length()) {
+                            throw error("truncated unicode escape");
+                        }
+                        try {
+                            sb.append((char) Integer.parseInt(text, pos, pos + 4, 16));
+                        } catch (NumberFormatException e) {
+                            throw error("invalid unicode escape");
+                        }
+                        pos += 4;
+                    }
+                    default -> throw error("invalid escape '\\" + escaped + "'");
+                }
+            }
+            throw error("unterminated string");
+        }
+
+        IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Malformed JSON string array at offset " + pos + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.portfolio.common.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * New order for a list of items; each item's sortOrder becomes its index in {@code ids}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReorderRequest {
+
+    @NotEmpty(message = "Ids are required")
+    private List<@NotBlank(message = "Ids must not be blank") String> ids;
+}
@@ -0,0 +1,26 @@
+package com.portfolio.common.event;
+
+/**
+ * Published by services after public content is created, updated, deleted or reordered.
+ * Listeners keep derived, in-memory state (feeds, indexes, caches) in step with the database.
+ *
+ * @param contentType Kind of content that changed
+ * @param id Id of the changed item, or null when many items changed at once
+ * @param changeType What happened to the item
+ */
+public record ContentChangedEvent(ContentType contentType, String id, ChangeType changeType) {
+
+    public enum ContentType {
+        BLOG,
+        PROJECT,
+        EXPERIENCE
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        /** Only sort orders changed, published once per reorder with a null id */
+        REORDERED
+    }
+}
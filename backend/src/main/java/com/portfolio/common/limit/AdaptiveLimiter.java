@@ -0,0 +1,147 @@
+package com.portfolio.common.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit that follows latency, after Netflix's Gradient2.
+ * <p>
+ * Completed requests are grouped into windows (at least {@link #WINDOW_SAMPLES} samples and
+ * {@link #WINDOW_NANOS}). At the end of each window the average latency is compared with a slow
+ * moving long-term average: while they agree the limit grows in proportion to its square root, and
+ * when requests get slower than the tolerance allows the limit shrinks with the slowdown. Windows in
+ * which fewer than half the permits were used say nothing about capacity and leave the limit alone.
+ * <p>
+ * {@link #tryAcquire(int)} is lock-free; {@link #release(long)} only holds the monitor long enough
+ * to add its sample to the window.
+ */
+public class AdaptiveLimiter {
+
+    static final int WINDOW_SAMPLES = 20;
+    static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final double SMOOTHING = 0.2;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double longRtt;
+    private long windowStart;
+    private int windowSamples;
+    private long windowRttSum;
+    private int windowMaxInflight;
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Take a permit if fewer than {@code ceiling} requests are in flight
+     * @param ceiling Admission ceiling, at most {@link #getLimit()}
+     * @return Whether the request may proceed; if so it must call {@link #release(long)}
+     */
+    public boolean tryAcquire(int ceiling) {
+        while (true) {
+            int current = inflight.get();
+            if (current >= ceiling) {
+                rejected.increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Return a permit and record how long the request took
+     * @param rttNanos Time between acquire and release
+     * @param now Current {@link System#nanoTime()}
+     */
+    public void release(long rttNanos, long now) {
+        int current = inflight.getAndDecrement();
+        sample(rttNanos, current, now);
+    }
+
+    public void release(long rttNanos) {
+        release(rttNanos, System.nanoTime());
+    }
+
+    /**
+     * Current limit on requests in flight
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Requests refused since startup
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Whether every permit is taken
+     */
+    public boolean isSaturated() {
+        return inflight.get() >= limit;
+    }
+
+    private synchronized void sample(long rttNanos, int inflightAtRelease, long now) {
+        if (windowSamples == 0) {
+            windowStart = now;
+        }
+        windowSamples++;
+        windowRttSum += rttNanos;
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtRelease);
+        if (windowSamples < WINDOW_SAMPLES || now - windowStart < WINDOW_NANOS) {
+            return;
+        }
+
+        double shortRtt = Math.max(1.0, (double) windowRttSum / windowSamples);
+        int maxInflight = windowMaxInflight;
+        windowSamples = 0;
+        windowRttSum = 0;
+        windowMaxInflight = 0;
+        update(shortRtt, maxInflight);
+    }
+
+    private void update(double shortRtt, int maxInflight) {
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) * 2 / (LONG_WINDOW + 1);
+        }
+        // After a sustained slowdown ends, let the baseline recover quickly instead of over-admitting
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        if (maxInflight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
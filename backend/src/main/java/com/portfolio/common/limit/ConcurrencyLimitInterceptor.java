@@ -0,0 +1,144 @@
+package com.portfolio.common.limit;
+
+import com.portfolio.common.exception.ServiceUnavailableException;
+import com.portfolio.config.ConcurrencyLimitConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Admits each API request against the adaptive limit of its {@link LimitPool} and answers 503
+ * when the pool is full, so a spike is refused at once instead of queueing for a database connection.
+ * While a pool is saturated, lower-priority pools admit only {@code shedRatio} of their own limit.
+ * <p>
+ * Live limits are published as the {@code http.server.concurrency.limit}, {@code .inflight} and
+ * {@code .rejected} metrics, tagged by pool.
+ * <p>
+ * The interceptor enables its own settings and treats the meter registry as optional, so that
+ * {@code @WebMvcTest} slices, which pick up interceptors but not other components, can still create it.
+ */
+@Component
+@EnableConfigurationProperties(ConcurrencyLimitConfig.class)
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final boolean enabled;
+    private final double shedRatio;
+    private final Map<LimitPool, AdaptiveLimiter> limiters = new EnumMap<>(LimitPool.class);
+
+    @Autowired
+    public ConcurrencyLimitInterceptor(ConcurrencyLimitConfig config, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(config, meterRegistry.getIfAvailable());
+    }
+
+    ConcurrencyLimitInterceptor(ConcurrencyLimitConfig config, MeterRegistry meterRegistry) {
+        this.enabled = config.isEnabled();
+        this.shedRatio = config.getShedRatio();
+        for (LimitPool pool : LimitPool.values()) {
+            ConcurrencyLimitConfig.Pool bounds = config.getPools().get(pool);
+            AdaptiveLimiter limiter = bounds == null
+                    ? new AdaptiveLimiter(pool.getInitialLimit(), pool.getMinLimit(), pool.getMaxLimit(), config.getTolerance())
+                    : new AdaptiveLimiter(bounds.getInitialLimit(), bounds.getMinLimit(), bounds.getMaxLimit(), config.getTolerance());
+            limiters.put(pool, limiter);
+            if (meterRegistry != null) {
+                register(meterRegistry, pool, limiter);
+            }
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled) {
+            return true;
+        }
+        LimitPool pool = classify(request);
+        AdaptiveLimiter limiter = limiters.get(pool);
+        int ceiling = limiter.getLimit();
+        if (isHigherPrioritySaturated(pool)) {
+            ceiling = Math.max(1, (int) (ceiling * shedRatio));
+        }
+        if (!limiter.tryAcquire(ceiling)) {
+            throw new ServiceUnavailableException("Server is busy, please try again shortly");
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.limiter().release(System.nanoTime() - permit.startNanos());
+        }
+    }
+
+    AdaptiveLimiter limiter(LimitPool pool) {
+        return limiters.get(pool);
+    }
+
+    /**
+     * Pool for a request, from its method and path
+     */
+    static LimitPool classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if (path.startsWith("/api/auth/")) {
+            return LimitPool.AUTH;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            if (path.equals("/api/profile/avatar") || path.equals("/api/profile/resume")
+                    || (path.startsWith("/api/blogs/") && path.endsWith("/cover-image"))
+                    || (path.startsWith("/api/projects/") && path.endsWith("/thumbnail"))) {
+                return LimitPool.MEDIA;
+            }
+            return LimitPool.PUBLIC;
+        }
+        if ("POST".equals(method) && path.equals("/api/contacts")) {
+            return LimitPool.PUBLIC;
+        }
+        return LimitPool.ADMIN;
+    }
+
+    private boolean isHigherPrioritySaturated(LimitPool pool) {
+        for (LimitPool other : LimitPool.values()) {
+            if (other == pool) {
+                return false;
+            }
+            if (limiters.get(other).isSaturated()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void register(MeterRegistry meterRegistry, LimitPool pool, AdaptiveLimiter limiter) {
+        String tag = pool.name().toLowerCase(Locale.ROOT);
+        Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveLimiter::getLimit)
+                .description("Adaptive limit on requests in flight")
+                .tag("pool", tag)
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.inflight", limiter, AdaptiveLimiter::getInflight)
+                .description("Requests in flight")
+                .tag("pool", tag)
+                .register(meterRegistry);
+        FunctionCounter.builder("http.server.concurrency.rejected", limiter, AdaptiveLimiter::getRejected)
+                .description("Requests refused with 503")
+                .tag("pool", tag)
+                .register(meterRegistry);
+    }
+
+    private record Permit(AdaptiveLimiter limiter, long startNanos) {
+    }
+}
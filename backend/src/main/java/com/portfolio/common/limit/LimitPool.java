@@ -0,0 +1,41 @@
+package com.portfolio.common.limit;
+
+/**
+ * Kinds of requests that get their own concurrency limit, highest priority first.
+ * While a pool is saturated, the pools after it shed load early.
+ */
+public enum LimitPool {
+    /** Writes from the admin UI */
+    ADMIN(4, 1, 20),
+    /** Public reads and the contact form */
+    PUBLIC(20, 2, 200),
+    /** Avatar, resume, cover images and thumbnails; large bodies that can wait */
+    MEDIA(8, 1, 50),
+    /**
+     * Login and password changes; each costs a BCrypt verification. Ranked last because anyone can
+     * saturate it with failed logins, which must not shed the rest of the site.
+     */
+    AUTH(4, 1, 10);
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+
+    LimitPool(int initialLimit, int minLimit, int maxLimit) {
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+}
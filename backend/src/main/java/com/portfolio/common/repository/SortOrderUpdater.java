@@ -0,0 +1,68 @@
+package com.portfolio.common.repository;
+
+import com.portfolio.common.exception.ResourceNotFoundException;
+import com.portfolio.common.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes the sort order of many rows as one JDBC batch.
+ * Callers run inside their service transaction, so an unknown id rolls back every position change.
+ * Rows are written directly; callers must not rely on entities loaded earlier in the same transaction.
+ */
+@Component
+public class SortOrderUpdater {
+
+    /**
+     * Tables with sort_order and updated_at columns that may be reordered
+     */
+    private static final Set<String> TABLES = Set.of("projects", "skills", "experiences", "social_links");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SortOrderUpdater(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Set each row's sort order to its index in ids
+     * @param table Table name
+     * @param resourceName Resource name used in the not-found error
+     * @param ids Row ids in their new order
+     * @throws ValidationException if ids contains duplicates
+     * @throws ResourceNotFoundException if an id does not exist
+     */
+    public void reorder(String table, String resourceName, List<String> ids) {
+        if (!TABLES.contains(table)) {
+            throw new IllegalArgumentException("Table '" + table + "' cannot be reordered");
+        }
+        Set<String> seen = new HashSet<>();
+        for (String id : ids) {
+            if (!seen.add(id)) {
+                throw new ValidationException("Id '" + id + "' appears more than once");
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            batch.add(new Object[] {i, now, ids.get(i)});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(
+                "UPDATE " + table + " SET sort_order = ?, updated_at = ? WHERE id = ?", batch);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                throw new ResourceNotFoundException(resourceName, "id", ids.get(i));
+            }
+        }
+    }
+}
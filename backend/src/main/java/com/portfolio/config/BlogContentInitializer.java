@@ -0,0 +1,34 @@
+package com.portfolio.config;
+
+import com.portfolio.blog.service.BlogContentRenderer;
+import com.portfolio.blog.service.BlogService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders blogs whose stored HTML is missing or was produced by an older
+ * renderer version. New and edited posts are rendered at write time.
+ */
+@Component
+@Slf4j
+public class BlogContentInitializer implements ApplicationRunner {
+
+    private final BlogService blogService;
+
+    @Autowired
+    public BlogContentInitializer(BlogService blogService) {
+        this.blogService = blogService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int rerendered = blogService.rerenderBlogs(false);
+        if (rerendered > 0) {
+            log.info("Re-rendered {} blog(s) with renderer version {}", rerendered,
+                    BlogContentRenderer.RENDERER_VERSION);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.portfolio.config;
+
+import com.portfolio.common.converter.CompressedTextConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compresses rows written before {@link CompressedTextConverter} was introduced.
+ * Runs once after startup on a background thread, walking each table by primary key in
+ * small batches so the application keeps serving. An update only applies while the row
+ * still holds the legacy bytes that were read, so concurrent edits are never overwritten.
+ */
+@Component
+@Slf4j
+public class CompressedTextMigrationRunner {
+
+    static final int BATCH_SIZE = 50;
+
+    /**
+     * Table and column pairs stored through {@link CompressedTextConverter}
+     */
+    static final List<String[]> COLUMNS = List.of(
+        new String[] {"blogs", "content"},
+        new String[] {"blogs", "excerpt"},
+        new String[] {"blogs", "rendered_html"},
+        new String[] {"projects", "description"},
+        new String[] {"experiences", "description"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    @Autowired
+    public CompressedTextMigrationRunner(JdbcTemplate jdbcTemplate,
+                                         @Value("${app.compression.migrate-on-startup:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::migrateAll, "compressed-text-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void migrateAll() {
+        for (String[] column : COLUMNS) {
+            try {
+                int migrated = migrate(column[0], column[1]);
+                if (migrated > 0) {
+                    log.info("Compressed {} legacy value(s) in {}.{}", migrated, column[0], column[1]);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Failed to compress legacy values in {}.{}", column[0], column[1], e);
+            }
+        }
+    }
+
+    /**
+     * Compress every legacy value of one column
+     * @return Number of rows rewritten
+     */
+    int migrate(String table, String column) {
+        String select = "SELECT id, " + column + " FROM " + table + " WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE;
+        // Assigning updated_at keeps MySQL's ON UPDATE CURRENT_TIMESTAMP from touching it
+        String update = "UPDATE " + table + " SET " + column + " = ?, updated_at = updated_at"
+                + " WHERE id = ? AND " + column + " = ?";
+
+        int migrated = 0;
+        String lastId = "";
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(select,
+                    (rs, rowNum) -> new Object[] {rs.getString(1), rs.getBytes(2)}, lastId);
+            if (rows.isEmpty()) {
+                return migrated;
+            }
+
+            List<Object[]> batch = new ArrayList<>();
+            for (Object[] row : rows) {
+                byte[] value = (byte[]) row[1];
+                if (value != null && !CompressedTextConverter.isEncoded(value)) {
+                    String text = CompressedTextConverter.decode(value);
+                    batch.add(new Object[] {CompressedTextConverter.encode(text), row[0], value});
+                }
+            }
+            if (!batch.isEmpty()) {
+                for (int updated : jdbcTemplate.batchUpdate(update, batch)) {
+                    migrated += Math.max(updated, 0);
+                }
+            }
+
+            lastId = (String) rows.get(rows.size() - 1)[0];
+            if (rows.size() < BATCH_SIZE) {
+                return migrated;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.portfolio.config;
+
+import com.portfolio.common.limit.LimitPool;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Adaptive concurrency limits in front of the controllers, enforced by
+ * {@link com.portfolio.common.limit.ConcurrencyLimitInterceptor}, which registers this class itself
+ */
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+@Getter
+@Setter
+public class ConcurrencyLimitConfig {
+    private boolean enabled = true;
+
+    /**
+     * How much slower than the long-term latency a pool may get before its limit shrinks
+     */
+    private double tolerance = 1.5;
+
+    /**
+     * While a higher-priority pool is saturated, lower-priority pools only admit up to this share of their limit
+     */
+    private double shedRatio = 0.5;
+
+    /**
+     * Bounds per pool; pools left out use the defaults from {@link LimitPool}
+     */
+    private Map<LimitPool, Pool> pools = new EnumMap<>(LimitPool.class);
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+    }
+}
@@ -12,4 +12,6 @@ import org.springframework.stereotype.Component;
 public class JwtConfig {
     private String secret;
     private long expiration;
+    // Verified tokens kept in memory; 0 verifies every request
+    private int claimCacheSize = 10_000;
 }
@@ -0,0 +1,42 @@
+package com.portfolio.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-client request limits for public endpoints, enforced by
+ * {@link com.portfolio.security.RateLimitFilter}, which registers this class itself
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Getter
+@Setter
+public class RateLimitConfig {
+    private boolean enabled = true;
+
+    /**
+     * Limits by name; each applies to one method and exact path, per client IP
+     */
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String method = "POST";
+        private String path;
+
+        /**
+         * Requests a client may make in a burst
+         */
+        private int capacity;
+
+        /**
+         * Time in which a full burst is earned back
+         */
+        private Duration period;
+    }
+}
@@ -1,11 +1,16 @@
 package com.portfolio.config;
 
+import com.portfolio.security.BoundedPasswordEncoder;
 import com.portfolio.security.JwtAuthenticationEntryPoint;
 import com.portfolio.security.JwtAuthenticationFilter;
+import com.portfolio.security.RateLimitFilter;
 import com.portfolio.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,10 +24,16 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
 
 @Configuration
@@ -36,15 +47,28 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
     @Autowired
     private UserService userService;
 
     @Autowired
     private Environment environment;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * BCrypt on a dedicated bounded pool, so login bursts cannot take every core
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int threads = environment.getProperty("app.password-hashing.threads", Integer.class,
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        int queueCapacity = environment.getProperty("app.password-hashing.queue-capacity", Integer.class, 16);
+        Duration timeout = environment.getProperty("app.password-hashing.timeout", Duration.class, Duration.ofSeconds(10));
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, queueCapacity, timeout, meterRegistry);
     }
 
     @Bean
@@ -60,7 +84,28 @@ public class SecurityConfig {
         return authConfig.getAuthenticationManager();
     }
 
+    /**
+     * Anonymous public reads: no JWT parsing or token version check, just CORS and the
+     * security headers. A stale Authorization header on these routes is ignored.
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain publicReadFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(publicReadMatcher())
+            .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .requestCache(cache -> cache.disable())
+            .logout(logout -> logout.disable())
+            .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -76,9 +121,11 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/api/skills").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/experiences").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/projects").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/technologies").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/blogs").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/blogs/{slug}").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/blogs/*/cover-image").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/feed/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/profile/avatar").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/profile/resume").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/projects/*/thumbnail").permitAll()
@@ -90,10 +137,56 @@ public class SecurityConfig {
 
         http.authenticationProvider(authenticationProvider());
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // Throttle before any token parsing or password checks; runs after CORS so 429s are readable by the browser
+        http.addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * The security filters run only inside the chains above; without this Spring Boot would
+     * also register them as plain servlet filters for every request
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * GET routes that anyone may read and that never look at the caller. Admin reads under the
+     * same prefixes (e.g. /api/blogs/all) are excluded and stay on the authenticated chain.
+     */
+    private static RequestMatcher publicReadMatcher() {
+        return new OrRequestMatcher(
+            get("/api/profile"),
+            get("/api/profile/avatar"),
+            get("/api/profile/resume"),
+            get("/api/skills"),
+            get("/api/experiences"),
+            get("/api/projects"),
+            get("/api/projects/*/thumbnail"),
+            get("/api/technologies"),
+            get("/api/blogs"),
+            new AndRequestMatcher(get("/api/blogs/*"), new NegatedRequestMatcher(get("/api/blogs/all"))),
+            get("/api/blogs/*/cover-image"),
+            get("/api/feed/**"),
+            get("/api/settings")
+        );
+    }
+
+    private static RequestMatcher get(String pattern) {
+        return AntPathRequestMatcher.antMatcher(HttpMethod.GET, pattern);
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
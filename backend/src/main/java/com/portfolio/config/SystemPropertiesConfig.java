@@ -11,4 +11,14 @@ import org.springframework.stereotype.Component;
 @Setter
 public class SystemPropertiesConfig {
     private boolean allowSignups = false;
+
+    /**
+     * Public URL of the frontend, used for absolute links in feeds and the sitemap
+     */
+    private String siteUrl = "http://localhost:4200";
+
+    /**
+     * Title used for the RSS and Atom feeds
+     */
+    private String siteTitle = "Portfolio";
 }
@@ -1,15 +1,22 @@
 package com.portfolio.contact.controller;
 
+import com.portfolio.contact.dto.ContactBulkRequest;
+import com.portfolio.contact.dto.ContactBulkResult;
+import com.portfolio.contact.dto.ContactCountsDto;
 import com.portfolio.contact.dto.ContactDto;
+import com.portfolio.contact.dto.ContactFilter;
+import com.portfolio.contact.dto.ContactPageDto;
 import com.portfolio.contact.dto.ContactRequest;
 import com.portfolio.contact.service.ContactService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -20,10 +27,14 @@ public class ContactController {
     @Autowired
     private ContactService contactService;
 
+    /**
+     * Submit the contact form
+     * Public; answers 202 once the message is journaled, it is stored shortly after
+     */
     @PostMapping
     public ResponseEntity<ContactDto> createContact(@Valid @RequestBody ContactRequest contactRequest) {
-        ContactDto createdContact = contactService.createContact(contactRequest);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdContact);
+        ContactDto acceptedContact = contactService.createContact(contactRequest);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(acceptedContact);
     }
 
     @GetMapping
@@ -33,6 +44,45 @@ public class ContactController {
         return ResponseEntity.ok(contacts);
     }
 
+    /**
+     * One page of contacts, newest first
+     * ADMIN only
+     * @param cursor nextCursor from the previous page; omit for the first page
+     * @param limit Page size (at most 200)
+     * @param read Only read (true) or unread (false) contacts
+     * @param archived Only archived (true) or inbox (false) contacts; defaults to the inbox
+     * @param from Created at or after (ISO date-time)
+     * @param to Created before (ISO date-time)
+     */
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<ContactPageDto> getContactPage(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int limit,
+        @RequestParam(required = false) Boolean read,
+        @RequestParam(defaultValue = "false") Boolean archived,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        ContactFilter filter = ContactFilter.builder()
+            .read(read)
+            .archived(archived)
+            .from(from)
+            .to(to)
+            .build();
+        return ResponseEntity.ok(contactService.getContactPage(filter, cursor, limit));
+    }
+
+    /**
+     * Total and unread contacts in the inbox
+     * ADMIN only
+     */
+    @GetMapping("/counts")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<ContactCountsDto> getCounts() {
+        return ResponseEntity.ok(contactService.getCounts());
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('admin')")
     public ResponseEntity<ContactDto> getContactById(@PathVariable String id) {
@@ -54,6 +104,19 @@ public class ContactController {
         return ResponseEntity.ok(contact);
     }
 
+    /**
+     * Mark read, mark unread, archive or delete many contacts in one statement
+     * ADMIN only
+     * @param request Action and the contacts it applies to (ids or filter)
+     * @return Number of contacts changed
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<ContactBulkResult> applyBulk(@Valid @RequestBody ContactBulkRequest request) {
+        ContactBulkResult result = contactService.applyBulk(request);
+        return ResponseEntity.ok(result);
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('admin')")
     public ResponseEntity<Void> deleteContact(@PathVariable String id) {
@@ -0,0 +1,38 @@
+package com.portfolio.contact.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One inbox operation applied to contacts selected either by id or by filter
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactBulkRequest {
+
+    public enum Action {
+        MARK_READ,
+        MARK_UNREAD,
+        ARCHIVE,
+        UNARCHIVE,
+        DELETE
+    }
+
+    @NotNull(message = "Action is required")
+    private Action action;
+
+    @Size(max = 1000, message = "At most 1000 ids per request")
+    private List<String> ids;
+
+    @Valid
+    private ContactFilter filter;
+}
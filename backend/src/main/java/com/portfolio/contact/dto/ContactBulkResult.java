@@ -0,0 +1,17 @@
+package com.portfolio.contact.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactBulkResult {
+    private ContactBulkRequest.Action action;
+
+    /** Contacts changed; those already in the requested state are not counted */
+    private int affected;
+}
@@ -0,0 +1,16 @@
+package com.portfolio.contact.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactCountsDto {
+    /** Contacts in the inbox, archived excluded */
+    private long total;
+    private long unread;
+}
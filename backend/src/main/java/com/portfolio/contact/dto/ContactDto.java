@@ -18,5 +18,6 @@ public class ContactDto {
     private String subject;
     private String message;
     private Boolean read;
+    private Boolean archived;
     private LocalDateTime createdAt;
 }
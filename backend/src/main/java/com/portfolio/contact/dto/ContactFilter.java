@@ -0,0 +1,32 @@
+package com.portfolio.contact.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criteria selecting contacts; null fields match everything
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactFilter {
+    private Boolean read;
+    private Boolean archived;
+
+    /** Inclusive lower bound on createdAt */
+    private LocalDateTime from;
+
+    /** Exclusive upper bound on createdAt */
+    private LocalDateTime to;
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return read == null && archived == null && from == null && to == null;
+    }
+}
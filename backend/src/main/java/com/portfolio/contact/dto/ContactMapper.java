@@ -12,6 +12,7 @@ public interface ContactMapper {
     ContactDto toDto(Contact contact);
 
     @Mapping(target = "read", constant = "false")
+    @Mapping(target = "archived", constant = "false")
     Contact toEntity(ContactRequest request);
 
     List<ContactDto> toDtoList(List<Contact> contacts);
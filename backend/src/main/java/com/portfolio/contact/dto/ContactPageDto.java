@@ -0,0 +1,19 @@
+package com.portfolio.contact.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactPageDto {
+    private List<ContactDto> items;
+
+    /** Opaque cursor for the next page, or null on the last page */
+    private String nextCursor;
+}
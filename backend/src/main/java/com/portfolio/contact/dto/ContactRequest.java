@@ -2,6 +2,7 @@ package com.portfolio.contact.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,14 +14,19 @@ import lombok.NoArgsConstructor;
 @Builder
 public class ContactRequest {
     @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must be at most 100 characters")
     private String name;
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email must be valid")
+    @Size(max = 100, message = "Email must be at most 100 characters")
     private String email;
 
+    @Size(max = 200, message = "Subject must be at most 200 characters")
     private String subject;
 
+    // The TEXT column holds 65,535 bytes, and a character takes up to 4 in utf8mb4
     @NotBlank(message = "Message is required")
+    @Size(max = 16000, message = "Message must be at most 16000 characters")
     private String message;
 }
@@ -16,11 +16,52 @@ import java.util.UUID;
 @NamedQueries({
     @NamedQuery(
         name = "Contact.findUnreadContacts",
-        query = "SELECT c FROM Contact c WHERE c.read = false ORDER BY c.createdAt DESC"
+        query = "SELECT c FROM Contact c WHERE c.read = false AND c.archived = false ORDER BY c.createdAt DESC"
     ),
     @NamedQuery(
         name = "Contact.findAllOrderedByDate",
-        query = "SELECT c FROM Contact c ORDER BY c.createdAt DESC"
+        query = "SELECT c FROM Contact c WHERE c.archived = false ORDER BY c.createdAt DESC"
+    ),
+    @NamedQuery(
+        name = "Contact.findPage",
+        query = "SELECT c FROM Contact c WHERE "
+            + "(:filterRead IS NULL OR c.read = :filterRead) AND (:filterArchived IS NULL OR c.archived = :filterArchived) "
+            + "AND (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to) "
+            + "AND (:afterCreatedAt IS NULL OR c.createdAt < :afterCreatedAt "
+            + "OR (c.createdAt = :afterCreatedAt AND c.id < :afterId)) "
+            + "ORDER BY c.createdAt DESC, c.id DESC"
+    ),
+    @NamedQuery(
+        name = "Contact.countInbox",
+        query = "SELECT COUNT(c) AS total, COALESCE(SUM(CASE WHEN c.read = false THEN 1 ELSE 0 END), 0) AS unread "
+            + "FROM Contact c WHERE c.archived = false"
+    ),
+    @NamedQuery(
+        name = "Contact.updateReadByIds",
+        query = "UPDATE Contact c SET c.read = :read, c.updatedAt = :now WHERE c.id IN :ids AND c.read <> :read"
+    ),
+    @NamedQuery(
+        name = "Contact.updateReadByFilter",
+        query = "UPDATE Contact c SET c.read = :read, c.updatedAt = :now WHERE c.read <> :read AND "
+            + "(:filterRead IS NULL OR c.read = :filterRead) AND (:filterArchived IS NULL OR c.archived = :filterArchived) AND (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to)"
+    ),
+    @NamedQuery(
+        name = "Contact.updateArchivedByIds",
+        query = "UPDATE Contact c SET c.archived = :archived, c.updatedAt = :now WHERE c.id IN :ids AND c.archived <> :archived"
+    ),
+    @NamedQuery(
+        name = "Contact.updateArchivedByFilter",
+        query = "UPDATE Contact c SET c.archived = :archived, c.updatedAt = :now WHERE c.archived <> :archived AND "
+            + "(:filterRead IS NULL OR c.read = :filterRead) AND (:filterArchived IS NULL OR c.archived = :filterArchived) AND (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to)"
+    ),
+    @NamedQuery(
+        name = "Contact.deleteByIds",
+        query = "DELETE FROM Contact c WHERE c.id IN :ids"
+    ),
+    @NamedQuery(
+        name = "Contact.deleteByFilter",
+        query = "DELETE FROM Contact c WHERE "
+            + "(:filterRead IS NULL OR c.read = :filterRead) AND (:filterArchived IS NULL OR c.archived = :filterArchived) AND (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to)"
     )
 })
 public class Contact {
@@ -44,6 +85,10 @@ public class Contact {
     @Column(name = "is_read", nullable = false)
     private boolean read;
 
+    /** Hidden from the inbox but kept */
+    @Column(name = "is_archived", nullable = false)
+    private boolean archived;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
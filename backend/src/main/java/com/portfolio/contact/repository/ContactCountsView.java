@@ -0,0 +1,9 @@
+package com.portfolio.contact.repository;
+
+/**
+ * Total and unread contacts in the inbox (archived contacts excluded)
+ */
+public interface ContactCountsView {
+    long getTotal();
+    long getUnread();
+}
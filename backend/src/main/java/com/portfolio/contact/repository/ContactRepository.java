@@ -1,10 +1,15 @@
 package com.portfolio.contact.repository;
 
 import com.portfolio.contact.entity.Contact;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,4 +20,47 @@ public interface ContactRepository extends JpaRepository<Contact, String> {
 
     @Query(name = "Contact.findAllOrderedByDate")
     List<Contact> findAllOrderedByDate();
+
+    /**
+     * One page of contacts, newest first, after the (createdAt, id) keyset position when given
+     */
+    @Query(name = "Contact.findPage")
+    List<Contact> findPage(@Param("filterRead") Boolean filterRead, @Param("filterArchived") Boolean filterArchived,
+                           @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                           @Param("afterCreatedAt") LocalDateTime afterCreatedAt, @Param("afterId") String afterId,
+                           Limit limit);
+
+    @Query(name = "Contact.countInbox")
+    ContactCountsView countInbox();
+
+    @Modifying(clearAutomatically = true)
+    @Query(name = "Contact.updateReadByIds")
+    int updateReadByIds(@Param("ids") Collection<String> ids, @Param("read") boolean read,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query(name = "Contact.updateReadByFilter")
+    int updateReadByFilter(@Param("read") boolean read, @Param("now") LocalDateTime now,
+                           @Param("filterRead") Boolean filterRead, @Param("filterArchived") Boolean filterArchived,
+                           @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying(clearAutomatically = true)
+    @Query(name = "Contact.updateArchivedByIds")
+    int updateArchivedByIds(@Param("ids") Collection<String> ids, @Param("archived") boolean archived,
+                            @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query(name = "Contact.updateArchivedByFilter")
+    int updateArchivedByFilter(@Param("archived") boolean archived, @Param("now") LocalDateTime now,
+                               @Param("filterRead") Boolean filterRead, @Param("filterArchived") Boolean filterArchived,
+                               @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying(clearAutomatically = true)
+    @Query(name = "Contact.deleteByIds")
+    int deleteByIds(@Param("ids") Collection<String> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query(name = "Contact.deleteByFilter")
+    int deleteByFilter(@Param("filterRead") Boolean filterRead, @Param("filterArchived") Boolean filterArchived,
+                       @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
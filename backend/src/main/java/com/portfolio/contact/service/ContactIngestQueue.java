@@ -0,0 +1,560 @@
+package com.portfolio.contact.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.common.exception.ServiceUnavailableException;
+import com.portfolio.contact.entity.Contact;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Write-behind pipeline for contact form submissions.
+ * <p>
+ * A submission is appended to a local journal and fsynced, then put on a bounded queue; the request
+ * returns without touching the connection pool. A single writer thread drains the queue and inserts
+ * each batch with one JDBC batch in one transaction. Journal segments are deleted once every entry in
+ * them is committed, so after a crash the segments left on disk hold exactly the messages that may be
+ * missing; they are replayed on the next start, skipping ids that did reach the database and a torn
+ * last line. When the queue is full submissions are refused rather than buffered without bound.
+ * <p>
+ * If the database rejects a batch, its rows are inserted one by one; a row rejected on its own is
+ * moved to a quarantine file next to the segments, so one bad message cannot hold back the others.
+ * While the database is unreachable the writer retries the same batch with a capped backoff.
+ */
+@Component
+@Slf4j
+public class ContactIngestQueue {
+
+    static final String INSERT_SQL = "INSERT INTO contacts (id, name, email, subject, message, is_read, is_archived, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, false, false, ?, ?)";
+    static final long SEGMENT_MAX_BYTES = 1024 * 1024;
+    private static final int ALERT_AFTER_ATTEMPTS = 5;
+    private static final long BACKOFF_MS = 200;
+    private static final long MAX_BACKOFF_MS = 30_000;
+    private static final String SEGMENT_PREFIX = "contacts-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    static final String QUARANTINE_FILE = "contacts-quarantine.jsonl";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor executor;
+    private final Path journalDir;
+    private final int batchSize;
+    private final BlockingQueue<Pending> queue;
+
+    // Guarded by journalLock
+    private final Object journalLock = new Object();
+    private final List<Path> recovered = new ArrayList<>();
+    private long nextSequence;
+    private Segment current;
+
+    // Serializes batch writes between the writer thread and flush()
+    private final Object writeLock = new Object();
+
+    @Autowired
+    public ContactIngestQueue(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${app.contacts.ingest.journal-dir:./data/contact-journal}") String journalDir,
+                              @Value("${app.contacts.ingest.queue-capacity:1000}") int capacity,
+                              @Value("${app.contacts.ingest.batch-size:50}") int batchSize) {
+        this(jdbcTemplate, transactionManager, eventPublisher, Path.of(journalDir), capacity, batchSize,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "contact-ingest");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    ContactIngestQueue(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventPublisher, Path journalDir, int capacity, int batchSize,
+                       Executor executor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.journalDir = journalDir;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.executor = executor;
+        scanJournal();
+    }
+
+    /**
+     * Journal a new contact and queue it for insertion
+     * @param contact Contact with id and timestamps already assigned
+     * @throws ServiceUnavailableException if the queue is full or the journal cannot be written
+     */
+    public void submit(Contact contact) {
+        byte[] line = encode(contact);
+        synchronized (journalLock) {
+            // Only the writer removes from the queue, so capacity checked here cannot disappear before add()
+            if (queue.remainingCapacity() == 0) {
+                throw new ServiceUnavailableException("Too many messages are waiting to be saved, please try again shortly");
+            }
+            Segment segment = segmentFor(line.length);
+            try {
+                segment.append(line);
+            } catch (IOException e) {
+                // The segment may now end in a partial line; later appends go to a fresh one
+                log.error("Failed to journal contact {}", contact.getId(), e);
+                seal(segment);
+                if (segment.pending == 0) {
+                    delete(segment.path);
+                }
+                throw new ServiceUnavailableException("Message could not be saved, please try again", e);
+            }
+            segment.pending++;
+            queue.add(new Pending(contact, segment));
+        }
+    }
+
+    /**
+     * Messages journaled but not yet written to the database
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Replay segments left by a previous run, then start the writer
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        replay();
+        executor.execute(this::runWriter);
+    }
+
+    /**
+     * Write everything queued so far, one attempt per batch; contacts that fail stay journaled
+     * @return Number of contacts written
+     */
+    int flush() {
+        int written = 0;
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            written += write(batch).inserted();
+            batch.clear();
+        }
+        return written;
+    }
+
+    /**
+     * Stop the writer and write what is still queued; anything that fails is replayed on the next start
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+            try {
+                executorService.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        int written = flush();
+        if (written > 0) {
+            log.info("Wrote {} queued contacts on shutdown", written);
+        }
+        synchronized (journalLock) {
+            if (current != null) {
+                seal(current);
+            }
+        }
+    }
+
+    private void runWriter() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        int failures = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                if (batch.isEmpty()) {
+                    batch.add(queue.take());
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                List<Pending> retry = write(batch).failed();
+                batch.clear();
+                batch.addAll(retry);
+            } catch (InterruptedException e) {
+                // Shutting down; anything taken but not written is still in the journal
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // The batch was not released, so it is retried; the writer must never die
+                log.error("Unexpected failure writing {} contacts", batch.size(), e);
+            }
+            if (batch.isEmpty()) {
+                failures = 0;
+                continue;
+            }
+            // Accepted messages are never dropped: keep retrying the same batch; new ones wait in the
+            // queue, and once it is full submissions are refused
+            if (++failures == ALERT_AFTER_ATTEMPTS) {
+                log.error("Still failing to write {} contacts after {} attempts, retrying every {} ms",
+                        batch.size(), failures, MAX_BACKOFF_MS);
+            }
+            try {
+                Thread.sleep(Math.min(MAX_BACKOFF_MS, BACKOFF_MS << Math.min(failures - 1, 16)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Insert queued contacts and release the journal entries of those written or quarantined
+     * @return Number inserted, and the entries to retry
+     */
+    private InsertResult<Pending> write(List<Pending> batch) {
+        InsertResult<Contact> result = insert(batch.stream().map(Pending::contact).toList());
+
+        Set<Contact> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        failed.addAll(result.failed());
+        List<Pending> done = new ArrayList<>(batch.size());
+        List<Pending> retry = new ArrayList<>(failed.size());
+        for (Pending pending : batch) {
+            (failed.contains(pending.contact()) ? retry : done).add(pending);
+        }
+
+        release(done);
+        if (result.inserted() > 0) {
+            publishIngested(result.inserted());
+        }
+        return new InsertResult<>(result.inserted(), retry);
+    }
+
+    /**
+     * Insert contacts with one JDBC batch in one transaction. If the database rejects the batch, each
+     * row is inserted in its own transaction and rows rejected on their own are quarantined. Failures
+     * that say nothing about the rows (database unreachable, lock timeout) leave them for a retry.
+     * @return Number inserted, and the contacts that could not be written now
+     */
+    private InsertResult<Contact> insert(List<Contact> contacts) {
+        synchronized (writeLock) {
+            try {
+                List<Object[]> rows = contacts.stream().map(ContactIngestQueue::toRow).toList();
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+                return new InsertResult<>(contacts.size(), List.of());
+            } catch (DataAccessException | TransactionException e) {
+                if (isTransient(e)) {
+                    log.warn("Failed to write {} contacts", contacts.size(), e);
+                    return new InsertResult<>(0, contacts);
+                }
+                log.warn("Database rejected a batch of {} contacts, inserting them one by one", contacts.size(), e);
+            }
+
+            int inserted = 0;
+            for (int i = 0; i < contacts.size(); i++) {
+                Contact contact = contacts.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, toRow(contact)));
+                    inserted++;
+                } catch (DuplicateKeyException e) {
+                    // Stored by an earlier attempt whose commit was not acknowledged
+                } catch (DataAccessException | TransactionException e) {
+                    if (isTransient(e) || !quarantine(contact, e)) {
+                        log.warn("Failed to write {} contacts", contacts.size() - i, e);
+                        return new InsertResult<>(inserted, contacts.subList(i, contacts.size()));
+                    }
+                }
+            }
+            return new InsertResult<>(inserted, List.of());
+        }
+    }
+
+    /**
+     * Notify listeners; their failures must not make the writer retry contacts that are already stored
+     */
+    private void publishIngested(int count) {
+        try {
+            eventPublisher.publishEvent(new ContactsIngestedEvent(count));
+        } catch (RuntimeException e) {
+            log.error("Listener failed after {} contacts were written", count, e);
+        }
+    }
+
+    private static boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransactionException;
+    }
+
+    /**
+     * Move a contact the database will never accept out of the journal
+     * @return Whether the contact was saved to the quarantine file
+     */
+    private boolean quarantine(Contact contact, Exception cause) {
+        Path path = journalDir.resolve(QUARANTINE_FILE);
+        try {
+            Files.write(path, encode(contact), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            log.error("Failed to quarantine contact {}", contact.getId(), e);
+            return false;
+        }
+        log.error("Database rejected contact {}; moved it to {}: {}", contact.getId(), path, cause.getMessage());
+        return true;
+    }
+
+    private void release(List<Pending> batch) {
+        synchronized (journalLock) {
+            for (Pending pending : batch) {
+                Segment segment = pending.segment();
+                if (--segment.pending == 0) {
+                    if (segment == current) {
+                        current = null;
+                    }
+                    seal(segment);
+                    delete(segment.path);
+                }
+            }
+        }
+    }
+
+    private Segment segmentFor(int length) {
+        if (current != null && current.size + length > SEGMENT_MAX_BYTES && current.size > 0) {
+            // Sealed segments are deleted by release() once their last entry is committed
+            seal(current);
+            current = null;
+        }
+        if (current == null) {
+            Path path = journalDir.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, nextSequence++, SEGMENT_SUFFIX));
+            try {
+                current = new Segment(path, FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+            } catch (IOException e) {
+                log.error("Failed to open contact journal segment {}", path, e);
+                throw new ServiceUnavailableException("Message could not be saved, please try again", e);
+            }
+        }
+        return current;
+    }
+
+    private void seal(Segment segment) {
+        if (segment == current) {
+            current = null;
+        }
+        try {
+            segment.channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close contact journal segment {}", segment.path, e);
+        }
+    }
+
+    private void scanJournal() {
+        try {
+            Files.createDirectories(journalDir);
+            try (Stream<Path> files = Files.list(journalDir)) {
+                files.filter(ContactIngestQueue::isSegment).sorted().forEach(recovered::add);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot use contact journal directory " + journalDir, e);
+        }
+        for (Path path : recovered) {
+            String name = path.getFileName().toString();
+            long sequence = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+            nextSequence = Math.max(nextSequence, sequence + 1);
+        }
+    }
+
+    /**
+     * Insert the contacts of segments left by a previous run that are not in the database yet.
+     * Rejected contacts are quarantined; segments that cannot be replayed now are kept for the next start.
+     */
+    void replay() {
+        List<Path> segments;
+        synchronized (journalLock) {
+            segments = List.copyOf(recovered);
+            recovered.clear();
+        }
+        for (Path path : segments) {
+            try {
+                InsertResult<Contact> result = insertMissing(readSegment(path));
+                if (result.inserted() > 0) {
+                    log.info("Recovered {} contacts from journal segment {}", result.inserted(), path.getFileName());
+                    publishIngested(result.inserted());
+                }
+                if (result.failed().isEmpty()) {
+                    delete(path);
+                } else {
+                    log.warn("Could not replay {} contacts from journal segment {}, will retry on next start",
+                            result.failed().size(), path.getFileName());
+                }
+            } catch (IOException | DataAccessException e) {
+                log.warn("Failed to replay contact journal segment {}, will retry on next start", path, e);
+            }
+        }
+    }
+
+    private InsertResult<Contact> insertMissing(List<Contact> contacts) {
+        int inserted = 0;
+        for (int from = 0; from < contacts.size(); from += batchSize) {
+            List<Contact> chunk = contacts.subList(from, Math.min(from + batchSize, contacts.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT id FROM contacts WHERE id IN (" + placeholders + ")", String.class,
+                    chunk.stream().map(Contact::getId).toArray()));
+            List<Contact> missing = chunk.stream()
+                    .filter(contact -> !existing.contains(contact.getId()))
+                    .toList();
+            if (!missing.isEmpty()) {
+                InsertResult<Contact> result = insert(missing);
+                inserted += result.inserted();
+                if (!result.failed().isEmpty()) {
+                    // The database is unavailable; later chunks would fail the same way
+                    List<Contact> failed = new ArrayList<>(result.failed());
+                    failed.addAll(contacts.subList(from + chunk.size(), contacts.size()));
+                    return new InsertResult<>(inserted, failed);
+                }
+            }
+        }
+        return new InsertResult<>(inserted, List.of());
+    }
+
+    private static List<Contact> readSegment(Path path) throws IOException {
+        List<Contact> contacts = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                Contact contact = decode(line);
+                if (seen.add(contact.getId())) {
+                    contacts.add(contact);
+                }
+            } catch (JsonProcessingException | RuntimeException e) {
+                // A crash during an append leaves a partial line; it was never acknowledged
+                log.warn("Skipping unreadable line {} of contact journal segment {}", i + 1, path.getFileName());
+            }
+        }
+        return contacts;
+    }
+
+    private static byte[] encode(Contact contact) {
+        JournalRecord record = new JournalRecord(contact.getId(), contact.getName(), contact.getEmail(),
+                contact.getSubject(), contact.getMessage(), contact.getCreatedAt().toString());
+        try {
+            return (objectMapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize contact " + contact.getId(), e);
+        }
+    }
+
+    private static Contact decode(String line) throws JsonProcessingException {
+        JournalRecord record = objectMapper.readValue(line, JournalRecord.class);
+        if (record.id() == null || record.createdAt() == null) {
+            throw new IllegalArgumentException("Incomplete journal record");
+        }
+        LocalDateTime createdAt = LocalDateTime.parse(record.createdAt());
+        return Contact.builder()
+                .id(record.id())
+                .name(record.name())
+                .email(record.email())
+                .subject(record.subject())
+                .message(record.message())
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    private static Object[] toRow(Contact contact) {
+        Timestamp createdAt = Timestamp.valueOf(contact.getCreatedAt());
+        return new Object[] {contact.getId(), contact.getName(), contact.getEmail(), contact.getSubject(),
+                contact.getMessage(), createdAt, createdAt};
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)
+                && name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()).chars()
+                        .allMatch(Character::isDigit);
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete contact journal segment {}", path, e);
+        }
+    }
+
+    /**
+     * One line of the journal
+     */
+    record JournalRecord(String id, String name, String email, String subject, String message, String createdAt) {
+    }
+
+    private record Pending(Contact contact, Segment segment) {
+    }
+
+    private record InsertResult<T>(int inserted, List<T> failed) {
+    }
+
+    /**
+     * A journal file and how many of its entries are not committed yet; guarded by journalLock
+     */
+    private static final class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private long size;
+        private int pending;
+
+        Segment(Path path, FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+
+        void append(byte[] line) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            size += line.length;
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.portfolio.contact.service;
 
+import com.portfolio.contact.dto.ContactBulkRequest;
+import com.portfolio.contact.dto.ContactBulkResult;
+import com.portfolio.contact.dto.ContactCountsDto;
 import com.portfolio.contact.dto.ContactDto;
+import com.portfolio.contact.dto.ContactFilter;
+import com.portfolio.contact.dto.ContactPageDto;
 import com.portfolio.contact.dto.ContactRequest;
 
 import java.util.List;
@@ -12,4 +17,7 @@ public interface ContactService {
     ContactDto markAsRead(String id);
     void deleteContact(String id);
     List<ContactDto> getUnreadContacts();
+    ContactPageDto getContactPage(ContactFilter filter, String cursor, int limit);
+    ContactCountsDto getCounts();
+    ContactBulkResult applyBulk(ContactBulkRequest request);
 }
@@ -1,28 +1,58 @@
 package com.portfolio.contact.service;
 
+import com.portfolio.common.cache.CommitAwareCache;
+import com.portfolio.common.exception.ConflictException;
 import com.portfolio.common.exception.ResourceNotFoundException;
+import com.portfolio.common.exception.TooManyRequestsException;
+import com.portfolio.common.exception.ValidationException;
+import com.portfolio.contact.dto.ContactBulkRequest;
+import com.portfolio.contact.dto.ContactBulkResult;
+import com.portfolio.contact.dto.ContactCountsDto;
 import com.portfolio.contact.dto.ContactDto;
+import com.portfolio.contact.dto.ContactFilter;
+import com.portfolio.contact.dto.ContactPageDto;
 import com.portfolio.contact.dto.ContactMapper;
 import com.portfolio.contact.dto.ContactRequest;
 import com.portfolio.contact.entity.Contact;
+import com.portfolio.contact.repository.ContactCountsView;
 import com.portfolio.contact.repository.ContactRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @Transactional
 public class ContactServiceImpl implements ContactService {
 
+    static final int MAX_PAGE_SIZE = 200;
+
     private final ContactRepository contactRepository;
     private final ContactMapper contactMapper;
+    private final ContactIngestQueue ingestQueue;
+    private final ContactSpamFilter spamFilter;
+
+    private static final String COUNTS_KEY = "inbox";
+
+    /** Inbox counts, recomputed with one aggregate query after any write */
+    private final CommitAwareCache<String, ContactCountsDto> countsCache = new CommitAwareCache<>();
 
     @Autowired
-    public ContactServiceImpl(ContactRepository contactRepository, ContactMapper contactMapper) {
+    public ContactServiceImpl(ContactRepository contactRepository, ContactMapper contactMapper,
+                              ContactIngestQueue ingestQueue, ContactSpamFilter spamFilter) {
         this.contactRepository = contactRepository;
         this.contactMapper = contactMapper;
+        this.ingestQueue = ingestQueue;
+        this.spamFilter = spamFilter;
     }
 
     @Override
@@ -40,11 +70,88 @@ public class ContactServiceImpl implements ContactService {
         return contactMapper.toDto(contact);
     }
 
+    /**
+     * One page of contacts, newest first, using keyset pagination on (createdAt, id)
+     * so later pages cost the same as the first
+     * @param filter Optional criteria; null fields match everything
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param limit Page size, clamped to 1..MAX_PAGE_SIZE
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ContactPageDto getContactPage(ContactFilter filter, String cursor, int limit) {
+        ContactFilter criteria = filter == null ? new ContactFilter() : filter;
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Cursor after = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+
+        // Fetch one extra row to learn whether there is a next page
+        List<Contact> contacts = contactRepository.findPage(criteria.getRead(), criteria.getArchived(),
+                criteria.getFrom(), criteria.getTo(),
+                after == null ? null : after.createdAt(), after == null ? null : after.id(),
+                Limit.of(size + 1));
+        boolean hasMore = contacts.size() > size;
+        List<Contact> page = hasMore ? contacts.subList(0, size) : contacts;
+        Contact last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return ContactPageDto.builder()
+                .items(contactMapper.toDtoList(page))
+                .nextCursor(hasMore ? new Cursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ContactCountsDto getCounts() {
+        return countsCache.get(COUNTS_KEY, key -> {
+            ContactCountsView view = contactRepository.countInbox();
+            return ContactCountsDto.builder()
+                    .total(view.getTotal())
+                    .unread(view.getUnread())
+                    .build();
+        });
+    }
+
+    /**
+     * Accept a contact form submission. Duplicates, repeat senders and spam are refused in memory;
+     * accepted contacts are journaled and queued for a batched insert, so no database connection
+     * is taken here. Counts are evicted once the contact is committed.
+     * @return The accepted contact, with its id and timestamp assigned
+     * @throws ConflictException if the same message was sent recently
+     * @throws TooManyRequestsException if the sender has sent too many messages recently
+     * @throws ValidationException if the message looks like spam
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ContactDto createContact(ContactRequest contactRequest) {
         Contact contact = contactMapper.toEntity(contactRequest);
-        Contact savedContact = contactRepository.save(contact);
-        return contactMapper.toDto(savedContact);
+        LocalDateTime now = LocalDateTime.now();
+        contact.setId(UUID.randomUUID().toString());
+        contact.setCreatedAt(now);
+        contact.setUpdatedAt(now);
+
+        switch (spamFilter.admit(contact)) {
+            case DUPLICATE -> throw new ConflictException("This message was already received");
+            case REPEAT_SENDER -> {
+                long retryAfter = spamFilter.senderRetryAfterSeconds(contact.getEmail());
+                throw new TooManyRequestsException("Too many messages from this address, please try again later", retryAfter);
+            }
+            case SPAM -> throw new ValidationException("Message was not sent because it looks like spam");
+            case ACCEPT -> {
+            }
+        }
+        try {
+            ingestQueue.submit(contact);
+        } catch (RuntimeException e) {
+            spamFilter.forget(contact);
+            throw e;
+        }
+        return contactMapper.toDto(contact);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void onContactsIngested(ContactsIngestedEvent event) {
+        countsCache.evictOnCommit(COUNTS_KEY);
     }
 
     @Override
@@ -52,6 +159,7 @@ public class ContactServiceImpl implements ContactService {
         Contact contact = contactRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Contact", "id", id));
 
+        countsCache.evictOnCommit(COUNTS_KEY);
         contact.setRead(true);
         Contact updatedContact = contactRepository.save(contact);
         return contactMapper.toDto(updatedContact);
@@ -61,6 +169,7 @@ public class ContactServiceImpl implements ContactService {
     public void deleteContact(String id) {
         Contact contact = contactRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Contact", "id", id));
+        countsCache.evictOnCommit(COUNTS_KEY);
         contactRepository.delete(contact);
     }
 
@@ -70,4 +179,72 @@ public class ContactServiceImpl implements ContactService {
         List<Contact> contacts = contactRepository.findUnreadContacts();
         return contactMapper.toDtoList(contacts);
     }
+
+    /**
+     * Apply one inbox operation as a single UPDATE or DELETE statement, without loading contacts.
+     * Contacts are selected by ids or, when no ids are given, by a non-empty filter.
+     */
+    @Override
+    public ContactBulkResult applyBulk(ContactBulkRequest request) {
+        List<String> ids = request.getIds();
+        ContactFilter filter = request.getFilter();
+        boolean byIds = ids != null && !ids.isEmpty();
+        if (byIds == (filter != null)) {
+            throw new ValidationException("Select contacts either by ids or by filter");
+        }
+        if (!byIds && filter.isEmpty()) {
+            throw new ValidationException("Filter must have at least one criterion");
+        }
+
+        countsCache.evictOnCommit(COUNTS_KEY);
+        LocalDateTime now = LocalDateTime.now();
+        int affected = switch (request.getAction()) {
+            case MARK_READ, MARK_UNREAD -> {
+                boolean read = request.getAction() == ContactBulkRequest.Action.MARK_READ;
+                yield byIds
+                        ? contactRepository.updateReadByIds(ids, read, now)
+                        : contactRepository.updateReadByFilter(read, now, filter.getRead(), filter.getArchived(),
+                                filter.getFrom(), filter.getTo());
+            }
+            case ARCHIVE, UNARCHIVE -> {
+                boolean archived = request.getAction() == ContactBulkRequest.Action.ARCHIVE;
+                yield byIds
+                        ? contactRepository.updateArchivedByIds(ids, archived, now)
+                        : contactRepository.updateArchivedByFilter(archived, now, filter.getRead(), filter.getArchived(),
+                                filter.getFrom(), filter.getTo());
+            }
+            case DELETE -> byIds
+                    ? contactRepository.deleteByIds(ids)
+                    : contactRepository.deleteByFilter(filter.getRead(), filter.getArchived(),
+                            filter.getFrom(), filter.getTo());
+        };
+        return ContactBulkResult.builder()
+                .action(request.getAction())
+                .affected(affected)
+                .build();
+    }
+
+    /**
+     * Keyset position: the (createdAt, id) of the last contact on the previous page
+     */
+    record Cursor(LocalDateTime createdAt, String id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                if (separator < 0) {
+                    throw new ValidationException("Invalid cursor");
+                }
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new ValidationException("Invalid cursor", e);
+            }
+        }
+    }
 }
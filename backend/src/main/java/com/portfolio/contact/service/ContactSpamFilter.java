@@ -0,0 +1,283 @@
+package com.portfolio.contact.service;
+
+import com.portfolio.contact.entity.Contact;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory screening of contact form submissions before they are journaled.
+ * <p>
+ * Three checks, all against a sliding window of recently accepted messages:
+ * <ul>
+ *   <li>near duplicates: a 64-bit SimHash over word 3-shingles of subject and message; a message within
+ *       {@link #MAX_HAMMING_DISTANCE} bits of a recent one is the same message resent, from any sender
+ *       (short messages such as "Hello" only count as duplicates from the same sender)</li>
+ *   <li>repeat senders: more than {@link #MAX_PER_SENDER} messages from one address per {@link #SENDER_WINDOW}</li>
+ *   <li>spam: a small linear score over links, markup, shouting and stock spam phrases</li>
+ * </ul>
+ * Contact messages are short, so a one-word edit already flips several fingerprint bits; the distance
+ * threshold is set for that, while two unrelated texts come within 10 of 64 bits about once in 10^8.
+ * Only accepted messages enter the window, and the window is bounded, so the filter costs a few
+ * microseconds and a fixed amount of memory per submission.
+ */
+@Component
+public class ContactSpamFilter {
+
+    static final Duration DUPLICATE_WINDOW = Duration.ofHours(24);
+    static final Duration SENDER_WINDOW = Duration.ofHours(1);
+    static final int MAX_PER_SENDER = 3;
+    static final int MAX_HAMMING_DISTANCE = 10;
+    static final int MIN_DUPLICATE_WORDS = 6;
+    static final int MAX_ENTRIES = 5_000;
+    static final double SPAM_THRESHOLD = 1.0;
+
+    private static final Pattern URL = Pattern.compile("(?i)\\b(?:https?://|www\\.)\\S+");
+    private static final Pattern MARKUP = Pattern.compile("(?i)<a\\s+href|\\[url[=\\]]|\\[link[=\\]]");
+    private static final Set<String> SPAM_PHRASES = Set.of(
+        "seo", "backlinks", "casino", "crypto", "bitcoin", "forex", "viagra", "cialis", "loan", "loans",
+        "click here", "buy now", "limited offer", "guest post", "rank your website", "first page of google",
+        "increase your traffic", "earn money", "make money", "work from home", "investment opportunity"
+    );
+
+    private final Clock clock;
+
+    // Guarded by this; oldest first
+    private final Deque<Entry> recent = new ArrayDeque<>();
+
+    @Autowired
+    public ContactSpamFilter() {
+        this(Clock.systemUTC());
+    }
+
+    ContactSpamFilter(Clock clock) {
+        this.clock = clock;
+    }
+
+    public enum Verdict {
+        ACCEPT,
+        DUPLICATE,
+        REPEAT_SENDER,
+        SPAM
+    }
+
+    /**
+     * Screen a contact and, if it passes, remember it for later checks
+     * @param contact Contact with its id assigned
+     * @return ACCEPT, or why it was refused
+     */
+    public Verdict admit(Contact contact) {
+        if (spamScore(contact) >= SPAM_THRESHOLD) {
+            return Verdict.SPAM;
+        }
+        List<String> words = words(text(contact));
+        long fingerprint = simHash(words);
+        boolean shortText = words.size() < MIN_DUPLICATE_WORDS;
+        String sender = normalizeEmail(contact.getEmail());
+        long now = clock.millis();
+
+        synchronized (this) {
+            expire(now);
+            long senderSince = now - SENDER_WINDOW.toMillis();
+            int fromSender = 0;
+            for (Entry entry : recent) {
+                boolean sameSender = entry.sender.equals(sender);
+                if (Long.bitCount(entry.fingerprint ^ fingerprint) <= MAX_HAMMING_DISTANCE && (sameSender || !shortText)) {
+                    return Verdict.DUPLICATE;
+                }
+                if (sameSender && entry.time >= senderSince) {
+                    fromSender++;
+                }
+            }
+            if (fromSender >= MAX_PER_SENDER) {
+                return Verdict.REPEAT_SENDER;
+            }
+            if (recent.size() >= MAX_ENTRIES) {
+                recent.removeFirst();
+            }
+            recent.addLast(new Entry(contact.getId(), fingerprint, sender, now));
+            return Verdict.ACCEPT;
+        }
+    }
+
+    /**
+     * Forget an admitted contact that could not be stored, so resending it is not a duplicate
+     */
+    public synchronized void forget(Contact contact) {
+        recent.removeIf(entry -> entry.id.equals(contact.getId()));
+    }
+
+    /**
+     * Seconds until a sender refused as {@link Verdict#REPEAT_SENDER} may send again
+     */
+    public synchronized long senderRetryAfterSeconds(String email) {
+        String sender = normalizeEmail(email);
+        long now = clock.millis();
+        List<Long> times = new ArrayList<>();
+        for (Entry entry : recent) {
+            if (entry.sender.equals(sender) && entry.time >= now - SENDER_WINDOW.toMillis()) {
+                times.add(entry.time);
+            }
+        }
+        if (times.size() < MAX_PER_SENDER) {
+            return 0;
+        }
+        // The oldest message that still counts has to leave the window
+        long freeAt = times.get(times.size() - MAX_PER_SENDER) + SENDER_WINDOW.toMillis();
+        return Math.max(1, (freeAt - now + 999) / 1000);
+    }
+
+    /**
+     * Score of spam signals; {@link #SPAM_THRESHOLD} and above is spam
+     */
+    static double spamScore(Contact contact) {
+        String message = contact.getMessage() == null ? "" : contact.getMessage();
+        String all = text(contact);
+        double score = 0;
+
+        long links = URL.matcher(all).results().count();
+        score += Math.max(0, links - 1) * 0.35;
+        if (links > 0 && message.length() < 60 * links) {
+            // Mostly links and little else
+            score += 0.5;
+        }
+        if (MARKUP.matcher(all).find()) {
+            score += 0.8;
+        }
+        if (contact.getName() != null && URL.matcher(contact.getName()).find()) {
+            score += 1.0;
+        }
+
+        String lower = all.toLowerCase(Locale.ROOT);
+        for (String phrase : SPAM_PHRASES) {
+            if (containsWord(lower, phrase)) {
+                score += 0.3;
+            }
+        }
+
+        int letters = 0;
+        int upper = 0;
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (Character.isLetter(c)) {
+                letters++;
+                if (Character.isUpperCase(c)) {
+                    upper++;
+                }
+            }
+        }
+        if (letters >= 20 && upper > letters * 0.7) {
+            score += 0.4;
+        }
+        return score;
+    }
+
+    /**
+     * 64-bit SimHash of the word 3-shingles of a text; similar texts differ in few bits
+     */
+    static long simHash(String text) {
+        return simHash(words(text));
+    }
+
+    private static long simHash(List<String> words) {
+        int[] weights = new int[64];
+        int shingles = Math.max(1, words.size() - 2);
+        for (int i = 0; i < shingles; i++) {
+            long hash = hash(words.subList(i, Math.min(words.size(), i + 3)));
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((hash >>> bit) & 1) == 1 ? 1 : -1;
+            }
+        }
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    private void expire(long now) {
+        long since = now - DUPLICATE_WINDOW.toMillis();
+        Iterator<Entry> iterator = recent.iterator();
+        while (iterator.hasNext() && iterator.next().time < since) {
+            iterator.remove();
+        }
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (!word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * FNV-1a over the words, then a SplitMix64 finalizer so every bit depends on every character
+     */
+    private static long hash(List<String> words) {
+        long hash = 0xcbf29ce484222325L;
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                hash ^= word.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= ' ';
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 30;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 27;
+        hash *= 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private static boolean containsWord(String text, String phrase) {
+        int from = 0;
+        while (true) {
+            int index = text.indexOf(phrase, from);
+            if (index < 0) {
+                return false;
+            }
+            int end = index + phrase.length();
+            boolean startsWord = index == 0 || !Character.isLetterOrDigit(text.charAt(index - 1));
+            boolean endsWord = end == text.length() || !Character.isLetterOrDigit(text.charAt(end));
+            if (startsWord && endsWord) {
+                return true;
+            }
+            from = index + 1;
+        }
+    }
+
+    private static String text(Contact contact) {
+        String subject = contact.getSubject() == null ? "" : contact.getSubject();
+        String message = contact.getMessage() == null ? "" : contact.getMessage();
+        return subject + "\n" + message;
+    }
+
+    private static String normalizeEmail(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String id, long fingerprint, String sender, long time) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.portfolio.contact.service;
+
+/**
+ * Published by {@link ContactIngestQueue} after queued or recovered contacts are committed
+ *
+ * @param count Number of contacts inserted
+ */
+public record ContactsIngestedEvent(int count) {
+}
@@ -1,5 +1,6 @@
 package com.portfolio.experience.controller;
 
+import com.portfolio.common.dto.ReorderRequest;
 import com.portfolio.experience.dto.ExperienceDto;
 import com.portfolio.experience.service.ExperienceService;
 import jakarta.validation.Valid;
@@ -19,9 +20,14 @@ public class ExperienceController {
     @Autowired
     private ExperienceService experienceService;
 
+    /**
+     * All experiences, or only those using a technology when {@code tech} is given
+     */
     @GetMapping
-    public ResponseEntity<List<ExperienceDto>> getAllExperiences() {
-        List<ExperienceDto> experiences = experienceService.getAllExperiences();
+    public ResponseEntity<List<ExperienceDto>> getAllExperiences(@RequestParam(required = false) String tech) {
+        List<ExperienceDto> experiences = tech == null || tech.isBlank()
+                ? experienceService.getAllExperiences()
+                : experienceService.getExperiencesByTechnology(tech);
         return ResponseEntity.ok(experiences);
     }
 
@@ -51,6 +57,18 @@ public class ExperienceController {
         return ResponseEntity.ok(updatedExperience);
     }
 
+    /**
+     * Reorder experiences in one request
+     * ADMIN only
+     * @param request Experience ids in their new order
+     */
+    @PutMapping("/order")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<Void> reorderExperiences(@Valid @RequestBody ReorderRequest request) {
+        experienceService.reorderExperiences(request.getIds());
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('admin')")
     public ResponseEntity<Void> deleteExperience(@PathVariable String id) {
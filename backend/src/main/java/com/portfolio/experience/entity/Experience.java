@@ -1,14 +1,12 @@
 package com.portfolio.experience.entity;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.common.converter.CompressedTextConverter;
+import com.portfolio.common.converter.StringListJsonConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,12 +25,14 @@ import java.util.UUID;
     @NamedQuery(
         name = "Experience.findCurrentExperiences",
         query = "SELECT e FROM Experience e WHERE e.endDate IS NULL ORDER BY e.startDate DESC"
+    ),
+    @NamedQuery(
+        name = "Experience.findByIdsOrderedBySort",
+        query = "SELECT e FROM Experience e WHERE e.id IN :ids ORDER BY e.sortOrder"
     )
 })
 public class Experience {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
     @Id
     @Column(length = 36)
     private String id;
@@ -49,11 +49,14 @@ public class Experience {
     @Column(name = "end_date")
     private LocalDate endDate;
 
-    @Column(columnDefinition = "TEXT")
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB")
     private String description;
 
+    @Convert(converter = StringListJsonConverter.class)
     @Column(columnDefinition = "JSON")
-    private String technologies;
+    private List<String> technologies;
 
     @Transient
     private String companyUrl;
@@ -84,28 +87,4 @@ public class Experience {
     protected void preUpdate() {
         updatedAt = LocalDateTime.now();
     }
-
-    @Transient
-    public List<String> getTechnologiesList() {
-        if (technologies == null || technologies.isEmpty()) {
-            return new ArrayList<>();
-        }
-        try {
-            return objectMapper.readValue(technologies, new TypeReference<List<String>>() {});
-        } catch (JsonProcessingException e) {
-            return new ArrayList<>();
-        }
-    }
-
-    public void setTechnologiesList(List<String> technologiesList) {
-        if (technologiesList == null || technologiesList.isEmpty()) {
-            this.technologies = null;
-            return;
-        }
-        try {
-            this.technologies = objectMapper.writeValueAsString(technologiesList);
-        } catch (JsonProcessingException e) {
-            this.technologies = null;
-        }
-    }
 }
@@ -3,9 +3,12 @@ package com.portfolio.experience.repository;
 import com.portfolio.experience.entity.Experience;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ExperienceRepository extends JpaRepository<Experience, String> {
@@ -15,4 +18,15 @@ public interface ExperienceRepository extends JpaRepository<Experience, String>
 
     @Query(name = "Experience.findCurrentExperiences")
     List<Experience> findCurrentExperiences();
+
+    @Query(name = "Experience.findByIdsOrderedBySort")
+    List<Experience> findByIdsOrderedBySort(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT e.id AS id, e.technologies AS technologies, e.startDate AS startDate, e.endDate AS endDate"
+            + " FROM Experience e")
+    List<ExperienceTechnologiesView> findAllTechnologies();
+
+    @Query("SELECT e.id AS id, e.technologies AS technologies, e.startDate AS startDate, e.endDate AS endDate"
+            + " FROM Experience e WHERE e.id = :id")
+    Optional<ExperienceTechnologiesView> findTechnologiesById(@Param("id") String id);
 }
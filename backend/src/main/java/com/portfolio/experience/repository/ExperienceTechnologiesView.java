@@ -0,0 +1,14 @@
+package com.portfolio.experience.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Technologies and dates of an experience, used to build the technology index.
+ */
+public interface ExperienceTechnologiesView {
+    String getId();
+    List<String> getTechnologies();
+    LocalDate getStartDate();
+    LocalDate getEndDate();
+}
@@ -10,5 +10,7 @@ public interface ExperienceService {
     ExperienceDto createExperience(ExperienceDto experienceDto);
     ExperienceDto updateExperience(String id, ExperienceDto experienceDto);
     void deleteExperience(String id);
+    void reorderExperiences(List<String> ids);
     List<ExperienceDto> getCurrentExperiences();
+    List<ExperienceDto> getExperiencesByTechnology(String technology);
 }
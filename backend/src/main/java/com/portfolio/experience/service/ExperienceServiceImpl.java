@@ -1,15 +1,22 @@
 package com.portfolio.experience.service;
 
+import com.portfolio.common.event.ContentChangedEvent;
+import com.portfolio.common.event.ContentChangedEvent.ChangeType;
+import com.portfolio.common.event.ContentChangedEvent.ContentType;
 import com.portfolio.common.exception.ResourceNotFoundException;
+import com.portfolio.common.repository.SortOrderUpdater;
 import com.portfolio.experience.dto.ExperienceDto;
 import com.portfolio.experience.dto.ExperienceMapper;
 import com.portfolio.experience.entity.Experience;
 import com.portfolio.experience.repository.ExperienceRepository;
+import com.portfolio.technology.service.TechnologyIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -17,11 +24,19 @@ public class ExperienceServiceImpl implements ExperienceService {
 
     private final ExperienceRepository experienceRepository;
     private final ExperienceMapper experienceMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TechnologyIndex technologyIndex;
+    private final SortOrderUpdater sortOrderUpdater;
 
     @Autowired
-    public ExperienceServiceImpl(ExperienceRepository experienceRepository, ExperienceMapper experienceMapper) {
+    public ExperienceServiceImpl(ExperienceRepository experienceRepository, ExperienceMapper experienceMapper,
+                                 ApplicationEventPublisher eventPublisher, TechnologyIndex technologyIndex,
+                                 SortOrderUpdater sortOrderUpdater) {
         this.experienceRepository = experienceRepository;
         this.experienceMapper = experienceMapper;
+        this.eventPublisher = eventPublisher;
+        this.technologyIndex = technologyIndex;
+        this.sortOrderUpdater = sortOrderUpdater;
     }
 
     @Override
@@ -43,6 +58,7 @@ public class ExperienceServiceImpl implements ExperienceService {
     public ExperienceDto createExperience(ExperienceDto experienceDto) {
         Experience experience = experienceMapper.toEntity(experienceDto);
         Experience savedExperience = experienceRepository.save(experience);
+        publishChange(savedExperience.getId(), ChangeType.CREATED);
         return experienceMapper.toDto(savedExperience);
     }
 
@@ -53,6 +69,7 @@ public class ExperienceServiceImpl implements ExperienceService {
 
         experienceMapper.updateEntityFromDto(experienceDto, experience);
         Experience updatedExperience = experienceRepository.save(experience);
+        publishChange(id, ChangeType.UPDATED);
         return experienceMapper.toDto(updatedExperience);
     }
 
@@ -61,6 +78,13 @@ public class ExperienceServiceImpl implements ExperienceService {
         Experience experience = experienceRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Experience", "id", id));
         experienceRepository.delete(experience);
+        publishChange(id, ChangeType.DELETED);
+    }
+
+    @Override
+    public void reorderExperiences(List<String> ids) {
+        sortOrderUpdater.reorder("experiences", "Experience", ids);
+        publishChange(null, ChangeType.REORDERED);
     }
 
     @Override
@@ -69,4 +93,18 @@ public class ExperienceServiceImpl implements ExperienceService {
         List<Experience> experiences = experienceRepository.findCurrentExperiences();
         return experienceMapper.toDtoList(experiences);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ExperienceDto> getExperiencesByTechnology(String technology) {
+        Set<String> ids = technologyIndex.experienceIds(technology);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return experienceMapper.toDtoList(experienceRepository.findByIdsOrderedBySort(ids));
+    }
+
+    private void publishChange(String id, ChangeType changeType) {
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentType.EXPERIENCE, id, changeType));
+    }
 }
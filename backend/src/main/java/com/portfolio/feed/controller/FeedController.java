@@ -0,0 +1,56 @@
+package com.portfolio.feed.controller;
+
+import com.portfolio.feed.service.CachedFeed;
+import com.portfolio.feed.service.FeedService;
+import com.portfolio.feed.service.FeedType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RSS, Atom and sitemap endpoints.
+ * Responses carry an ETag and Last-Modified, so conditional requests are answered with 304.
+ */
+@RestController
+@RequestMapping("/api/feed")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class FeedController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(10, TimeUnit.MINUTES).cachePublic();
+
+    @Autowired
+    private FeedService feedService;
+
+    @GetMapping("/rss.xml")
+    public ResponseEntity<byte[]> getRssFeed() {
+        return toResponse(FeedType.RSS);
+    }
+
+    @GetMapping("/atom.xml")
+    public ResponseEntity<byte[]> getAtomFeed() {
+        return toResponse(FeedType.ATOM);
+    }
+
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<byte[]> getSitemap() {
+        return toResponse(FeedType.SITEMAP);
+    }
+
+    private ResponseEntity<byte[]> toResponse(FeedType type) {
+        CachedFeed feed = feedService.getFeed(type);
+        // ResponseEntity handling turns a matching If-None-Match / If-Modified-Since into a 304
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(type.getContentType() + ";charset=UTF-8"))
+                .eTag(feed.etag())
+                .lastModified(feed.lastModified())
+                .cacheControl(CACHE_CONTROL)
+                .body(feed.body());
+    }
+}
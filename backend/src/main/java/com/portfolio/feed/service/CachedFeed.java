@@ -0,0 +1,14 @@
+package com.portfolio.feed.service;
+
+import java.time.Instant;
+
+/**
+ * A generated feed document together with its validators.
+ *
+ * @param body Encoded XML
+ * @param etag Strong ETag derived from the body
+ * @param lastModified Most recent update of the content in the document
+ * @param contentVersion Content version the document was generated from
+ */
+public record CachedFeed(byte[] body, String etag, Instant lastModified, long contentVersion) {
+}
@@ -0,0 +1,142 @@
+package com.portfolio.feed.service;
+
+import com.portfolio.blog.repository.BlogRepository;
+import com.portfolio.blog.repository.BlogSummaryView;
+import com.portfolio.common.event.ContentChangedEvent;
+import com.portfolio.config.SystemPropertiesConfig;
+import com.portfolio.project.repository.ProjectRepository;
+import com.portfolio.project.repository.ProjectSitemapView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves the RSS, Atom and sitemap documents.
+ * Each document is generated once and kept with its ETag until a {@link ContentChangedEvent}
+ * bumps the content version; the next request after that regenerates it.
+ */
+@Service
+public class FeedService {
+
+    /**
+     * Number of most recent posts included in the RSS and Atom feeds (the sitemap lists all)
+     */
+    static final int FEED_ENTRY_LIMIT = 50;
+
+    private final BlogRepository blogRepository;
+    private final ProjectRepository projectRepository;
+    private final SystemPropertiesConfig systemPropertiesConfig;
+    private final ZoneId zone;
+
+    private final Map<FeedType, CachedFeed> cache = new ConcurrentHashMap<>();
+    private final AtomicLong contentVersion = new AtomicLong();
+
+    @Autowired
+    public FeedService(BlogRepository blogRepository, ProjectRepository projectRepository,
+                       SystemPropertiesConfig systemPropertiesConfig) {
+        this(blogRepository, projectRepository, systemPropertiesConfig, ZoneId.systemDefault());
+    }
+
+    FeedService(BlogRepository blogRepository, ProjectRepository projectRepository,
+                SystemPropertiesConfig systemPropertiesConfig, ZoneId zone) {
+        this.blogRepository = blogRepository;
+        this.projectRepository = projectRepository;
+        this.systemPropertiesConfig = systemPropertiesConfig;
+        this.zone = zone;
+    }
+
+    /**
+     * Get a feed document, generating it only if content changed since it was last built
+     * @param type Feed to return
+     * @return Cached document with its ETag
+     */
+    @Transactional(readOnly = true)
+    public CachedFeed getFeed(FeedType type) {
+        long version = contentVersion.get();
+        CachedFeed cached = cache.get(type);
+        if (cached != null && cached.contentVersion() == version) {
+            return cached;
+        }
+        // A change arriving mid-generation leaves the entry on the older version, so it is rebuilt next time
+        return cache.compute(type, (key, existing) ->
+                existing != null && existing.contentVersion() == version ? existing : generate(key, version));
+    }
+
+    /**
+     * Invalidate cached documents once the change is committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        // Feeds and the sitemap only list blogs and projects
+        if (event.contentType() == ContentChangedEvent.ContentType.EXPERIENCE) {
+            return;
+        }
+        contentVersion.incrementAndGet();
+    }
+
+    private CachedFeed generate(FeedType type, long version) {
+        List<BlogSummaryView> blogs = blogRepository.findPublishedSummaries();
+        LocalDateTime blogsUpdated = blogs.stream()
+                .map(BlogSummaryView::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        LocalDateTime projectsUpdated = projectRepository.findLatestUpdate();
+        LocalDateTime siteUpdated = latest(blogsUpdated, projectsUpdated);
+
+        FeedXmlWriter writer = new FeedXmlWriter(
+                systemPropertiesConfig.getSiteUrl(), systemPropertiesConfig.getSiteTitle(), zone);
+        List<BlogSummaryView> recent = blogs.subList(0, Math.min(blogs.size(), FEED_ENTRY_LIMIT));
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+
+        try {
+            switch (type) {
+                case RSS -> writer.writeRss(recent, blogsUpdated, out);
+                case ATOM -> writer.writeAtom(recent, blogsUpdated, out);
+                case SITEMAP -> {
+                    List<ProjectSitemapView> projects = projectRepository.findSitemapEntries();
+                    writer.writeSitemap(blogs, projects, siteUpdated, blogsUpdated, out);
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("Failed to write " + type + " feed", e);
+        }
+
+        byte[] body = out.toByteArray();
+        LocalDateTime lastModified = type == FeedType.SITEMAP ? siteUpdated : blogsUpdated;
+        return new CachedFeed(body, etag(body),
+                lastModified == null ? Instant.EPOCH : lastModified.atZone(zone).toInstant(), version);
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
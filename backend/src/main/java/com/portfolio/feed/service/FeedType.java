@@ -0,0 +1,20 @@
+package com.portfolio.feed.service;
+
+/**
+ * Documents served by the feed endpoints
+ */
+public enum FeedType {
+    RSS("application/rss+xml"),
+    ATOM("application/atom+xml"),
+    SITEMAP("application/xml");
+
+    private final String contentType;
+
+    FeedType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,200 @@
+package com.portfolio.feed.service;
+
+import com.portfolio.blog.repository.BlogSummaryView;
+import com.portfolio.project.repository.ProjectSitemapView;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Streams RSS 2.0, Atom 1.0 and sitemap documents straight to an output stream
+ * without building a DOM.
+ */
+final class FeedXmlWriter {
+
+    private static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
+    private static final String SITEMAP_NAMESPACE = "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private final String siteUrl;
+    private final String siteTitle;
+    private final ZoneId zone;
+
+    FeedXmlWriter(String siteUrl, String siteTitle, ZoneId zone) {
+        this.siteUrl = siteUrl.endsWith("/") ? siteUrl.substring(0, siteUrl.length() - 1) : siteUrl;
+        this.siteTitle = siteTitle;
+        this.zone = zone;
+    }
+
+    void writeRss(List<BlogSummaryView> blogs, LocalDateTime updated, OutputStream out) throws XMLStreamException {
+        XMLStreamWriter xml = open(out);
+        xml.writeStartElement("rss");
+        xml.writeAttribute("version", "2.0");
+        xml.writeNamespace("atom", ATOM_NAMESPACE);
+        xml.writeStartElement("channel");
+
+        element(xml, "title", siteTitle);
+        element(xml, "link", blogIndexUrl());
+        element(xml, "description", "Latest posts from " + siteTitle);
+        xml.writeEmptyElement("atom", "link", ATOM_NAMESPACE);
+        xml.writeAttribute("href", feedUrl("rss.xml"));
+        xml.writeAttribute("rel", "self");
+        xml.writeAttribute("type", FeedType.RSS.getContentType());
+        if (updated != null) {
+            element(xml, "lastBuildDate", rfc1123(updated));
+        }
+
+        for (BlogSummaryView blog : blogs) {
+            xml.writeStartElement("item");
+            element(xml, "title", blog.getTitle());
+            element(xml, "link", blogUrl(blog));
+            xml.writeStartElement("guid");
+            xml.writeAttribute("isPermaLink", "true");
+            xml.writeCharacters(blogUrl(blog));
+            xml.writeEndElement();
+            if (blog.getPublishedDate() != null) {
+                element(xml, "pubDate", rfc1123(blog.getPublishedDate()));
+            }
+            if (blog.getExcerpt() != null) {
+                element(xml, "description", blog.getExcerpt());
+            }
+            for (String tag : blog.getTags()) {
+                element(xml, "category", tag);
+            }
+            xml.writeEndElement();
+        }
+
+        xml.writeEndElement();
+        xml.writeEndElement();
+        close(xml);
+    }
+
+    void writeAtom(List<BlogSummaryView> blogs, LocalDateTime updated, OutputStream out) throws XMLStreamException {
+        XMLStreamWriter xml = open(out);
+        xml.setDefaultNamespace(ATOM_NAMESPACE);
+        xml.writeStartElement(ATOM_NAMESPACE, "feed");
+        xml.writeDefaultNamespace(ATOM_NAMESPACE);
+
+        element(xml, "id", blogIndexUrl());
+        element(xml, "title", siteTitle);
+        element(xml, "updated", iso(updated != null ? updated : LocalDateTime.of(1970, 1, 1, 0, 0)));
+        link(xml, "self", feedUrl("atom.xml"), FeedType.ATOM.getContentType());
+        link(xml, "alternate", blogIndexUrl(), "text/html");
+        xml.writeStartElement(ATOM_NAMESPACE, "author");
+        element(xml, "name", siteTitle);
+        xml.writeEndElement();
+
+        for (BlogSummaryView blog : blogs) {
+            xml.writeStartElement(ATOM_NAMESPACE, "entry");
+            element(xml, "id", blogUrl(blog));
+            element(xml, "title", blog.getTitle());
+            link(xml, "alternate", blogUrl(blog), "text/html");
+            LocalDateTime published = blog.getPublishedDate() != null ? blog.getPublishedDate() : blog.getUpdatedAt();
+            LocalDateTime entryUpdated = blog.getUpdatedAt() != null ? blog.getUpdatedAt() : published;
+            if (published != null) {
+                element(xml, "published", iso(published));
+            }
+            if (entryUpdated != null) {
+                element(xml, "updated", iso(entryUpdated));
+            }
+            if (blog.getExcerpt() != null) {
+                element(xml, "summary", blog.getExcerpt());
+            }
+            for (String tag : blog.getTags()) {
+                xml.writeEmptyElement(ATOM_NAMESPACE, "category");
+                xml.writeAttribute("term", tag);
+            }
+            xml.writeEndElement();
+        }
+
+        xml.writeEndElement();
+        close(xml);
+    }
+
+    void writeSitemap(List<BlogSummaryView> blogs, List<ProjectSitemapView> projects, LocalDateTime homeUpdated,
+                      LocalDateTime blogsUpdated, OutputStream out) throws XMLStreamException {
+        XMLStreamWriter xml = open(out);
+        xml.setDefaultNamespace(SITEMAP_NAMESPACE);
+        xml.writeStartElement(SITEMAP_NAMESPACE, "urlset");
+        xml.writeDefaultNamespace(SITEMAP_NAMESPACE);
+
+        url(xml, siteUrl + "/", homeUpdated);
+        url(xml, blogIndexUrl(), blogsUpdated);
+        for (BlogSummaryView blog : blogs) {
+            url(xml, blogUrl(blog), blog.getUpdatedAt());
+        }
+        for (ProjectSitemapView project : projects) {
+            url(xml, projectUrl(project), project.getUpdatedAt());
+        }
+
+        xml.writeEndElement();
+        close(xml);
+    }
+
+    private XMLStreamWriter open(OutputStream out) throws XMLStreamException {
+        XMLStreamWriter xml = OUTPUT_FACTORY.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+        xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+        return xml;
+    }
+
+    private void close(XMLStreamWriter xml) throws XMLStreamException {
+        xml.writeEndDocument();
+        xml.flush();
+        xml.close();
+    }
+
+    private void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(text == null ? "" : text);
+        xml.writeEndElement();
+    }
+
+    private void link(XMLStreamWriter xml, String rel, String href, String type) throws XMLStreamException {
+        xml.writeEmptyElement(ATOM_NAMESPACE, "link");
+        xml.writeAttribute("rel", rel);
+        xml.writeAttribute("type", type);
+        xml.writeAttribute("href", href);
+    }
+
+    private void url(XMLStreamWriter xml, String loc, LocalDateTime lastModified) throws XMLStreamException {
+        xml.writeStartElement(SITEMAP_NAMESPACE, "url");
+        element(xml, "loc", loc);
+        if (lastModified != null) {
+            element(xml, "lastmod", iso(lastModified));
+        }
+        xml.writeEndElement();
+    }
+
+    private String blogIndexUrl() {
+        return siteUrl + "/blog";
+    }
+
+    private String blogUrl(BlogSummaryView blog) {
+        return siteUrl + "/blog/" + blog.getSlug();
+    }
+
+    private String projectUrl(ProjectSitemapView project) {
+        return siteUrl + "/projects/" + project.getId();
+    }
+
+    private String feedUrl(String name) {
+        return siteUrl + "/api/feed/" + name;
+    }
+
+    private String rfc1123(LocalDateTime dateTime) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.of(dateTime, zone));
+    }
+
+    private String iso(LocalDateTime dateTime) {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(ZonedDateTime.of(dateTime.withNano(0), zone));
+    }
+}
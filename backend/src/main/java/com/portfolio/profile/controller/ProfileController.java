@@ -1,5 +1,6 @@
 package com.portfolio.profile.controller;
 
+import com.portfolio.common.dto.ReorderRequest;
 import com.portfolio.profile.dto.AvatarUploadRequest;
 import com.portfolio.profile.dto.ProfileDto;
 import com.portfolio.profile.dto.ResumeUploadRequest;
@@ -11,7 +12,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Duration;
-import java.util.Base64;
 
 @RestController
 @RequestMapping("/api/profile")
@@ -34,6 +34,18 @@ public class ProfileController {
         return ResponseEntity.ok(updatedProfile);
     }
 
+    /**
+     * Reorder social links in one request
+     * ADMIN only
+     * @param request Social link ids in their new order
+     */
+    @PutMapping("/social-links/order")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<Void> reorderSocialLinks(@Valid @RequestBody ReorderRequest request) {
+        profileService.reorderSocialLinks(request.getIds());
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Upload avatar image
      * ADMIN only
@@ -76,29 +88,40 @@ public class ProfileController {
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * Get avatar image (public endpoint)
+     * Served separately so the profile JSON does not carry the image; clients add ?v=avatarUpdatedAt
+     */
+    @GetMapping("/avatar")
+    public ResponseEntity<byte[]> getAvatar() {
+        return profileService.getAvatar()
+            .map(avatar -> {
+                HttpHeaders headers = new HttpHeaders();
+                headers.setContentType(MediaType.parseMediaType(avatar.getContentType()));
+                headers.setCacheControl(CacheControl.maxAge(Duration.ofDays(7)).cachePublic());
+                return new ResponseEntity<>(avatar.getData(), headers, HttpStatus.OK);
+            })
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     /**
      * Get resume PDF (public endpoint)
      * Returns the resume PDF for inline viewing or download
      */
     @GetMapping("/resume")
     public ResponseEntity<byte[]> getResume() {
-        ProfileDto profile = profileService.getProfile();
-
-        if (profile.getResumeBase64() == null) {
-            return ResponseEntity.notFound().build();
-        }
-
-        byte[] resumeData = Base64.getDecoder().decode(profile.getResumeBase64());
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_PDF);
-        headers.setContentDisposition(
-            ContentDisposition.inline()
-                .filename("resume.pdf")
-                .build()
-        );
-        headers.setCacheControl(CacheControl.maxAge(Duration.ofDays(7)).cachePublic());
-
-        return new ResponseEntity<>(resumeData, headers, HttpStatus.OK);
+        return profileService.getResume()
+            .map(resume -> {
+                HttpHeaders headers = new HttpHeaders();
+                headers.setContentType(MediaType.APPLICATION_PDF);
+                headers.setContentDisposition(
+                    ContentDisposition.inline()
+                        .filename("resume.pdf")
+                        .build()
+                );
+                headers.setCacheControl(CacheControl.maxAge(Duration.ofDays(7)).cachePublic());
+                return new ResponseEntity<>(resume.getData(), headers, HttpStatus.OK);
+            })
+            .orElseGet(() -> ResponseEntity.notFound().build());
     }
 }
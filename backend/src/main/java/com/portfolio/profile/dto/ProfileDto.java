@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -43,6 +44,9 @@ public class ProfileDto {
     @JsonProperty("avatarFileSize")
     private Integer avatarFileSize;
 
+    @JsonProperty("avatarUpdatedAt")
+    private LocalDateTime avatarUpdatedAt;
+
     private String resumeUrl;
 
     @JsonProperty("resumeBase64")
@@ -12,8 +12,9 @@ import java.util.List;
 @Mapper(componentModel = "spring", uses = {SocialLinkMapper.class})
 public interface ProfileMapper {
 
-    @Mapping(target = "avatarBase64", expression = "java(encodeAvatar(profile.getAvatarData()))")
-    @Mapping(target = "resumeBase64", expression = "java(encodeResume(profile.getResumeData()))")
+    // The files are served by their own endpoints; reading them here would load both blobs
+    @Mapping(target = "avatarBase64", ignore = true)
+    @Mapping(target = "resumeBase64", ignore = true)
     ProfileDto toDto(Profile profile);
 
     @Mapping(target = "socialLinks", ignore = true)
@@ -43,22 +44,6 @@ public interface ProfileMapper {
     @Mapping(target = "resumeUpdatedAt", ignore = true)
     void updateEntityFromDto(ProfileDto dto, @MappingTarget Profile profile);
 
-    // Helper method for Base64 encoding
-    default String encodeAvatar(byte[] avatarData) {
-        if (avatarData == null || avatarData.length == 0) {
-            return null;
-        }
-        return Base64.getEncoder().encodeToString(avatarData);
-    }
-
-    // Helper method for Base64 encoding resume
-    default String encodeResume(byte[] resumeData) {
-        if (resumeData == null || resumeData.length == 0) {
-            return null;
-        }
-        return Base64.getEncoder().encodeToString(resumeData);
-    }
-
     // Helper method for Base64 decoding
     default byte[] decodeAvatar(String avatarBase64) {
         if (avatarBase64 == null || avatarBase64.isEmpty()) {
@@ -2,6 +2,7 @@ package com.portfolio.profile.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.LazyGroup;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,6 +16,17 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@NamedEntityGraph(name = "Profile.socialLinks", attributeNodes = @NamedAttributeNode("socialLinks"))
+@NamedQueries({
+    @NamedQuery(
+        name = "Profile.findSingleton",
+        query = "SELECT p FROM Profile p ORDER BY p.createdAt"
+    ),
+    @NamedQuery(
+        name = "Profile.findWithSocialLinksById",
+        query = "SELECT p FROM Profile p WHERE p.id = :id"
+    )
+})
 public class Profile {
 
     @Id
@@ -42,7 +54,13 @@ public class Profile {
     @Column(name = "avatar_url", length = 500)
     private String avatarUrl;
 
+    /**
+     * Loaded on first access only (the build enhances entities for lazy attributes),
+     * so reading the profile never pulls the image
+     */
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("avatar")
     @Column(name = "avatar_data", columnDefinition = "LONGBLOB")
     private byte[] avatarData;
 
@@ -56,6 +74,8 @@ public class Profile {
     private LocalDateTime avatarUpdatedAt;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("resume")
     @Column(name = "resume_data", columnDefinition = "LONGBLOB")
     private byte[] resumeData;
 
@@ -72,6 +92,7 @@ public class Profile {
     private String resumeUrl;
 
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortOrder")
     @Builder.Default
     private List<SocialLink> socialLinks = new ArrayList<>();
 
@@ -0,0 +1,9 @@
+package com.portfolio.profile.repository;
+
+/**
+ * A file stored on the profile (avatar or resume) with its content type.
+ */
+public interface ProfileFileView {
+    byte[] getData();
+    String getContentType();
+}
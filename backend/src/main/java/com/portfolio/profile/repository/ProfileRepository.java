@@ -1,9 +1,32 @@
 package com.portfolio.profile.repository;
 
 import com.portfolio.profile.entity.Profile;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, String> {
+
+    /**
+     * Every profile with its social links in one query; the portfolio has a single row
+     */
+    @EntityGraph("Profile.socialLinks")
+    @Query(name = "Profile.findSingleton")
+    List<Profile> findSingleton();
+
+    @EntityGraph("Profile.socialLinks")
+    @Query(name = "Profile.findWithSocialLinksById")
+    Optional<Profile> findWithSocialLinksById(@Param("id") String id);
+
+    @Query("SELECT p.avatarData AS data, p.avatarContentType AS contentType FROM Profile p WHERE p.id = :id")
+    Optional<ProfileFileView> findAvatarById(@Param("id") String id);
+
+    @Query("SELECT p.resumeData AS data, p.resumeContentType AS contentType FROM Profile p WHERE p.id = :id")
+    Optional<ProfileFileView> findResumeById(@Param("id") String id);
 }
@@ -1,10 +1,17 @@
 package com.portfolio.profile.service;
 
 import com.portfolio.profile.dto.ProfileDto;
+import com.portfolio.profile.repository.ProfileFileView;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface ProfileService {
     ProfileDto getProfile();
+    Optional<ProfileFileView> getAvatar();
+    Optional<ProfileFileView> getResume();
     ProfileDto updateProfile(ProfileDto profileDto);
     ProfileDto updateAvatar(String profileId, String avatarBase64, String contentType);
     ProfileDto updateResume(String profileId, String resumeBase64, String contentType);
+    void reorderSocialLinks(List<String> ids);
 }
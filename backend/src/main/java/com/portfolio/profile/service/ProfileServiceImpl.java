@@ -1,21 +1,33 @@
 package com.portfolio.profile.service;
 
+import com.portfolio.common.cache.CommitAwareCache;
 import com.portfolio.common.exception.ResourceNotFoundException;
+import com.portfolio.common.repository.SortOrderUpdater;
 import com.portfolio.profile.dto.ProfileDto;
 import com.portfolio.profile.dto.ProfileMapper;
+import com.portfolio.profile.dto.SocialLinkDto;
 import com.portfolio.profile.dto.SocialLinkMapper;
 import com.portfolio.profile.entity.Profile;
 import com.portfolio.profile.entity.SocialLink;
+import com.portfolio.profile.repository.ProfileFileView;
 import com.portfolio.profile.repository.ProfileRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
-
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The portfolio has a single profile. Its id is remembered after the first lookup and the
+ * mapped profile is kept until the next write, so public profile reads cost one query
+ * (profile and social links through an entity graph, without the avatar and resume blobs) or none.
+ */
 @Service
 @Transactional
 public class ProfileServiceImpl implements ProfileService {
@@ -25,56 +37,68 @@ public class ProfileServiceImpl implements ProfileService {
     private final SocialLinkMapper socialLinkMapper;
     private final AvatarValidationService avatarValidationService;
     private final ResumeValidationService resumeValidationService;
+    private final SortOrderUpdater sortOrderUpdater;
+
+    private static final String PROFILE_KEY = "default";
+
+    private volatile String profileId;
+    private final CommitAwareCache<String, ProfileDto> profileCache = new CommitAwareCache<>();
 
     @Autowired
     public ProfileServiceImpl(ProfileRepository profileRepository,
                              ProfileMapper profileMapper,
                              SocialLinkMapper socialLinkMapper,
                              AvatarValidationService avatarValidationService,
-                             ResumeValidationService resumeValidationService) {
+                             ResumeValidationService resumeValidationService,
+                             SortOrderUpdater sortOrderUpdater) {
         this.profileRepository = profileRepository;
         this.profileMapper = profileMapper;
         this.socialLinkMapper = socialLinkMapper;
         this.avatarValidationService = avatarValidationService;
         this.resumeValidationService = resumeValidationService;
+        this.sortOrderUpdater = sortOrderUpdater;
     }
 
     @Override
     @Transactional(readOnly = true)
     public ProfileDto getProfile() {
-        List<Profile> profiles = profileRepository.findAll();
-        if (profiles.isEmpty()) {
-            throw new ResourceNotFoundException("Profile", "id", "default");
-        }
-        return profileMapper.toDto(profiles.get(0));
+        return profileCache.get(PROFILE_KEY, key -> profileMapper.toDto(findSingleton()
+            .orElseThrow(() -> new ResourceNotFoundException("Profile", "id", key))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProfileFileView> getAvatar() {
+        return resolveProfileId()
+            .flatMap(profileRepository::findAvatarById)
+            .filter(file -> file.getData() != null && file.getData().length > 0);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProfileFileView> getResume() {
+        return resolveProfileId()
+            .flatMap(profileRepository::findResumeById)
+            .filter(file -> file.getData() != null && file.getData().length > 0);
     }
 
     @Override
     public ProfileDto updateProfile(ProfileDto profileDto) {
-        List<Profile> profiles = profileRepository.findAll();
+        profileCache.evictOnCommit(PROFILE_KEY);
+        Optional<Profile> existing = findSingleton();
         Profile profile;
 
-        if (profiles.isEmpty()) {
+        if (existing.isEmpty()) {
             profile = profileMapper.toEntity(profileDto);
         } else {
-            profile = profiles.get(0);
+            profile = existing.get();
             profileMapper.updateEntityFromDto(profileDto, profile);
         }
 
-        // Update social links
-        profile.getSocialLinks().clear();
-        if (profileDto.getSocialLinks() != null) {
-            List<SocialLink> socialLinks = profileDto.getSocialLinks().stream()
-                .map(dto -> {
-                    SocialLink link = socialLinkMapper.toEntity(dto);
-                    link.setProfile(profile);
-                    return link;
-                })
-                .collect(Collectors.toList());
-            profile.getSocialLinks().addAll(socialLinks);
-        }
+        mergeSocialLinks(profile, profileDto.getSocialLinks());
 
         Profile updatedProfile = profileRepository.save(profile);
+        profileId = updatedProfile.getId();
         return profileMapper.toDto(updatedProfile);
     }
 
@@ -83,18 +107,8 @@ public class ProfileServiceImpl implements ProfileService {
         // Validate avatar data
         avatarValidationService.validateAvatar(avatarBase64, contentType);
 
-        // Get profile - use the first profile if profileId is "default" or not found
-        Profile profile;
-        if ("default".equals(profileId)) {
-            List<Profile> profiles = profileRepository.findAll();
-            if (profiles.isEmpty()) {
-                throw new ResourceNotFoundException("Profile", "id", profileId);
-            }
-            profile = profiles.get(0);
-        } else {
-            profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile", "id", profileId));
-        }
+        profileCache.evictOnCommit(PROFILE_KEY);
+        Profile profile = findForUpdate(profileId);
 
         // Decode and update avatar
         byte[] avatarData = Base64.getDecoder().decode(avatarBase64);
@@ -113,18 +127,8 @@ public class ProfileServiceImpl implements ProfileService {
         // Validate resume data
         byte[] resumeData = resumeValidationService.validateAndDecode(resumeBase64, contentType);
 
-        // Get profile - use the first profile if profileId is "default" or not found
-        Profile profile;
-        if ("default".equals(profileId)) {
-            List<Profile> profiles = profileRepository.findAll();
-            if (profiles.isEmpty()) {
-                throw new ResourceNotFoundException("Profile", "id", profileId);
-            }
-            profile = profiles.get(0);
-        } else {
-            profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ResourceNotFoundException("Profile", "id", profileId));
-        }
+        profileCache.evictOnCommit(PROFILE_KEY);
+        Profile profile = findForUpdate(profileId);
 
         // Update resume
         profile.setResumeData(resumeData);
@@ -136,4 +140,90 @@ public class ProfileServiceImpl implements ProfileService {
         Profile saved = profileRepository.save(profile);
         return profileMapper.toDto(saved);
     }
+
+    @Override
+    public void reorderSocialLinks(List<String> ids) {
+        profileCache.evictOnCommit(PROFILE_KEY);
+        sortOrderUpdater.reorder("social_links", "SocialLink", ids);
+    }
+
+    /**
+     * Bring the profile's social links in line with the submitted list.
+     * Each submitted link is matched to an existing one by id, then by platform; matched links
+     * are updated in place (dirty checking skips unchanged rows), the rest are inserted, and
+     * existing links left unmatched are removed. Saving an unchanged profile writes no link rows.
+     */
+    private void mergeSocialLinks(Profile profile, List<SocialLinkDto> submitted) {
+        List<SocialLink> links = profile.getSocialLinks();
+        Map<String, SocialLink> unmatchedById = new LinkedHashMap<>();
+        for (SocialLink link : links) {
+            unmatchedById.put(link.getId(), link);
+        }
+
+        List<SocialLink> added = new ArrayList<>();
+        if (submitted != null) {
+            for (SocialLinkDto dto : submitted) {
+                SocialLink match = dto.getId() != null ? unmatchedById.remove(dto.getId()) : null;
+                if (match == null) {
+                    match = unmatchedById.values().stream()
+                        .filter(link -> link.getPlatform() != null && link.getPlatform().equalsIgnoreCase(dto.getPlatform()))
+                        .findFirst()
+                        .orElse(null);
+                    if (match != null) {
+                        unmatchedById.remove(match.getId());
+                    }
+                }
+
+                if (match != null) {
+                    socialLinkMapper.updateEntityFromDto(dto, match);
+                } else {
+                    SocialLink link = socialLinkMapper.toEntity(dto);
+                    // Ids are assigned here; a client-sent id that matched nothing is not reused
+                    link.setId(null);
+                    link.setProfile(profile);
+                    added.add(link);
+                }
+            }
+        }
+
+        links.removeAll(unmatchedById.values());
+        links.addAll(added);
+    }
+
+    /**
+     * Load the profile with its social links in one query, by remembered id when known
+     */
+    private Optional<Profile> findSingleton() {
+        String id = profileId;
+        if (id != null) {
+            Optional<Profile> profile = profileRepository.findWithSocialLinksById(id);
+            if (profile.isPresent()) {
+                return profile;
+            }
+            profileId = null;
+        }
+        List<Profile> profiles = profileRepository.findSingleton();
+        if (profiles.isEmpty()) {
+            return Optional.empty();
+        }
+        profileId = profiles.get(0).getId();
+        return Optional.of(profiles.get(0));
+    }
+
+    private Optional<String> resolveProfileId() {
+        String id = profileId;
+        return id != null ? Optional.of(id) : findSingleton().map(Profile::getId);
+    }
+
+    /**
+     * Get the profile to update - the singleton if profileId is "default"
+     */
+    private Profile findForUpdate(String profileId) {
+        if ("default".equals(profileId)) {
+            return findSingleton()
+                .orElseThrow(() -> new ResourceNotFoundException("Profile", "id", profileId));
+        }
+        return profileRepository.findById(profileId)
+            .orElseThrow(() -> new ResourceNotFoundException("Profile", "id", profileId));
+    }
 }
@@ -1,5 +1,6 @@
 package com.portfolio.project.controller;
 
+import com.portfolio.common.dto.ReorderRequest;
 import com.portfolio.project.dto.ProjectDto;
 import com.portfolio.project.dto.ThumbnailUploadRequest;
 import com.portfolio.project.service.ProjectService;
@@ -21,9 +22,14 @@ public class ProjectController {
     @Autowired
     private ProjectService projectService;
 
+    /**
+     * All projects, or only those using a technology when {@code tech} is given
+     */
     @GetMapping
-    public ResponseEntity<List<ProjectDto>> getAllProjects() {
-        List<ProjectDto> projects = projectService.getAllProjects();
+    public ResponseEntity<List<ProjectDto>> getAllProjects(@RequestParam(required = false) String tech) {
+        List<ProjectDto> projects = tech == null || tech.isBlank()
+                ? projectService.getAllProjects()
+                : projectService.getProjectsByTechnology(tech);
         return ResponseEntity.ok(projects);
     }
 
@@ -53,6 +59,18 @@ public class ProjectController {
         return ResponseEntity.ok(updatedProject);
     }
 
+    /**
+     * Reorder projects in one request
+     * ADMIN only
+     * @param request Project ids in their new order
+     */
+    @PutMapping("/order")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<Void> reorderProjects(@Valid @RequestBody ReorderRequest request) {
+        projectService.reorderProjects(request.getIds());
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('admin')")
     public ResponseEntity<Void> deleteProject(@PathVariable String id) {
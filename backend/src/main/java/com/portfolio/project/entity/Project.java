@@ -1,13 +1,11 @@
 package com.portfolio.project.entity;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.common.converter.CompressedTextConverter;
+import com.portfolio.common.converter.StringListJsonConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,12 +24,18 @@ import java.util.UUID;
     @NamedQuery(
         name = "Project.findFeaturedProjects",
         query = "SELECT p FROM Project p WHERE p.featured = true ORDER BY p.sortOrder"
+    ),
+    @NamedQuery(
+        name = "Project.findLatestUpdate",
+        query = "SELECT MAX(p.updatedAt) FROM Project p"
+    ),
+    @NamedQuery(
+        name = "Project.findByIdsOrderedBySort",
+        query = "SELECT p FROM Project p WHERE p.id IN :ids ORDER BY p.sortOrder"
     )
 })
 public class Project {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
     @Id
     @Column(length = 36)
     private String id;
@@ -39,11 +43,14 @@ public class Project {
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Column(columnDefinition = "TEXT")
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB")
     private String description;
 
+    @Convert(converter = StringListJsonConverter.class)
     @Column(columnDefinition = "JSON")
-    private String technologies;
+    private List<String> technologies;
 
     @Column(name = "image_url", length = 500)
     private String imageUrl;
@@ -93,28 +100,4 @@ public class Project {
     protected void preUpdate() {
         updatedAt = LocalDateTime.now();
     }
-
-    @Transient
-    public List<String> getTechnologiesList() {
-        if (technologies == null || technologies.isEmpty()) {
-            return new ArrayList<>();
-        }
-        try {
-            return objectMapper.readValue(technologies, new TypeReference<List<String>>() {});
-        } catch (JsonProcessingException e) {
-            return new ArrayList<>();
-        }
-    }
-
-    public void setTechnologiesList(List<String> technologiesList) {
-        if (technologiesList == null || technologiesList.isEmpty()) {
-            this.technologies = null;
-            return;
-        }
-        try {
-            this.technologies = objectMapper.writeValueAsString(technologiesList);
-        } catch (JsonProcessingException e) {
-            this.technologies = null;
-        }
-    }
 }
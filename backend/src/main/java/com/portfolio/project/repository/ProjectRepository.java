@@ -3,9 +3,13 @@ package com.portfolio.project.repository;
 import com.portfolio.project.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, String> {
@@ -15,4 +19,19 @@ public interface ProjectRepository extends JpaRepository<Project, String> {
 
     @Query(name = "Project.findFeaturedProjects")
     List<Project> findFeaturedProjects();
+
+    @Query(name = "Project.findLatestUpdate")
+    LocalDateTime findLatestUpdate();
+
+    @Query(name = "Project.findByIdsOrderedBySort")
+    List<Project> findByIdsOrderedBySort(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT p.id AS id, p.updatedAt AS updatedAt FROM Project p ORDER BY p.sortOrder")
+    List<ProjectSitemapView> findSitemapEntries();
+
+    @Query("SELECT p.id AS id, p.technologies AS technologies FROM Project p")
+    List<ProjectTechnologiesView> findAllTechnologies();
+
+    @Query("SELECT p.id AS id, p.technologies AS technologies FROM Project p WHERE p.id = :id")
+    Optional<ProjectTechnologiesView> findTechnologiesById(@Param("id") String id);
 }
@@ -0,0 +1,11 @@
+package com.portfolio.project.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Id and last update of a project, used to list project pages in the sitemap.
+ */
+public interface ProjectSitemapView {
+    String getId();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,11 @@
+package com.portfolio.project.repository;
+
+import java.util.List;
+
+/**
+ * Id and technologies of a project, used to build the technology index.
+ */
+public interface ProjectTechnologiesView {
+    String getId();
+    List<String> getTechnologies();
+}
@@ -10,6 +10,8 @@ public interface ProjectService {
     ProjectDto createProject(ProjectDto projectDto);
     ProjectDto updateProject(String id, ProjectDto projectDto);
     void deleteProject(String id);
+    void reorderProjects(List<String> ids);
     List<ProjectDto> getFeaturedProjects();
+    List<ProjectDto> getProjectsByTechnology(String technology);
     ProjectDto updateThumbnail(String projectId, String thumbnailBase64, String contentType);
 }
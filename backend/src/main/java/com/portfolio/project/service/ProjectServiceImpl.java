@@ -1,16 +1,23 @@
 package com.portfolio.project.service;
 
+import com.portfolio.common.event.ContentChangedEvent;
+import com.portfolio.common.event.ContentChangedEvent.ChangeType;
+import com.portfolio.common.event.ContentChangedEvent.ContentType;
 import com.portfolio.common.exception.ResourceNotFoundException;
+import com.portfolio.common.repository.SortOrderUpdater;
 import com.portfolio.project.dto.ProjectDto;
 import com.portfolio.project.dto.ProjectMapper;
 import com.portfolio.project.entity.Project;
 import com.portfolio.project.repository.ProjectRepository;
+import com.portfolio.technology.service.TechnologyIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -19,14 +26,23 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
     private final ProjectImageValidationService imageValidationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TechnologyIndex technologyIndex;
+    private final SortOrderUpdater sortOrderUpdater;
 
     @Autowired
     public ProjectServiceImpl(ProjectRepository projectRepository,
                              ProjectMapper projectMapper,
-                             ProjectImageValidationService imageValidationService) {
+                             ProjectImageValidationService imageValidationService,
+                             ApplicationEventPublisher eventPublisher,
+                             TechnologyIndex technologyIndex,
+                             SortOrderUpdater sortOrderUpdater) {
         this.projectRepository = projectRepository;
         this.projectMapper = projectMapper;
         this.imageValidationService = imageValidationService;
+        this.eventPublisher = eventPublisher;
+        this.technologyIndex = technologyIndex;
+        this.sortOrderUpdater = sortOrderUpdater;
     }
 
     @Override
@@ -48,6 +64,7 @@ public class ProjectServiceImpl implements ProjectService {
     public ProjectDto createProject(ProjectDto projectDto) {
         Project project = projectMapper.toEntity(projectDto);
         Project savedProject = projectRepository.save(project);
+        publishChange(savedProject.getId(), ChangeType.CREATED);
         return projectMapper.toDto(savedProject);
     }
 
@@ -58,6 +75,7 @@ public class ProjectServiceImpl implements ProjectService {
 
         projectMapper.updateEntityFromDto(projectDto, project);
         Project updatedProject = projectRepository.save(project);
+        publishChange(id, ChangeType.UPDATED);
         return projectMapper.toDto(updatedProject);
     }
 
@@ -66,6 +84,13 @@ public class ProjectServiceImpl implements ProjectService {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
         projectRepository.delete(project);
+        publishChange(id, ChangeType.DELETED);
+    }
+
+    @Override
+    public void reorderProjects(List<String> ids) {
+        sortOrderUpdater.reorder("projects", "Project", ids);
+        publishChange(null, ChangeType.REORDERED);
     }
 
     @Override
@@ -75,6 +100,16 @@ public class ProjectServiceImpl implements ProjectService {
         return projectMapper.toDtoList(projects);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectDto> getProjectsByTechnology(String technology) {
+        Set<String> ids = technologyIndex.projectIds(technology);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return projectMapper.toDtoList(projectRepository.findByIdsOrderedBySort(ids));
+    }
+
     @Override
     public ProjectDto updateThumbnail(String projectId, String thumbnailBase64, String contentType) {
         // Validate thumbnail data
@@ -92,6 +127,11 @@ public class ProjectServiceImpl implements ProjectService {
 
         // Save and return
         Project saved = projectRepository.save(project);
+        publishChange(projectId, ChangeType.UPDATED);
         return projectMapper.toDto(saved);
     }
+
+    private void publishChange(String id, ChangeType changeType) {
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentType.PROJECT, id, changeType));
+    }
 }
@@ -0,0 +1,73 @@
+package com.portfolio.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings: no false negatives, and about 1% false positives while
+ * it holds at most {@code capacity} values. Adds and lookups are lock-free; values cannot be
+ * removed, so the owner rebuilds it to drop them.
+ */
+final class BloomFilter {
+
+    private static final int BITS_PER_VALUE = 10;
+    private static final int HASHES = 7;
+
+    private final int capacity;
+    private final int bits;
+    private final AtomicLongArray words;
+
+    BloomFilter(int capacity) {
+        this.capacity = capacity;
+        long wanted = Math.max(64L, (long) capacity * BITS_PER_VALUE);
+        this.words = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE / 64, (wanted + 63) / 64));
+        this.bits = words.length() * 64;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    void add(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = index(h1 + i * h2);
+            long mask = 1L << bit;
+            words.getAndAccumulate(bit >>> 6, mask, (word, m) -> word | m);
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = index(h1 + i * h2);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(int combined) {
+        return (combined & Integer.MAX_VALUE) % bits;
+    }
+
+    /**
+     * FNV-1a, then a SplitMix64 finalizer so both halves are usable as independent hashes
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 30;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 27;
+        hash *= 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
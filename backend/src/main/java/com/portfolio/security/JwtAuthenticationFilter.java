@@ -1,45 +1,64 @@
 package com.portfolio.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
+/**
+ * Authenticates requests from the verified token claims alone. The role comes from the token;
+ * the token id is checked against {@link TokenRevocationList} and the token version against
+ * {@link TokenVersionCache}, so revoked tokens and tokens issued before a password change stop
+ * working without a query per request.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    @Autowired
-    private JwtTokenProvider tokenProvider;
+    private final JwtTokenProvider tokenProvider;
+    private final TokenVersionCache tokenVersionCache;
+    private final TokenRevocationList tokenRevocationList;
 
-    @Autowired
-    private UserDetailsService userDetailsService;
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, TokenVersionCache tokenVersionCache,
+                                   TokenRevocationList tokenRevocationList) {
+        this.tokenProvider = tokenProvider;
+        this.tokenVersionCache = tokenVersionCache;
+        this.tokenRevocationList = tokenRevocationList;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.getValidClaims(jwt) : null;
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
+            if (claims != null) {
+                String jti = claims.getId();
+                String username = claims.getSubject();
+                String role = claims.get(JwtTokenProvider.ROLE_CLAIM, String.class);
+                Integer tokenVersion = claims.get(JwtTokenProvider.VERSION_CLAIM, Integer.class);
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                // Tokens without the claims predate them and are refused
+                if (StringUtils.hasText(jti) && StringUtils.hasText(username) && StringUtils.hasText(role)
+                        && tokenVersion != null && !tokenRevocationList.isRevoked(jti)
+                        && tokenVersionCache.isCurrent(username, tokenVersion)) {
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            username, null, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
@@ -3,36 +3,90 @@ package com.portfolio.security;
 import com.portfolio.config.JwtConfig;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import com.portfolio.user.entity.User;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
+import java.util.function.LongSupplier;
 
 @Component
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    /**
+     * Role of the user, without the {@code ROLE_} prefix
+     */
+    public static final String ROLE_CLAIM = "role";
+
+    /**
+     * {@link User#getTokenVersion()} when the token was issued
+     */
+    public static final String VERSION_CLAIM = "ver";
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
     private final JwtConfig jwtConfig;
     private final SecretKey key;
+    // Immutable and thread-safe; building one per call repeats the key and algorithm setup
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
 
+    @Autowired
     public JwtTokenProvider(JwtConfig jwtConfig) {
+        this(jwtConfig, System::currentTimeMillis);
+    }
+
+    JwtTokenProvider(JwtConfig jwtConfig, LongSupplier clock) {
         this.jwtConfig = jwtConfig;
         this.key = Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .clock(() -> new Date(clock.getAsLong()))
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(jwtConfig.getClaimCacheSize(), clock);
     }
 
     public String generateToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        String role = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .findFirst()
+                .orElse(null);
+        int tokenVersion = userDetails instanceof UserPrincipal principal ? principal.getTokenVersion() : 0;
+        return generateToken(userDetails.getUsername(), role, tokenVersion);
+    }
+
+    /**
+     * Issue a token for a user loaded from the database, e.g. right after its token version changed
+     */
+    public String generateToken(User user) {
+        return generateToken(user.getUsername(), user.getRole(), user.getTokenVersion());
+    }
+
+    private String generateToken(String username, String role, int tokenVersion) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtConfig.getExpiration());
 
         return Jwts.builder()
-                .subject(userDetails.getUsername())
+                // jti, so a single token can be revoked (see TokenRevocationList)
+                .id(UUID.randomUUID().toString())
+                .subject(username)
+                .claim(ROLE_CLAIM, role)
+                .claim(VERSION_CLAIM, tokenVersion)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(key, Jwts.SIG.HS512)
@@ -40,22 +94,31 @@ public class JwtTokenProvider {
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
+        Claims claims = verifiedTokens.get(token);
+        if (claims == null) {
+            claims = parser.parseSignedClaims(token).getPayload();
+        }
         return claims.getSubject();
     }
 
     public boolean validateToken(String token) {
+        return getValidClaims(token) != null;
+    }
+
+    /**
+     * Verify a token and read its claims in one parse; a token verified before is served from
+     * memory until it expires
+     * @return Claims, or null if the token is invalid or expired
+     */
+    public Claims getValidClaims(String token) {
+        Claims cached = verifiedTokens.get(token);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(token, claims);
+            return claims;
         } catch (SecurityException ex) {
             logger.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -67,6 +130,14 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             logger.error("JWT claims string is empty");
         }
-        return false;
+        return null;
+    }
+
+    /**
+     * Drop cached claims of tokens that have expired
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredClaims() {
+        verifiedTokens.evictExpired();
     }
 }
@@ -0,0 +1,175 @@
+package com.portfolio.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.common.exception.ErrorResponse;
+import com.portfolio.config.RateLimitConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per client IP and route for the public write and login endpoints.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the time at which it will be full again
+ * (the GCRA form of a token bucket), so taking a token is one compare-and-set with no lock and
+ * no allocation. Buckets live in one {@link ConcurrentHashMap} per route, whose bins are locked
+ * independently, so clients never contend with each other. A bucket that has refilled completely
+ * holds no information and is evicted by a periodic sweep. Requests to other routes cost one
+ * method and path comparison per rule.
+ * <p>
+ * The client is {@link HttpServletRequest#getRemoteAddr()}. Behind the nginx proxy that is the
+ * proxy's address for everyone, so {@code server.forward-headers-strategy=native} has Tomcat
+ * replace it with the {@code X-Forwarded-For} client whenever the request comes from an internal
+ * proxy address.
+ * <p>
+ * The filter enables its own settings, so that {@code @WebMvcTest} slices, which pick up filters
+ * but not other components, can still create it.
+ */
+@Component
+@EnableConfigurationProperties(RateLimitConfig.class)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<Limiter> limiters;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public RateLimitFilter(RateLimitConfig config, ObjectMapper objectMapper) {
+        this(config, objectMapper, System::nanoTime);
+    }
+
+    RateLimitFilter(RateLimitConfig config, ObjectMapper objectMapper, LongSupplier nanoClock) {
+        this.limiters = config.isEnabled()
+                ? config.getRules().entrySet().stream().map(entry -> new Limiter(entry.getKey(), entry.getValue())).toList()
+                : List.of();
+        this.objectMapper = objectMapper;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return limiters.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Limiter limiter = match(request);
+        if (limiter != null) {
+            long waitNanos = limiter.tryAcquire(request.getRemoteAddr(), nanoClock.getAsLong());
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Drop buckets that have refilled completely; a new bucket for the same client starts full anyway
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        for (Limiter limiter : limiters) {
+            limiter.buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        }
+    }
+
+    /**
+     * Number of clients currently tracked across all routes
+     */
+    int trackedClients() {
+        return limiters.stream().mapToInt(limiter -> limiter.buckets.size()).sum();
+    }
+
+    private Limiter match(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        int offset = request.getContextPath().length();
+        for (Limiter limiter : limiters) {
+            if (limiter.method.equals(method) && uri.length() - offset == limiter.path.length()
+                    && uri.startsWith(limiter.path, offset)) {
+                return limiter;
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message("Too many requests, please try again in " + retryAfterSeconds + " seconds")
+                .build();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Buckets of one rule, keyed by client address
+     */
+    private static final class Limiter {
+        private final String method;
+        private final String path;
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+        Limiter(String name, RateLimitConfig.Rule rule) {
+            if (rule.getPath() == null || rule.getCapacity() < 1 || rule.getPeriod() == null
+                    || rule.getPeriod().isNegative() || rule.getPeriod().isZero()) {
+                throw new IllegalStateException("Rate limit '" + name + "' needs a path, a capacity of at least 1 and a period");
+            }
+            this.method = rule.getMethod().toUpperCase();
+            this.path = rule.getPath();
+            this.intervalNanos = Math.max(1, rule.getPeriod().toNanos() / rule.getCapacity());
+            this.burstNanos = intervalNanos * rule.getCapacity();
+        }
+
+        /**
+         * Take one token
+         * @return 0 if allowed, otherwise how long until a token is available
+         */
+        long tryAcquire(String client, long now) {
+            AtomicLong bucket = buckets.get(client);
+            if (bucket == null) {
+                bucket = buckets.computeIfAbsent(client, key -> new AtomicLong(now));
+            }
+            while (true) {
+                long fullAt = bucket.get();
+                // A bucket that is already full refills no further
+                long next = (fullAt - now > 0 ? fullAt : now) + intervalNanos;
+                long debt = next - now - burstNanos;
+                if (debt > 0) {
+                    return debt;
+                }
+                if (bucket.compareAndSet(fullAt, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.portfolio.security;
+
+import com.portfolio.auth.entity.RevokedToken;
+import com.portfolio.auth.repository.RevokedTokenRepository;
+import com.portfolio.config.JwtConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked token ids ({@code jti}), checked on every authenticated request without a query.
+ * <p>
+ * Revocations are stored in {@code revoked_tokens} and mirrored here as an exact set of ids
+ * behind a {@link BloomFilter}. Nearly every token is not revoked, and for those the check is a
+ * few hashed bit reads; only Bloom hits (revoked tokens and about 1% false positives) look at the
+ * set. Each node polls the table for rows revoked since its last poll, so a revocation made on
+ * one node is honoured everywhere within the poll interval. The overlap between polls absorbs
+ * clock skew between nodes and transactions that commit after their timestamp.
+ * <p>
+ * Rows and ids are only needed until the token they name expires; an hourly sweep deletes them
+ * and rebuilds the filter.
+ */
+@Component
+@Slf4j
+public class TokenRevocationList {
+
+    static final int MIN_CAPACITY = 1024;
+    static final Duration POLL_OVERLAP = Duration.ofMinutes(2);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Duration tokenLifetime;
+    private final Clock clock;
+
+    // jti -> expiry in epoch millis; written under this, read lock-free
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter = new BloomFilter(MIN_CAPACITY);
+    private volatile LocalDateTime lastPoll;
+
+    @Autowired
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository, JwtConfig jwtConfig) {
+        this(revokedTokenRepository, jwtConfig, Clock.systemDefaultZone());
+    }
+
+    TokenRevocationList(RevokedTokenRepository revokedTokenRepository, JwtConfig jwtConfig, Clock clock) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenLifetime = Duration.ofMillis(jwtConfig.getExpiration());
+        this.clock = clock;
+    }
+
+    /**
+     * Whether the token with this id has been revoked
+     */
+    public boolean isRevoked(String jti) {
+        return bloomFilter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    /**
+     * Revoke a token on every node: recorded in the database, effective here as soon as it commits
+     * @param expiresAt Expiry of the token; the revocation is dropped after it
+     */
+    @Transactional
+    public void revoke(String jti, String username, Date expiresAt) {
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .username(username)
+                .expiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), clock.getZone()))
+                .revokedAt(LocalDateTime.now(clock))
+                .build());
+        // A revocation that rolls back must not be enforced here while other nodes accept the token
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(jti, expiresAt.getTime());
+                }
+            });
+        } else {
+            add(jti, expiresAt.getTime());
+        }
+    }
+
+    /**
+     * Load revocations of tokens that may still be valid
+     */
+    @PostConstruct
+    public void load() {
+        // A token revoked longer ago than its lifetime has expired
+        pollSince(LocalDateTime.now(clock).minus(tokenLifetime));
+    }
+
+    /**
+     * Pick up revocations made on other nodes
+     */
+    @Scheduled(fixedDelayString = "${app.token-revocation.poll-interval-ms:5000}")
+    public void poll() {
+        LocalDateTime since = lastPoll == null
+                ? LocalDateTime.now(clock).minus(tokenLifetime)
+                : lastPoll.minus(POLL_OVERLAP);
+        try {
+            pollSince(since);
+        } catch (DataAccessException e) {
+            log.warn("Could not poll revoked tokens: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Delete revocations of expired tokens and rebuild the filter without them
+     */
+    @Scheduled(fixedDelay = 3_600_000)
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        long nowMillis = clock.millis();
+        synchronized (this) {
+            revoked.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+            rebuild();
+        }
+        if (deleted > 0) {
+            log.info("Purged {} revocations of expired tokens", deleted);
+        }
+    }
+
+    int size() {
+        return revoked.size();
+    }
+
+    private void pollSince(LocalDateTime since) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<RevokedToken> tokens = revokedTokenRepository.findRevokedSince(since, now);
+        for (RevokedToken token : tokens) {
+            add(token.getJti(), token.getExpiresAt().atZone(clock.getZone()).toInstant().toEpochMilli());
+        }
+        lastPoll = now;
+    }
+
+    private synchronized void add(String jti, long expiresAt) {
+        // Set first: a lookup that passes the filter must find the id
+        if (revoked.put(jti, expiresAt) != null) {
+            return;
+        }
+        if (revoked.size() > bloomFilter.capacity()) {
+            rebuild();
+        } else {
+            bloomFilter.add(jti);
+        }
+    }
+
+    private void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(MIN_CAPACITY, revoked.size() * 2));
+        revoked.keySet().forEach(rebuilt::add);
+        bloomFilter = rebuilt;
+    }
+}
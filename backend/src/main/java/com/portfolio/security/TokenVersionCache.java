@@ -0,0 +1,75 @@
+package com.portfolio.security;
+
+import com.portfolio.common.cache.CommitAwareCache;
+import com.portfolio.user.entity.User;
+import com.portfolio.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Current token version per username, so verifying a token needs no database query.
+ * <p>
+ * A username is loaded once and then served from memory. Whatever bumps a user's token version on
+ * this node calls {@link #evictOnCommit(String)}; other nodes poll {@code users} for rows updated
+ * since their last poll, with the same interval and overlap as {@link TokenRevocationList}, and
+ * drop those users. A password change therefore invalidates old tokens everywhere within the poll
+ * interval.
+ */
+@Component
+@Slf4j
+public class TokenVersionCache {
+
+    private final UserRepository userRepository;
+    private final Clock clock;
+    private final CommitAwareCache<String, Integer> versions = new CommitAwareCache<>();
+    private volatile LocalDateTime lastPoll;
+
+    @Autowired
+    public TokenVersionCache(UserRepository userRepository) {
+        this(userRepository, Clock.systemDefaultZone());
+    }
+
+    TokenVersionCache(UserRepository userRepository, Clock clock) {
+        this.userRepository = userRepository;
+        this.clock = clock;
+        this.lastPoll = LocalDateTime.now(clock);
+    }
+
+    /**
+     * Whether a token issued with this version is still valid for the user
+     */
+    public boolean isCurrent(String username, int tokenVersion) {
+        // Unknown users load as null and are not cached, so a user created later is not locked out
+        Integer current = versions.get(username,
+                key -> userRepository.findByUsername(key).map(User::getTokenVersion).orElse(null));
+        return current != null && current == tokenVersion;
+    }
+
+    /**
+     * Drop a user's version now and again once the writing transaction completes
+     */
+    public void evictOnCommit(String username) {
+        versions.evictOnCommit(username);
+    }
+
+    /**
+     * Drop users whose row changed on any node, such as a password change
+     */
+    @Scheduled(fixedDelayString = "${app.token-revocation.poll-interval-ms:5000}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        try {
+            userRepository.findUsernamesUpdatedSince(lastPoll.minus(TokenRevocationList.POLL_OVERLAP))
+                    .forEach(versions::evict);
+            lastPoll = now;
+        } catch (DataAccessException e) {
+            log.warn("Could not poll token versions: {}", e.getMessage());
+        }
+    }
+}
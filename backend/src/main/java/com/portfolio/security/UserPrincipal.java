@@ -0,0 +1,24 @@
+package com.portfolio.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Authenticated user as loaded for a login, with the token version to put in the issued token
+ */
+public class UserPrincipal extends User {
+
+    private final int tokenVersion;
+
+    public UserPrincipal(String username, String password, Collection<? extends GrantedAuthority> authorities,
+                         int tokenVersion) {
+        super(username, password, authorities);
+        this.tokenVersion = tokenVersion;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+}
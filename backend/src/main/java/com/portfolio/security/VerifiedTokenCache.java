@@ -0,0 +1,91 @@
+package com.portfolio.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Claims of tokens that have already been verified, so a token sent again skips the signature
+ * check and the Base64 and JSON decoding until it expires.
+ * <p>
+ * Entries are keyed by the SHA-256 of the token: a key can only be hit by the exact token that was
+ * verified, and the cache holds 32 bytes per token instead of the token itself. The cache holds at
+ * most {@code maxEntries}; when it is full, expired entries are swept and, if it is still full, new
+ * tokens are simply verified every time. Expiry is checked on every hit.
+ */
+class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final Map<ByteBuffer, Entry> entries = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int maxEntries, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * Claims of a token verified before and not yet expired, otherwise null
+     */
+    Claims get(String token) {
+        if (maxEntries <= 0) {
+            return null;
+        }
+        ByteBuffer key = key(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= clock.getAsLong()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.claims;
+    }
+
+    /**
+     * Remember the claims of a token whose signature was just verified
+     */
+    void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (maxEntries <= 0 || expiration == null) {
+            // Tokens without an expiry are never cached, so an entry cannot outlive its token
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(key(token), new Entry(claims, expiration.getTime()));
+    }
+
+    void evictExpired() {
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static ByteBuffer key(String token) {
+        try {
+            // ByteBuffer compares and hashes by content
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.portfolio.skill.controller;
 
+import com.portfolio.common.dto.ReorderRequest;
 import com.portfolio.skill.dto.SkillDto;
 import com.portfolio.skill.service.SkillService;
 import jakarta.validation.Valid;
@@ -45,6 +46,18 @@ public class SkillController {
         return ResponseEntity.ok(updatedSkill);
     }
 
+    /**
+     * Reorder skills in one request
+     * ADMIN only
+     * @param request Skill ids in their new order
+     */
+    @PutMapping("/order")
+    @PreAuthorize("hasRole('admin')")
+    public ResponseEntity<Void> reorderSkills(@Valid @RequestBody ReorderRequest request) {
+        skillService.reorderSkills(request.getIds());
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('admin')")
     public ResponseEntity<Void> deleteSkill(@PathVariable String id) {
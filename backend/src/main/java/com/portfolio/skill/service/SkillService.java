@@ -10,5 +10,6 @@ public interface SkillService {
     SkillDto createSkill(SkillDto skillDto);
     SkillDto updateSkill(String id, SkillDto skillDto);
     void deleteSkill(String id);
+    void reorderSkills(List<String> ids);
     List<SkillDto> getSkillsByCategory(String category);
 }
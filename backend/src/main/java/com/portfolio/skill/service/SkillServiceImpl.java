@@ -1,6 +1,7 @@
 package com.portfolio.skill.service;
 
 import com.portfolio.common.exception.ResourceNotFoundException;
+import com.portfolio.common.repository.SortOrderUpdater;
 import com.portfolio.skill.dto.SkillDto;
 import com.portfolio.skill.dto.SkillMapper;
 import com.portfolio.skill.entity.Skill;
@@ -17,11 +18,13 @@ public class SkillServiceImpl implements SkillService {
 
     private final SkillRepository skillRepository;
     private final SkillMapper skillMapper;
+    private final SortOrderUpdater sortOrderUpdater;
 
     @Autowired
-    public SkillServiceImpl(SkillRepository skillRepository, SkillMapper skillMapper) {
+    public SkillServiceImpl(SkillRepository skillRepository, SkillMapper skillMapper, SortOrderUpdater sortOrderUpdater) {
         this.skillRepository = skillRepository;
         this.skillMapper = skillMapper;
+        this.sortOrderUpdater = sortOrderUpdater;
     }
 
     @Override
@@ -63,6 +66,11 @@ public class SkillServiceImpl implements SkillService {
         skillRepository.delete(skill);
     }
 
+    @Override
+    public void reorderSkills(List<String> ids) {
+        sortOrderUpdater.reorder("skills", "Skill", ids);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<SkillDto> getSkillsByCategory(String category) {
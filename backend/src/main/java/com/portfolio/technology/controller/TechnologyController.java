@@ -0,0 +1,27 @@
+package com.portfolio.technology.controller;
+
+import com.portfolio.technology.dto.TechnologyDto;
+import com.portfolio.technology.service.TechnologyIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/technologies")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class TechnologyController {
+
+    @Autowired
+    private TechnologyIndex technologyIndex;
+
+    /**
+     * Technologies across projects and experiences, most used first.
+     * Use a technology's key with /api/projects?tech= or /api/experiences?tech=
+     */
+    @GetMapping
+    public ResponseEntity<List<TechnologyDto>> getTechnologies() {
+        return ResponseEntity.ok(technologyIndex.getTechnologies());
+    }
+}
@@ -0,0 +1,23 @@
+package com.portfolio.technology.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A technology used across projects and experiences.
+ * {@code key} is the normalized name accepted by the {@code tech} filters.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TechnologyDto {
+    private String key;
+    private String name;
+    private int projectCount;
+    private int experienceCount;
+    /** Years of use from experiences; overlapping experiences are counted once */
+    private double years;
+}
@@ -0,0 +1,280 @@
+package com.portfolio.technology.service;
+
+import com.portfolio.common.event.ContentChangedEvent;
+import com.portfolio.common.event.ContentChangedEvent.ContentType;
+import com.portfolio.experience.repository.ExperienceRepository;
+import com.portfolio.experience.repository.ExperienceTechnologiesView;
+import com.portfolio.project.repository.ProjectRepository;
+import com.portfolio.project.repository.ProjectTechnologiesView;
+import com.portfolio.technology.dto.TechnologyDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Facet index from normalized technology name to the projects and experiences that use it.
+ * Built from two narrow projections on first use and patched per item from
+ * {@link ContentChangedEvent}s, so filtering by technology never scans or parses every row.
+ * Each facet keeps how often each spelling is used ("Node.js" vs "node.js") and shows the most common one.
+ */
+@Component
+public class TechnologyIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final double DAYS_PER_YEAR = 365.25;
+
+    private final ProjectRepository projectRepository;
+    private final ExperienceRepository experienceRepository;
+    private final Clock clock;
+
+    // All state below is guarded by this
+    private final Map<String, Facet> facets = new HashMap<>();
+    private final Map<String, List<String>> projectTechnologies = new HashMap<>();
+    private final Map<String, List<String>> experienceTechnologies = new HashMap<>();
+    private boolean loaded;
+    private List<TechnologyDto> summary;
+    private LocalDate summaryDate;
+
+    @Autowired
+    public TechnologyIndex(ProjectRepository projectRepository, ExperienceRepository experienceRepository) {
+        this(projectRepository, experienceRepository, Clock.systemDefaultZone());
+    }
+
+    TechnologyIndex(ProjectRepository projectRepository, ExperienceRepository experienceRepository, Clock clock) {
+        this.projectRepository = projectRepository;
+        this.experienceRepository = experienceRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * Normalize a technology name for lookup: trimmed, lower-case, single spaces
+     * @return Key, or null for a blank name
+     */
+    public static String normalize(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return WHITESPACE.matcher(name.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * All technologies, most used first
+     */
+    public synchronized List<TechnologyDto> getTechnologies() {
+        ensureLoaded();
+        LocalDate today = LocalDate.now(clock);
+        // Years of current experiences grow daily, so the summary is kept for one day at most
+        if (summary == null || !today.equals(summaryDate)) {
+            summary = facets.entrySet().stream()
+                    .map(entry -> entry.getValue().toDto(entry.getKey(), today))
+                    .sorted(Comparator.comparingInt((TechnologyDto dto) -> dto.getProjectCount() + dto.getExperienceCount())
+                            .reversed()
+                            .thenComparing(Comparator.comparingDouble(TechnologyDto::getYears).reversed())
+                            .thenComparing(TechnologyDto::getName, String.CASE_INSENSITIVE_ORDER))
+                    .toList();
+            summaryDate = today;
+        }
+        return summary;
+    }
+
+    /**
+     * Ids of projects using a technology
+     * @param technology Name in any spelling
+     */
+    public synchronized Set<String> projectIds(String technology) {
+        ensureLoaded();
+        Facet facet = facets.get(normalize(technology));
+        return facet == null ? Set.of() : Set.copyOf(facet.projectIds);
+    }
+
+    /**
+     * Ids of experiences using a technology
+     * @param technology Name in any spelling
+     */
+    public synchronized Set<String> experienceIds(String technology) {
+        ensureLoaded();
+        Facet facet = facets.get(normalize(technology));
+        return facet == null ? Set.of() : Set.copyOf(facet.experiences.keySet());
+    }
+
+    /**
+     * Re-index a project or experience once its change is committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onContentChanged(ContentChangedEvent event) {
+        ContentType type = event.contentType();
+        // Until loaded there is nothing to patch; the load reads committed state.
+        // Order is not indexed: filtered lists are read back in sort order
+        if ((type != ContentType.PROJECT && type != ContentType.EXPERIENCE) || !loaded
+                || event.changeType() == ContentChangedEvent.ChangeType.REORDERED) {
+            return;
+        }
+        summary = null;
+        if (event.id() == null) {
+            loaded = false;
+            return;
+        }
+        boolean deleted = event.changeType() == ContentChangedEvent.ChangeType.DELETED;
+        if (type == ContentType.PROJECT) {
+            removeProject(event.id());
+            if (!deleted) {
+                projectRepository.findTechnologiesById(event.id()).ifPresent(this::addProject);
+            }
+        } else {
+            removeExperience(event.id());
+            if (!deleted) {
+                experienceRepository.findTechnologiesById(event.id()).ifPresent(this::addExperience);
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        facets.clear();
+        projectTechnologies.clear();
+        experienceTechnologies.clear();
+        summary = null;
+        projectRepository.findAllTechnologies().forEach(this::addProject);
+        experienceRepository.findAllTechnologies().forEach(this::addExperience);
+        loaded = true;
+    }
+
+    private void addProject(ProjectTechnologiesView view) {
+        List<String> names = namesOf(view.getTechnologies());
+        projectTechnologies.put(view.getId(), names);
+        for (String name : names) {
+            Facet facet = facets.computeIfAbsent(normalize(name), key -> new Facet());
+            facet.addSpelling(name);
+            facet.projectIds.add(view.getId());
+        }
+    }
+
+    private void removeProject(String id) {
+        List<String> names = projectTechnologies.remove(id);
+        if (names == null) {
+            return;
+        }
+        for (String name : names) {
+            String key = normalize(name);
+            Facet facet = facets.get(key);
+            facet.removeSpelling(name);
+            facet.projectIds.remove(id);
+            if (facet.isEmpty()) {
+                facets.remove(key);
+            }
+        }
+    }
+
+    private void addExperience(ExperienceTechnologiesView view) {
+        List<String> names = namesOf(view.getTechnologies());
+        experienceTechnologies.put(view.getId(), names);
+        Span span = new Span(view.getStartDate(), view.getEndDate());
+        for (String name : names) {
+            Facet facet = facets.computeIfAbsent(normalize(name), key -> new Facet());
+            facet.addSpelling(name);
+            facet.experiences.put(view.getId(), span);
+        }
+    }
+
+    private void removeExperience(String id) {
+        List<String> names = experienceTechnologies.remove(id);
+        if (names == null) {
+            return;
+        }
+        for (String name : names) {
+            String key = normalize(name);
+            Facet facet = facets.get(key);
+            facet.removeSpelling(name);
+            facet.experiences.remove(id);
+            if (facet.isEmpty()) {
+                facets.remove(key);
+            }
+        }
+    }
+
+    private static List<String> namesOf(List<String> technologies) {
+        if (technologies == null) {
+            return List.of();
+        }
+        return technologies.stream().filter(name -> normalize(name) != null).map(String::trim).toList();
+    }
+
+    /**
+     * Date range of an experience; a null end means it is ongoing
+     */
+    record Span(LocalDate start, LocalDate end) {
+    }
+
+    private static final class Facet {
+        private final Map<String, Integer> spellings = new HashMap<>();
+        private final Set<String> projectIds = new HashSet<>();
+        private final Map<String, Span> experiences = new HashMap<>();
+
+        void addSpelling(String name) {
+            spellings.merge(name, 1, Integer::sum);
+        }
+
+        void removeSpelling(String name) {
+            spellings.computeIfPresent(name, (key, count) -> count > 1 ? count - 1 : null);
+        }
+
+        boolean isEmpty() {
+            return projectIds.isEmpty() && experiences.isEmpty();
+        }
+
+        TechnologyDto toDto(String key, LocalDate today) {
+            String name = spellings.entrySet().stream()
+                    .max(Map.Entry.<String, Integer>comparingByValue()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .map(Map.Entry::getKey)
+                    .orElse(key);
+            return TechnologyDto.builder()
+                    .key(key)
+                    .name(name)
+                    .projectCount(projectIds.size())
+                    .experienceCount(experiences.size())
+                    .years(Math.round(yearsOfUse(today) * 10) / 10.0)
+                    .build();
+        }
+
+        /**
+         * Length of the union of experience date ranges, so overlapping roles are not counted twice
+         */
+        private double yearsOfUse(LocalDate today) {
+            List<Span> spans = new ArrayList<>();
+            for (Span span : experiences.values()) {
+                LocalDate end = span.end() == null || span.end().isAfter(today) ? today : span.end();
+                if (span.start() != null && span.start().isBefore(end)) {
+                    spans.add(new Span(span.start(), end));
+                }
+            }
+            spans.sort(Comparator.comparing(Span::start));
+
+            long days = 0;
+            LocalDate coveredUntil = null;
+            for (Span span : spans) {
+                LocalDate start = coveredUntil != null && coveredUntil.isAfter(span.start()) ? coveredUntil : span.start();
+                if (span.end().isAfter(start)) {
+                    days += ChronoUnit.DAYS.between(start, span.end());
+                    coveredUntil = span.end();
+                }
+            }
+            return days / DAYS_PER_YEAR;
+        }
+    }
+}
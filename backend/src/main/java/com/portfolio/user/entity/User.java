@@ -29,8 +29,16 @@ public class User {
     private String role;
 
     @Column(name = "requires_password_change", nullable = false)
+    @Builder.Default
     private Boolean requiresPasswordChange = false;
 
+    /**
+     * Carried in issued tokens; incremented to invalidate every token issued before
+     */
+    @Column(name = "token_version", nullable = false)
+    @Builder.Default
+    private Integer tokenVersion = 0;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -42,6 +50,9 @@ public class User {
         if (id == null) {
             id = UUID.randomUUID().toString();
         }
+        if (tokenVersion == null) {
+            tokenVersion = 0;
+        }
         LocalDateTime now = LocalDateTime.now();
         createdAt = now;
         updatedAt = now;
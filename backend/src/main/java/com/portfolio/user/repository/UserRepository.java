@@ -2,12 +2,36 @@ package com.portfolio.user.repository;
 
 import com.portfolio.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
+
+    /**
+     * Users changed at or after {@code since}, so other nodes can drop their cached token versions
+     */
+    @Query("SELECT u.username FROM User u WHERE u.updatedAt >= :since")
+    List<String> findUsernamesUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Replace the password and invalidate issued tokens, only if the hash is still the one that was verified
+     * @return 1 if updated, 0 if the user is gone or the password was changed meanwhile
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.passwordHash = :newHash, u.requiresPasswordChange = false, "
+            + "u.tokenVersion = u.tokenVersion + 1, u.updatedAt = :now "
+            + "WHERE u.username = :username AND u.passwordHash = :currentHash")
+    int updatePassword(@Param("username") String username, @Param("currentHash") String currentHash,
+                       @Param("newHash") String newHash, @Param("now") LocalDateTime now);
 }
@@ -1,5 +1,7 @@
 package com.portfolio.user.service;
 
+import com.portfolio.security.TokenVersionCache;
+import com.portfolio.security.UserPrincipal;
 import com.portfolio.user.entity.User;
 import com.portfolio.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +14,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Optional;
 
@@ -20,11 +23,14 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionCache tokenVersionCache;
 
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, @Lazy PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, @Lazy PasswordEncoder passwordEncoder,
+                           TokenVersionCache tokenVersionCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.tokenVersionCache = tokenVersionCache;
     }
 
     @Override
@@ -32,10 +38,11 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
-        return new org.springframework.security.core.userdetails.User(
+        return new UserPrincipal(
                 user.getUsername(),
                 user.getPasswordHash(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole()))
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole())),
+                user.getTokenVersion() == null ? 0 : user.getTokenVersion()
         );
     }
 
@@ -50,8 +57,11 @@ public class UserServiceImpl implements UserService {
         return userRepository.save(user);
     }
 
+    /**
+     * Both BCrypt runs happen outside any transaction, so no pooled connection waits on the hashing pool;
+     * the write is a single conditional update
+     */
     @Override
-    @Transactional
     public User changePassword(String username, String currentPassword, String newPassword) throws Exception {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
@@ -61,15 +71,19 @@ public class UserServiceImpl implements UserService {
             throw new BadCredentialsException("Current password is incorrect");
         }
 
-        // Check that new password is different
-        if (passwordEncoder.matches(newPassword, user.getPasswordHash())) {
+        // Check that new password is different; the current one was just verified, so no second hash is needed
+        if (newPassword.equals(currentPassword)) {
             throw new IllegalArgumentException("New password must be different from current password");
         }
 
-        // Update password and clear flag
-        user.setPasswordHash(passwordEncoder.encode(newPassword));
-        user.setRequiresPasswordChange(false);
-
-        return userRepository.save(user);
+        // Update password, clear flag and invalidate tokens issued with the old password
+        String newHash = passwordEncoder.encode(newPassword);
+        if (userRepository.updatePassword(username, user.getPasswordHash(), newHash, LocalDateTime.now()) == 0) {
+            // Changed by a concurrent request since it was verified
+            throw new BadCredentialsException("Current password is incorrect");
+        }
+        tokenVersionCache.evictOnCommit(username);
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 }
@@ -0,0 +1,8 @@
+-- Reading time, word count and heading outline computed once per save,
+-- so blog listings can be served without loading the article body.
+-- Existing rows are filled in at startup by BlogContentStatsInitializer.
+
+ALTER TABLE blogs
+  ADD COLUMN reading_time INT NULL,
+  ADD COLUMN word_count INT NULL,
+  ADD COLUMN outline JSON NULL;
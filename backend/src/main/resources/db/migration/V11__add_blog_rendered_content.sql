@@ -0,0 +1,9 @@
+-- Server-side rendering output for blogs (sanitized HTML with heading anchors and
+-- highlighted code). Rendered once per edit; content_hash and renderer_version let
+-- the application skip unchanged posts and re-render after renderer upgrades.
+
+ALTER TABLE blogs
+  ADD COLUMN rendered_html MEDIUMTEXT NULL,
+  ADD COLUMN content_hash VARCHAR(64) NULL,
+  ADD COLUMN renderer_version INT NULL,
+  ADD INDEX idx_renderer_version (renderer_version);
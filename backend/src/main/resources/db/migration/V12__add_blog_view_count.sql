@@ -0,0 +1,6 @@
+-- Per-post view counts. Incremented in batches by the application's view counter
+-- (view_count = view_count + delta), never rewritten from the entity.
+
+ALTER TABLE blogs
+  ADD COLUMN view_count BIGINT NOT NULL DEFAULT 0,
+  ADD INDEX idx_view_count (view_count);
@@ -0,0 +1,14 @@
+-- Precomputed related-post recommendations: top-N related published posts per blog,
+-- ranked by combined tag overlap and TF-IDF content similarity.
+
+CREATE TABLE blog_related (
+    id VARCHAR(36) PRIMARY KEY,
+    blog_id VARCHAR(36) NOT NULL,
+    related_blog_id VARCHAR(36) NOT NULL,
+    score DOUBLE NOT NULL,
+    position INT NOT NULL,
+    FOREIGN KEY (blog_id) REFERENCES blogs(id) ON DELETE CASCADE,
+    FOREIGN KEY (related_blog_id) REFERENCES blogs(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_blog_related (blog_id, related_blog_id),
+    INDEX idx_blog_position (blog_id, position)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,14 @@
+-- Large text columns are stored compressed by CompressedTextConverter. Switching them
+-- to MEDIUMBLOB keeps the existing UTF-8 bytes, which the converter still reads as
+-- legacy values; CompressedTextMigrationRunner rewrites them in batches after startup.
+
+ALTER TABLE blogs
+  MODIFY COLUMN excerpt MEDIUMBLOB NULL,
+  MODIFY COLUMN content MEDIUMBLOB NOT NULL,
+  MODIFY COLUMN rendered_html MEDIUMBLOB NULL;
+
+ALTER TABLE projects
+  MODIFY COLUMN description MEDIUMBLOB NULL;
+
+ALTER TABLE experiences
+  MODIFY COLUMN description MEDIUMBLOB NULL;
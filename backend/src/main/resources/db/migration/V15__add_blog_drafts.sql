@@ -0,0 +1,10 @@
+-- Autosaved editor drafts, one per blog. Written behind by the draft buffer and
+-- discarded when the post is saved. Content is compressed like blogs.content.
+
+CREATE TABLE blog_drafts (
+    blog_id VARCHAR(36) PRIMARY KEY,
+    content MEDIUMBLOB NOT NULL,
+    revision BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (blog_id) REFERENCES blogs(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
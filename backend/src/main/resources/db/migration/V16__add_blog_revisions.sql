@@ -0,0 +1,18 @@
+-- Blog revision history. Every CHECKPOINT_INTERVAL-th revision (and any revision whose
+-- delta would not be much smaller than the text) stores the full content; the others store
+-- a segment delta against the previous revision. Payloads are compressed like blogs.content.
+
+CREATE TABLE blog_revisions (
+    id VARCHAR(36) PRIMARY KEY,
+    blog_id VARCHAR(36) NOT NULL,
+    revision_number INT NOT NULL,
+    checkpoint BOOLEAN NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    payload MEDIUMBLOB NOT NULL,
+    content_length INT NOT NULL,
+    content_hash CHAR(64) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (blog_id) REFERENCES blogs(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_blog_revision (blog_id, revision_number),
+    INDEX idx_blog_checkpoint (blog_id, checkpoint, revision_number)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
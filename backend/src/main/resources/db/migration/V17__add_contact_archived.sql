@@ -0,0 +1,7 @@
+-- Archived contacts are kept but hidden from the inbox. Bulk inbox operations
+-- select by read state, archived state and date, so the index leads with those.
+
+ALTER TABLE contacts
+    ADD COLUMN is_archived BOOLEAN NOT NULL DEFAULT FALSE AFTER is_read;
+
+CREATE INDEX idx_archived_read_created ON contacts (is_archived, is_read, created_at);
@@ -0,0 +1,5 @@
+-- Issued JWTs carry the user's token version; bumping it (e.g. on a password
+-- change) invalidates every token issued before without a per-request lookup.
+
+ALTER TABLE users
+    ADD COLUMN token_version INT NOT NULL DEFAULT 0 AFTER requires_password_change;
@@ -0,0 +1,11 @@
+-- Revoked JWTs by their jti claim. Every node polls for rows revoked since its last
+-- look; rows can be deleted once the token they name has expired.
+
+CREATE TABLE revoked_tokens (
+    jti VARCHAR(36) PRIMARY KEY,
+    username VARCHAR(50) NOT NULL,
+    expires_at DATETIME(3) NOT NULL,
+    revoked_at DATETIME(3) NOT NULL,
+    INDEX idx_revoked_at (revoked_at),
+    INDEX idx_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
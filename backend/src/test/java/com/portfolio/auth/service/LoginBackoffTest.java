@@ -0,0 +1,98 @@
+package com.portfolio.auth.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginBackoffTest {
+
+    private Instant now;
+    private LoginBackoff backoff;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.parse("2024-01-01T10:00:00Z");
+        backoff = new LoginBackoff(new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        });
+    }
+
+    @Test
+    void shouldAllowFirstFailuresThenDoubleTheWait() {
+        backoff.recordFailure("admin");
+        backoff.recordFailure("admin");
+        assertEquals(0, backoff.retryAfterSeconds("admin"));
+
+        backoff.recordFailure("admin");
+        assertEquals(1, backoff.retryAfterSeconds("admin"));
+
+        backoff.recordFailure("admin");
+        assertEquals(2, backoff.retryAfterSeconds("Admin"));
+
+        now = now.plusSeconds(2);
+        assertEquals(0, backoff.retryAfterSeconds("admin"));
+    }
+
+    @Test
+    void shouldCapTheDelay() {
+        assertEquals(LoginBackoff.MAX_DELAY.toMillis(), LoginBackoff.delayMillis(100));
+    }
+
+    @Test
+    void shouldClearOnSuccess() {
+        for (int i = 0; i < 5; i++) {
+            backoff.recordFailure("admin");
+        }
+
+        backoff.recordSuccess("admin");
+
+        assertEquals(0, backoff.retryAfterSeconds("admin"));
+        assertEquals(0, backoff.trackedUsernames());
+    }
+
+    @Test
+    void shouldEvictOldFailures() {
+        backoff.recordFailure("admin");
+        now = now.plus(LoginBackoff.MAX_DELAY).plus(Duration.ofSeconds(1));
+        backoff.recordFailure("other");
+
+        backoff.evictExpired();
+
+        assertEquals(1, backoff.trackedUsernames());
+    }
+
+    @Test
+    void shouldKeepTrackingAttackedUsernameWhenFull() {
+        for (int i = 0; i < 5; i++) {
+            backoff.recordFailure("admin");
+        }
+        for (int i = 0; i < LoginBackoff.MAX_TRACKED + 10; i++) {
+            backoff.recordFailure("spray-" + i);
+        }
+
+        backoff.recordFailure("admin");
+
+        assertEquals(LoginBackoff.MAX_TRACKED, backoff.trackedUsernames());
+        assertEquals(8, backoff.retryAfterSeconds("admin"));
+    }
+}
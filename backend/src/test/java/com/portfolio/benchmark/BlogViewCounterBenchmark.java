@@ -0,0 +1,59 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.blog.service.BlogViewCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of recording blog views from many request threads.
+ * The target is well above 100k increments/sec on a single node; the hot-post case
+ * has every thread hitting the same key.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@Threads(8)
+public class BlogViewCounterBenchmark {
+
+    private static final int POSTS = 64;
+
+    private BlogViewCounter viewCounter;
+    private String[] ids;
+
+    @Setup
+    public void setUp() {
+        // Flushing is not measured, so no database is needed
+        viewCounter = new BlogViewCounter(null);
+        ids = new String[POSTS];
+        for (int i = 0; i < POSTS; i++) {
+            ids[i] = "blog-" + i;
+        }
+    }
+
+    @Benchmark
+    public void recordHotPost() {
+        viewCounter.record(ids[0]);
+    }
+
+    @Benchmark
+    public void recordSpreadPosts() {
+        viewCounter.record(ids[ThreadLocalRandom.current().nextInt(POSTS)]);
+    }
+}
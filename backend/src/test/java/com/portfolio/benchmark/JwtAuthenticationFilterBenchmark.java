@@ -0,0 +1,123 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.auth.repository.RevokedTokenRepository;
+import com.portfolio.config.JwtConfig;
+import com.portfolio.security.JwtAuthenticationFilter;
+import com.portfolio.security.JwtTokenProvider;
+import com.portfolio.security.TokenRevocationList;
+import com.portfolio.security.TokenVersionCache;
+import com.portfolio.user.entity.User;
+import com.portfolio.user.repository.UserRepository;
+import jakarta.servlet.FilterChain;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating an admin request in the JWT filter. {@code verifyEveryRequest} runs with
+ * the claim cache disabled (HMAC-SHA512 check plus Base64 and JSON decoding per request);
+ * {@code cachedClaims} sends the same token again, as an admin dashboard does. Both check the token
+ * against a revocation list of {@link #REVOKED_TOKENS} ids; {@code revocationCheck} is that check alone.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark.includes=JwtAuthenticationFilterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJWT0123456789012345678901234567890123456789";
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+    private static final int REVOKED_TOKENS = 10_000;
+
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+    private TokenRevocationList tokenRevocationList;
+    private String jti;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .id("user-001")
+                .username("admin")
+                .passwordHash("hash")
+                .role("admin")
+                .tokenVersion(0)
+                .build();
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user));
+        TokenVersionCache tokenVersionCache = new TokenVersionCache(userRepository);
+
+        tokenRevocationList = new TokenRevocationList(Mockito.mock(RevokedTokenRepository.class), jwtConfig(0));
+        Date expiresAt = new Date(System.currentTimeMillis() + 3600000L);
+        for (int i = 0; i < REVOKED_TOKENS; i++) {
+            tokenRevocationList.revoke(UUID.randomUUID().toString(), "admin", expiresAt);
+        }
+
+        JwtTokenProvider uncached = new JwtTokenProvider(jwtConfig(0));
+        JwtTokenProvider cached = new JwtTokenProvider(jwtConfig(10_000));
+        uncachedFilter = new JwtAuthenticationFilter(uncached, tokenVersionCache, tokenRevocationList);
+        cachedFilter = new JwtAuthenticationFilter(cached, tokenVersionCache, tokenRevocationList);
+
+        String token = cached.generateToken(user);
+        jti = cached.getValidClaims(token).getId();
+        request = new MockHttpServletRequest("GET", "/api/contacts");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object verifyEveryRequest() throws Exception {
+        return authenticate(uncachedFilter);
+    }
+
+    @Benchmark
+    public Object cachedClaims() throws Exception {
+        return authenticate(cachedFilter);
+    }
+
+    @Benchmark
+    public boolean revocationCheck() {
+        return tokenRevocationList.isRevoked(jti);
+    }
+
+    private Object authenticate(JwtAuthenticationFilter filter) throws Exception {
+        // OncePerRequestFilter marks the request as filtered; start fresh each time
+        request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+        filter.doFilter(request, response, NOOP_CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private static JwtConfig jwtConfig(int claimCacheSize) {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret(SECRET);
+        jwtConfig.setExpiration(3600000L);
+        jwtConfig.setClaimCacheSize(claimCacheSize);
+        return jwtConfig;
+    }
+}
@@ -0,0 +1,82 @@
+package com.portfolio.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.config.RateLimitConfig;
+import com.portfolio.security.RateLimitFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the rate limit filter on requests it lets through, against calling the chain directly.
+ * {@code unmatchedRoute} is a public read that no rule covers; {@code allowedLogin} takes a token
+ * from a bucket that never runs dry.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark.includes=RateLimitFilterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@Threads(4)
+public class RateLimitFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    private RateLimitFilter filter;
+    private MockHttpServletRequest readRequest;
+    private MockHttpServletRequest loginRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        RateLimitConfig config = new RateLimitConfig();
+        config.getRules().put("login", rule("/api/auth/login"));
+        config.getRules().put("contact", rule("/api/contacts"));
+        filter = new RateLimitFilter(config, new ObjectMapper());
+
+        readRequest = new MockHttpServletRequest("GET", "/api/blogs");
+        loginRequest = new MockHttpServletRequest("POST", "/api/auth/login");
+        loginRequest.setRemoteAddr("10.0.0." + Thread.currentThread().getId() % 250);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void baseline() throws Exception {
+        NOOP_CHAIN.doFilter(readRequest, response);
+    }
+
+    @Benchmark
+    public void unmatchedRoute() throws Exception {
+        filter.doFilter(readRequest, response, NOOP_CHAIN);
+    }
+
+    @Benchmark
+    public void allowedLogin() throws Exception {
+        filter.doFilter(loginRequest, response, NOOP_CHAIN);
+    }
+
+    private static RateLimitConfig.Rule rule(String path) {
+        RateLimitConfig.Rule rule = new RateLimitConfig.Rule();
+        rule.setPath(path);
+        rule.setCapacity(Integer.MAX_VALUE);
+        rule.setPeriod(Duration.ofNanos(1));
+        return rule;
+    }
+}
@@ -0,0 +1,66 @@
+package com.portfolio.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.common.converter.StringListJsonConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading and writing a tags/technologies column: the ObjectMapper + TypeReference round trip
+ * the entities used to do on every getter call, against the converter's flat-array parser.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark.includes=StringListJsonBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class StringListJsonBenchmark {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    private String json;
+    private List<String> values;
+
+    @Setup
+    public void setUp() {
+        values = List.of("Java", "Spring Boot", "Angular", "MySQL", "Docker", "Kubernetes", "REST API", "CI/CD");
+        json = StringListJsonConverter.write(values);
+    }
+
+    @Benchmark
+    public List<String> parseObjectMapper() throws JsonProcessingException {
+        return objectMapper.readValue(json, STRING_LIST);
+    }
+
+    @Benchmark
+    public List<String> parseConverter() {
+        return StringListJsonConverter.parse(json);
+    }
+
+    @Benchmark
+    public String writeObjectMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(values);
+    }
+
+    @Benchmark
+    public String writeConverter() {
+        return StringListJsonConverter.write(values);
+    }
+}
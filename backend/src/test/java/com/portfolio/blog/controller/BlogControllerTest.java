@@ -2,6 +2,9 @@ package com.portfolio.blog.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.blog.dto.BlogDto;
+import com.portfolio.blog.dto.BlogSummaryDto;
+import com.portfolio.blog.service.BlogDraftService;
+import com.portfolio.blog.service.BlogRevisionService;
 import com.portfolio.blog.service.BlogService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +17,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -34,23 +38,27 @@ class BlogControllerTest {
     @MockBean
     private BlogService blogService;
 
+    @MockBean
+    private BlogDraftService blogDraftService;
+
+    @MockBean
+    private BlogRevisionService blogRevisionService;
+
     @Test
     void shouldGetPublishedBlogsWithoutAuthentication() throws Exception {
-        List<BlogDto> blogs = Arrays.asList(
-                BlogDto.builder()
+        List<BlogSummaryDto> blogs = Arrays.asList(
+                BlogSummaryDto.builder()
                         .id("1")
                         .title("Blog A")
                         .slug("blog-a")
                         .excerpt("Excerpt A")
-                        .content("Content A")
                         .published(true)
                         .tags(Arrays.asList("Java", "Spring"))
                         .build(),
-                BlogDto.builder()
+                BlogSummaryDto.builder()
                         .id("2")
                         .title("Blog B")
                         .slug("blog-b")
-                        .content("Content B")
                         .published(true)
                         .build()
         );
@@ -78,7 +86,7 @@ class BlogControllerTest {
                 .publishedDate(LocalDateTime.now())
                 .build();
 
-        when(blogService.getBlogBySlug("test-blog")).thenReturn(blog);
+        when(blogService.getBlogBySlug("test-blog")).thenReturn(Optional.of(blog));
 
         mockMvc.perform(get("/api/blogs/test-blog"))
                 .andExpect(status().isOk())
@@ -0,0 +1,55 @@
+package com.portfolio.blog.dto;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlogDtoTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void shouldRejectReservedSlugs() {
+        assertEquals(Set.of("Slug is reserved"), slugMessages("popular"));
+        assertEquals(Set.of("Slug is reserved"), slugMessages("all"));
+    }
+
+    @Test
+    void shouldAcceptSlugsThatOnlyContainReservedWords() {
+        assertTrue(slugMessages("popular-posts").isEmpty());
+        assertTrue(slugMessages("all-about-java").isEmpty());
+        assertTrue(slugMessages("hello-world").isEmpty());
+    }
+
+    private static Set<String> slugMessages(String slug) {
+        BlogDto blogDto = BlogDto.builder()
+                .title("Title")
+                .slug(slug)
+                .content("Content")
+                .build();
+        return validator.validateProperty(blogDto, "slug").stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
+    }
+}
@@ -88,7 +88,7 @@ class BlogRepositoryTest {
                 .published(true)
                 .build();
 
-        blog.setTagsList(Arrays.asList("Java", "Spring Boot", "REST API"));
+        blog.setTags(Arrays.asList("Java", "Spring Boot", "REST API"));
 
         entityManager.persist(blog);
         entityManager.flush();
@@ -97,10 +97,60 @@ class BlogRepositoryTest {
         Blog found = blogRepository.findById(blog.getId()).orElse(null);
 
         assertNotNull(found);
-        List<String> tags = found.getTagsList();
+        List<String> tags = found.getTags();
         assertEquals(3, tags.size());
         assertTrue(tags.contains("Java"));
         assertTrue(tags.contains("Spring Boot"));
         assertTrue(tags.contains("REST API"));
     }
+
+    @Test
+    void shouldReadMissingTagsAsEmptyList() {
+        Blog blog = Blog.builder()
+                .title("Untagged Blog")
+                .slug("untagged-blog")
+                .content("Content without tags")
+                .published(true)
+                .build();
+
+        entityManager.persist(blog);
+        entityManager.flush();
+        entityManager.clear();
+
+        Blog found = blogRepository.findById(blog.getId()).orElseThrow();
+        assertEquals(List.of(), found.getTags());
+    }
+
+    @Test
+    void shouldFindPublishedSummariesWithContentStats() {
+        Blog published = Blog.builder()
+                .title("Published Blog")
+                .slug("published-blog")
+                .excerpt("Short excerpt")
+                .content("Long content that the listing should not need")
+                .published(true)
+                .publishedDate(LocalDateTime.now())
+                .readingTime(4)
+                .wordCount(750)
+                .build();
+
+        Blog draft = Blog.builder()
+                .title("Draft Blog")
+                .slug("draft-blog")
+                .content("Draft Content")
+                .published(false)
+                .build();
+
+        entityManager.persist(published);
+        entityManager.persist(draft);
+        entityManager.flush();
+
+        List<BlogSummaryView> summaries = blogRepository.findPublishedSummaries();
+
+        assertEquals(1, summaries.size());
+        assertEquals("published-blog", summaries.get(0).getSlug());
+        assertEquals("Short excerpt", summaries.get(0).getExcerpt());
+        assertEquals(4, summaries.get(0).getReadingTime());
+        assertEquals(750, summaries.get(0).getWordCount());
+    }
 }
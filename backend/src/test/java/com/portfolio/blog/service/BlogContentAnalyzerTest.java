@@ -0,0 +1,37 @@
+package com.portfolio.blog.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlogContentAnalyzerTest {
+
+    private final BlogContentAnalyzer analyzer = new BlogContentAnalyzer();
+
+    @Test
+    void shouldCountWordsIgnoringMarkup() {
+        BlogContentAnalyzer.BlogContentStats stats = analyzer.analyze(
+                "<p>Hello <strong>world</strong> &amp; friends</p><script>var ignored = 1;</script>");
+
+        assertEquals(3, stats.wordCount());
+        assertEquals(1, stats.readingTime());
+    }
+
+    @Test
+    void shouldRoundReadingTimeUp() {
+        String content = "<p>" + "word ".repeat(401) + "</p>";
+
+        BlogContentAnalyzer.BlogContentStats stats = analyzer.analyze(content);
+
+        assertEquals(401, stats.wordCount());
+        assertEquals(3, stats.readingTime());
+    }
+
+    @Test
+    void shouldReturnZeroStatsForEmptyContent() {
+        BlogContentAnalyzer.BlogContentStats stats = analyzer.analyze("  ");
+
+        assertEquals(0, stats.wordCount());
+        assertEquals(0, stats.readingTime());
+    }
+}
@@ -0,0 +1,81 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.blog.dto.BlogOutlineEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlogContentRendererTest {
+
+    private final BlogContentRenderer renderer = new BlogContentRenderer();
+
+    @Test
+    void shouldStripUnsafeMarkup() {
+        String html = renderer.render(
+                "<p onclick=\"steal()\">Hi <a href=\"javascript:alert(1)\">there</a></p><script>alert(1)</script>")
+                .html();
+
+        assertFalse(html.contains("onclick"));
+        assertFalse(html.contains("script"));
+        assertFalse(html.contains("javascript:"));
+        assertTrue(html.startsWith("<p>Hi <a"));
+    }
+
+    @Test
+    void shouldKeepQuillClassesAndEmbeddedImages() {
+        String html = renderer.render(
+                "<p class=\"ql-indent-1\">x</p><img src=\"data:image/png;base64,AAAA\">").html();
+
+        assertTrue(html.contains("class=\"ql-indent-1\""));
+        assertTrue(html.contains("src=\"data:image/png;base64,AAAA\""));
+    }
+
+    @Test
+    void shouldAssignUniqueHeadingAnchorsAndBuildToc() {
+        BlogContentRenderer.RenderedBlogContent rendered = renderer.render(
+                "<h1>Getting Started</h1><p>x</p><h2>Setup <em>Steps</em></h2><h2>Setup Steps</h2>");
+
+        List<BlogOutlineEntry> toc = rendered.toc();
+        assertEquals(3, toc.size());
+        assertEquals(1, toc.get(0).getLevel());
+        assertEquals("getting-started", toc.get(0).getAnchor());
+        assertEquals("Setup Steps", toc.get(1).getText());
+        assertEquals("setup-steps-2", toc.get(2).getAnchor());
+        assertTrue(rendered.html().contains("<h2 id=\"setup-steps\">"));
+        assertTrue(rendered.html().contains("<h2 id=\"setup-steps-2\">"));
+    }
+
+    @Test
+    void shouldRenderMarkdown() {
+        BlogContentRenderer.RenderedBlogContent rendered = renderer.render("# Title\n\nSome *text*.\n");
+
+        assertEquals("<h1 id=\"title\">Title</h1>\n<p>Some <em>text</em>.</p>\n", rendered.html());
+        assertEquals("title", rendered.toc().get(0).getAnchor());
+    }
+
+    @Test
+    void shouldHighlightCodeBlocks() {
+        String html = renderer.render("```java\nreturn \"a<b\"; // done\n```\n").html();
+
+        assertTrue(html.contains("data-language=\"java\""));
+        assertTrue(html.contains("<span class=\"hl-keyword\">return</span>"));
+        assertTrue(html.contains("<span class=\"hl-string\">\"a&lt;b\"</span>"));
+        assertTrue(html.contains("<span class=\"hl-comment\">// done</span>"));
+    }
+
+    @Test
+    void shouldHighlightQuillSyntaxBlocks() {
+        String html = renderer.render("<pre class=\"ql-syntax\" spellcheck=\"false\">int x = 42;\n</pre>").html();
+
+        assertTrue(html.contains("class=\"ql-syntax hl\""));
+        assertTrue(html.contains("<span class=\"hl-number\">42</span>"));
+    }
+
+    @Test
+    void shouldHashContentDeterministically() {
+        assertEquals(renderer.hash("abc"), renderer.render("abc").contentHash());
+        assertNotEquals(renderer.hash("abc"), renderer.hash("abd"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.blog.dto.BlogDraftDto;
+import com.portfolio.blog.dto.BlogDraftPatchDto.TextEdit;
+import com.portfolio.blog.entity.Blog;
+import com.portfolio.blog.entity.BlogDraft;
+import com.portfolio.blog.repository.BlogDraftRepository;
+import com.portfolio.blog.repository.BlogRepository;
+import com.portfolio.common.exception.ConflictException;
+import com.portfolio.common.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlogDraftServiceTest {
+
+    @Mock
+    private BlogRepository blogRepository;
+
+    @Mock
+    private BlogDraftRepository draftRepository;
+
+    private BlogDraftService draftService;
+
+    @BeforeEach
+    void setUp() {
+        draftService = new BlogDraftService(blogRepository, draftRepository);
+        when(draftRepository.findById("1")).thenReturn(Optional.empty());
+        when(blogRepository.findById("1")).thenReturn(Optional.of(
+                Blog.builder().id("1").content("<p>Hello world</p>").build()));
+    }
+
+    @Test
+    void shouldStartFromSavedContent() {
+        BlogDraftDto draft = draftService.getDraft("1");
+
+        assertEquals("<p>Hello world</p>", draft.getContent());
+        assertEquals(0, draft.getRevision());
+    }
+
+    @Test
+    void shouldApplyEditsInOrder() {
+        BlogDraftDto result = draftService.applyEdits("1", 0, List.of(
+                new TextEdit(9, 5, "there"),
+                new TextEdit(14, 0, "!")));
+
+        assertEquals(1, result.getRevision());
+        assertNull(result.getContent());
+        assertEquals("<p>Hello there!</p>", draftService.getDraft("1").getContent());
+    }
+
+    @Test
+    void shouldRejectStaleRevision() {
+        draftService.applyEdits("1", 0, List.of(new TextEdit(0, 0, "x")));
+
+        assertThrows(ConflictException.class,
+                () -> draftService.applyEdits("1", 0, List.of(new TextEdit(0, 0, "y"))));
+    }
+
+    @Test
+    void shouldRejectOutOfRangeEditWithoutApplyingAny() {
+        assertThrows(ValidationException.class, () -> draftService.applyEdits("1", 0, List.of(
+                new TextEdit(0, 0, "ok"),
+                new TextEdit(100, 1, "bad"))));
+
+        BlogDraftDto draft = draftService.getDraft("1");
+        assertEquals("<p>Hello world</p>", draft.getContent());
+        assertEquals(0, draft.getRevision());
+    }
+
+    @Test
+    void shouldCoalesceEditsIntoOneWrite() {
+        for (int i = 0; i < 20; i++) {
+            draftService.applyEdits("1", i, List.of(new TextEdit(3, 0, "a")));
+        }
+
+        draftService.flush();
+        draftService.flush();
+
+        ArgumentCaptor<BlogDraft> saved = ArgumentCaptor.forClass(BlogDraft.class);
+        verify(draftRepository, times(1)).save(saved.capture());
+        assertEquals(20, saved.getValue().getRevision());
+        assertTrue(saved.getValue().getContent().startsWith("<p>" + "a".repeat(20)));
+    }
+
+    @Test
+    void shouldNotWriteDiscardedDraft() {
+        draftService.applyEdits("1", 0, List.of(new TextEdit(0, 0, "x")));
+        when(draftRepository.existsById("1")).thenReturn(true);
+
+        draftService.discard("1");
+        draftService.flush();
+
+        verify(draftRepository).deleteById("1");
+        verify(draftRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,149 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.blog.dto.RelatedBlogDto;
+import com.portfolio.blog.repository.BlogRelatedRepository;
+import com.portfolio.blog.repository.BlogRelatedView;
+import com.portfolio.blog.repository.BlogRepository;
+import com.portfolio.blog.repository.BlogTextView;
+import com.portfolio.common.event.ContentChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlogRelatedIndexTest {
+
+    @Mock
+    private BlogRepository blogRepository;
+
+    @Mock
+    private BlogRelatedRepository relatedRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BlogRelatedIndex relatedIndex;
+
+    private final TextView springBoot = new TextView("1", "spring-boot", "Spring Boot caching",
+            List.of("java", "spring"), "<p>Caching responses in Spring Boot with ETags and cache headers.</p>");
+    private final TextView springSecurity = new TextView("2", "spring-security", "Spring Security filters",
+            List.of("java", "spring"), "<p>Security filter chains in Spring Boot and caching of tokens.</p>");
+    private final TextView sourdough = new TextView("3", "sourdough", "Baking sourdough",
+            List.of("baking"), "<p>Flour, water and salt make a great loaf of bread.</p>");
+
+    @BeforeEach
+    void setUp() {
+        // Run index work inline instead of on the background thread
+        relatedIndex = new BlogRelatedIndex(blogRepository, relatedRepository, transactionManager, Runnable::run);
+    }
+
+    @Test
+    void shouldRankPostsSharingTagsAndContent() {
+        when(blogRepository.findPublishedTexts()).thenReturn(List.of(springBoot, springSecurity, sourdough));
+        when(relatedRepository.findAllOrdered()).thenReturn(List.of());
+
+        relatedIndex.onApplicationReady();
+
+        List<RelatedBlogDto> related = relatedIndex.getRelated("1");
+        assertEquals(1, related.size());
+        assertEquals("spring-security", related.get(0).getSlug());
+        assertTrue(relatedIndex.getRelated("3").isEmpty());
+        verify(relatedRepository).saveAll(anyCollection());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldOnlyRescorePairsInvolvingChangedPost() {
+        when(blogRepository.findPublishedTexts()).thenReturn(List.of(springSecurity, sourdough));
+        when(relatedRepository.findAllOrdered()).thenReturn(List.of());
+        relatedIndex.onApplicationReady();
+        assertTrue(relatedIndex.getRelated("2").isEmpty());
+        clearInvocations(relatedRepository);
+
+        when(blogRepository.findPublishedTextById("1")).thenReturn(Optional.of(springBoot));
+        relatedIndex.onContentChanged(new ContentChangedEvent(
+                ContentChangedEvent.ContentType.BLOG, "1", ContentChangedEvent.ChangeType.CREATED));
+
+        assertEquals("spring-boot", relatedIndex.getRelated("2").get(0).getSlug());
+        assertEquals("spring-security", relatedIndex.getRelated("1").get(0).getSlug());
+        ArgumentCaptor<Collection<String>> deleted = ArgumentCaptor.forClass(Collection.class);
+        verify(relatedRepository).deleteByBlogIds(deleted.capture());
+        assertEquals(2, deleted.getValue().size());
+        assertFalse(deleted.getValue().contains("3"));
+        verify(blogRepository, times(1)).findPublishedTexts();
+    }
+
+    @Test
+    void shouldServeStoredListsWhileRebuilding() {
+        List<Runnable> tasks = new ArrayList<>();
+        relatedIndex = new BlogRelatedIndex(blogRepository, relatedRepository, transactionManager, tasks::add);
+        when(relatedRepository.findPublishedLinks()).thenReturn(List.of(
+                new RelatedView("1", "2", "spring-security", "Spring Security filters")));
+
+        relatedIndex.onApplicationReady();
+        assertEquals(2, tasks.size());
+        tasks.get(0).run();
+
+        assertEquals("spring-security", relatedIndex.getRelated("1").get(0).getSlug());
+        verifyNoInteractions(blogRepository);
+    }
+
+    @Test
+    void shouldRebuildOnceEnoughPostsChanged() {
+        when(blogRepository.findPublishedTexts()).thenReturn(List.of(springBoot, springSecurity, sourdough));
+        when(relatedRepository.findAllOrdered()).thenReturn(List.of());
+        when(blogRepository.findPublishedTextById("3")).thenReturn(Optional.of(sourdough));
+        relatedIndex.onApplicationReady();
+
+        for (int i = 1; i < BlogRelatedIndex.REBUILD_MIN_UPDATES; i++) {
+            relatedIndex.onContentChanged(new ContentChangedEvent(
+                    ContentChangedEvent.ContentType.BLOG, "3", ContentChangedEvent.ChangeType.UPDATED));
+        }
+        verify(blogRepository, times(1)).findPublishedTexts();
+
+        relatedIndex.onContentChanged(new ContentChangedEvent(
+                ContentChangedEvent.ContentType.BLOG, "3", ContentChangedEvent.ChangeType.UPDATED));
+        verify(blogRepository, times(2)).findPublishedTexts();
+        assertEquals("spring-security", relatedIndex.getRelated("1").get(0).getSlug());
+    }
+
+    @Test
+    void shouldDropUnpublishedPostFromRelatedLists() {
+        when(blogRepository.findPublishedTexts()).thenReturn(List.of(springBoot, springSecurity));
+        when(relatedRepository.findAllOrdered()).thenReturn(List.of());
+        relatedIndex.onApplicationReady();
+        assertFalse(relatedIndex.getRelated("1").isEmpty());
+
+        when(blogRepository.findPublishedTextById(anyString())).thenReturn(Optional.empty());
+        relatedIndex.onContentChanged(new ContentChangedEvent(
+                ContentChangedEvent.ContentType.BLOG, "2", ContentChangedEvent.ChangeType.UPDATED));
+
+        assertTrue(relatedIndex.getRelated("1").isEmpty());
+        assertTrue(relatedIndex.getRelated("2").isEmpty());
+    }
+
+    private record RelatedView(String getBlogId, String getRelatedBlogId, String getSlug, String getTitle)
+            implements BlogRelatedView {
+    }
+
+    private record TextView(String getId, String getSlug, String getTitle, List<String> getTags,
+                            String getRenderedHtml) implements BlogTextView {
+        @Override
+        public String getContent() {
+            return getRenderedHtml;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.blog.dto.BlogRevisionDiffDto;
+import com.portfolio.blog.dto.BlogRevisionDto;
+import com.portfolio.blog.entity.Blog;
+import com.portfolio.blog.entity.BlogRevision;
+import com.portfolio.blog.repository.BlogRepository;
+import com.portfolio.blog.repository.BlogRevisionRepository;
+import com.portfolio.blog.repository.BlogRevisionSummaryView;
+import com.portfolio.common.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class BlogRevisionServiceTest {
+
+    @Mock
+    private BlogRepository blogRepository;
+
+    @Mock
+    private BlogRevisionRepository revisionRepository;
+
+    private final List<BlogRevision> stored = new ArrayList<>();
+    private BlogRevisionService revisionService;
+
+    @BeforeEach
+    void setUp() {
+        revisionService = new BlogRevisionService(blogRepository, revisionRepository, new BlogContentRenderer());
+
+        // Back the repository with a list so chains are resolved the way the named query does
+        lenient().when(revisionRepository.save(any(BlogRevision.class))).thenAnswer(invocation -> {
+            BlogRevision revision = invocation.getArgument(0);
+            revision.setCreatedAt(LocalDateTime.now());
+            stored.add(revision);
+            return revision;
+        });
+        lenient().when(revisionRepository.findSummaries(eq("1"), any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(1);
+            return stored.stream()
+                    .sorted(Comparator.comparingInt(BlogRevision::getRevisionNumber).reversed())
+                    .limit(pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE)
+                    .map(BlogRevisionServiceTest::summary)
+                    .toList();
+        });
+        lenient().when(revisionRepository.findChain(eq("1"), anyInt())).thenAnswer(invocation -> {
+            int number = invocation.getArgument(1);
+            int checkpoint = stored.stream()
+                    .filter(r -> r.isCheckpoint() && r.getRevisionNumber() <= number)
+                    .mapToInt(BlogRevision::getRevisionNumber).max().orElse(Integer.MAX_VALUE);
+            return stored.stream()
+                    .filter(r -> r.getRevisionNumber() >= checkpoint && r.getRevisionNumber() <= number)
+                    .sorted(Comparator.comparingInt(BlogRevision::getRevisionNumber))
+                    .toList();
+        });
+    }
+
+    @Test
+    void shouldStoreDeltasBetweenCheckpoints() {
+        String content = largePost();
+        for (int i = 0; i < 12; i++) {
+            content = content.replace("<p>Paragraph " + (i * 10) + " ", "<p>Edited paragraph " + (i * 10) + " ");
+            revisionService.record(blog(content));
+        }
+
+        assertEquals(12, stored.size());
+        assertTrue(stored.get(0).isCheckpoint());
+        assertFalse(stored.get(1).isCheckpoint());
+        assertTrue(stored.get(BlogRevisionService.CHECKPOINT_INTERVAL).isCheckpoint());
+        assertTrue(stored.get(1).getPayload().length() < 200);
+    }
+
+    @Test
+    void shouldReconstructEveryRevision() {
+        List<String> versions = new ArrayList<>();
+        String content = largePost();
+        for (int i = 0; i < 15; i++) {
+            content = content.replace("<p>Paragraph " + (i * 7) + " ", "<p>P" + i + " ");
+            versions.add(content);
+            revisionService.record(blog(content));
+        }
+
+        for (int i = 0; i < versions.size(); i++) {
+            BlogRevisionDto revision = revisionService.getRevision("1", i + 1);
+            assertEquals(versions.get(i), revision.getContent());
+            assertEquals(versions.get(i).length(), revision.getContentLength());
+        }
+    }
+
+    @Test
+    void shouldSkipSaveThatChangesNothing() {
+        revisionService.record(blog("<p>Same</p>"));
+
+        assertTrue(revisionService.record(blog("<p>Same</p>")).isEmpty());
+        assertEquals(1, stored.size());
+    }
+
+    @Test
+    void shouldStoreRewriteAsCheckpoint() {
+        revisionService.record(blog("<p>Original text that is fairly long</p>".repeat(20)));
+        revisionService.record(blog("<h1>Completely different</h1>".repeat(20)));
+
+        assertTrue(stored.get(1).isCheckpoint());
+    }
+
+    @Test
+    void shouldDiffRevisions() {
+        revisionService.record(blog("<p>a</p><p>b</p>"));
+        revisionService.record(blog("<p>a</p><p>c</p>"));
+
+        BlogRevisionDiffDto diff = revisionService.diff("1", 1, 2);
+
+        assertEquals(3, diff.getChunks().size());
+        assertEquals(BlogRevisionDiffDto.Operation.DELETE, diff.getChunks().get(1).getOperation());
+        assertEquals("c</p>", diff.getChunks().get(2).getText());
+    }
+
+    @Test
+    void shouldThrowForUnknownRevision() {
+        revisionService.record(blog("<p>a</p>"));
+
+        assertThrows(ResourceNotFoundException.class, () -> revisionService.getRevision("1", 5));
+    }
+
+    private static Blog blog(String content) {
+        return Blog.builder().id("1").title("Title").content(content).build();
+    }
+
+    private static String largePost() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < 50_000; i++) {
+            sb.append("<p>Paragraph ").append(i).append(" with some body text.</p>");
+        }
+        return sb.toString();
+    }
+
+    private static BlogRevisionSummaryView summary(BlogRevision revision) {
+        return new BlogRevisionSummaryView() {
+            public int getRevisionNumber() { return revision.getRevisionNumber(); }
+            public String getTitle() { return revision.getTitle(); }
+            public boolean isCheckpoint() { return revision.isCheckpoint(); }
+            public int getContentLength() { return revision.getContentLength(); }
+            public String getContentHash() { return revision.getContentHash(); }
+            public LocalDateTime getCreatedAt() { return revision.getCreatedAt(); }
+        };
+    }
+}
@@ -2,14 +2,18 @@ package com.portfolio.blog.service;
 
 import com.portfolio.blog.dto.BlogDto;
 import com.portfolio.blog.dto.BlogMapper;
+import com.portfolio.blog.dto.BlogSummaryDto;
 import com.portfolio.blog.entity.Blog;
 import com.portfolio.blog.repository.BlogRepository;
+import com.portfolio.blog.repository.BlogSummaryView;
 import com.portfolio.common.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -32,11 +36,28 @@ class BlogServiceTest {
     @Mock
     private BlogImageValidationService blogImageValidationService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BlogViewCounter viewCounter;
+
+    @Mock
+    private BlogRelatedIndex relatedIndex;
+
+    @Mock
+    private BlogSlugIndex slugIndex;
+
+    @Mock
+    private EntityManager entityManager;
+
     private BlogServiceImpl blogService;
 
     @BeforeEach
     void setUp() {
-        blogService = new BlogServiceImpl(blogRepository, blogMapper, blogImageValidationService);
+        blogService = new BlogServiceImpl(blogRepository, blogMapper, blogImageValidationService,
+                new BlogContentAnalyzer(), new BlogContentRenderer(), eventPublisher, viewCounter, relatedIndex,
+                slugIndex, entityManager);
     }
 
     @Test
@@ -96,6 +117,7 @@ class BlogServiceTest {
                 .slug("blog-a")
                 .content("Content A")
                 .published(true)
+                .viewCount(40L)
                 .build();
         BlogDto blogDto = BlogDto.builder()
                 .id("1")
@@ -105,15 +127,19 @@ class BlogServiceTest {
                 .published(true)
                 .build();
 
-        when(blogRepository.findBySlug("blog-a")).thenReturn(Optional.of(blog));
+        when(slugIndex.resolve("blog-a")).thenReturn(Optional.of("1"));
+        when(blogRepository.findById("1")).thenReturn(Optional.of(blog));
         when(blogMapper.toDto(blog)).thenReturn(blogDto);
+        when(viewCounter.pendingViews("1")).thenReturn(2L);
 
-        BlogDto result = blogService.getBlogBySlug("blog-a");
+        BlogDto result = blogService.getBlogBySlug("blog-a").orElseThrow();
 
         assertEquals("blog-a", result.getSlug());
         assertEquals("Blog A", result.getTitle());
-        verify(blogRepository).findBySlug("blog-a");
+        assertEquals(42L, result.getViewCount());
+        verify(blogRepository).findById("1");
         verify(blogMapper).toDto(blog);
+        verify(viewCounter).record("1");
     }
 
     @Test
@@ -128,14 +154,21 @@ class BlogServiceTest {
     }
 
     @Test
-    void shouldThrowExceptionWhenBlogNotFoundBySlug() {
-        when(blogRepository.findBySlug("non-existent")).thenReturn(Optional.empty());
+    void shouldReturnEmptyWithoutQueryWhenSlugIsUnknown() {
+        when(slugIndex.resolve("non-existent")).thenReturn(Optional.empty());
 
-        assertThrows(ResourceNotFoundException.class, () -> {
-            blogService.getBlogBySlug("non-existent");
-        });
+        assertTrue(blogService.getBlogBySlug("non-existent").isEmpty());
+
+        verifyNoInteractions(blogRepository);
+    }
+
+    @Test
+    void shouldNotReturnUnpublishedBlogBySlug() {
+        Blog draft = Blog.builder().id("1").title("Draft").slug("draft").content("c").published(false).build();
+        when(slugIndex.resolve("draft")).thenReturn(Optional.of("1"));
+        when(blogRepository.findById("1")).thenReturn(Optional.of(draft));
 
-        verify(blogRepository).findBySlug("non-existent");
+        assertTrue(blogService.getBlogBySlug("draft").isEmpty());
     }
 
     @Test
@@ -253,22 +286,136 @@ class BlogServiceTest {
 
     @Test
     void shouldGetPublishedBlogs() {
-        List<Blog> blogs = Arrays.asList(
-                Blog.builder().id("1").title("Published Blog A").slug("published-a").content("Content A").published(true).build(),
-                Blog.builder().id("2").title("Published Blog B").slug("published-b").content("Content B").published(true).build()
-        );
-        List<BlogDto> blogDtos = Arrays.asList(
-                BlogDto.builder().id("1").title("Published Blog A").slug("published-a").content("Content A").published(true).build(),
-                BlogDto.builder().id("2").title("Published Blog B").slug("published-b").content("Content B").published(true).build()
+        List<BlogSummaryView> views = Arrays.asList(mock(BlogSummaryView.class), mock(BlogSummaryView.class));
+        List<BlogSummaryDto> summaries = Arrays.asList(
+                BlogSummaryDto.builder().id("1").title("Published Blog A").slug("published-a").published(true).readingTime(3).build(),
+                BlogSummaryDto.builder().id("2").title("Published Blog B").slug("published-b").published(true).readingTime(5).build()
         );
 
-        when(blogRepository.findPublishedBlogs()).thenReturn(blogs);
-        when(blogMapper.toDtoList(blogs)).thenReturn(blogDtos);
+        when(blogRepository.findPublishedSummaries()).thenReturn(views);
+        when(blogMapper.toSummaryDtoList(views)).thenReturn(summaries);
 
-        List<BlogDto> result = blogService.getPublishedBlogs();
+        List<BlogSummaryDto> result = blogService.getPublishedBlogs();
 
         assertEquals(2, result.size());
-        verify(blogRepository).findPublishedBlogs();
-        verify(blogMapper).toDtoList(blogs);
+        verify(blogRepository).findPublishedSummaries();
+        verify(blogRepository, never()).findPublishedBlogs();
+        verify(blogMapper).toSummaryDtoList(views);
+    }
+
+    @Test
+    void shouldComputeContentStatsOnCreate() {
+        BlogDto blogDto = BlogDto.builder()
+                .title("Stats Blog")
+                .slug("stats-blog")
+                .content("<h2>Intro</h2><p>one two three</p>")
+                .published(false)
+                .build();
+        Blog blog = Blog.builder()
+                .title("Stats Blog")
+                .slug("stats-blog")
+                .content("<h2>Intro</h2><p>one two three</p>")
+                .published(false)
+                .build();
+
+        when(blogMapper.toEntity(blogDto)).thenReturn(blog);
+        when(blogRepository.save(blog)).thenReturn(blog);
+        when(blogMapper.toDto(blog)).thenReturn(blogDto);
+
+        blogService.createBlog(blogDto);
+
+        assertEquals(4, blog.getWordCount());
+        assertEquals(1, blog.getReadingTime());
+        assertNotNull(blog.getOutline());
+        assertTrue(blog.getOutline().contains("\"anchor\":\"intro\""));
+    }
+
+    @Test
+    void shouldRenderContentOnCreate() {
+        BlogDto blogDto = BlogDto.builder()
+                .title("Rendered Blog")
+                .slug("rendered-blog")
+                .content("<h2>Intro</h2><p onclick=\"x()\">text</p><script>alert(1)</script>")
+                .published(false)
+                .build();
+        Blog blog = Blog.builder()
+                .title("Rendered Blog")
+                .slug("rendered-blog")
+                .content(blogDto.getContent())
+                .published(false)
+                .build();
+
+        when(blogMapper.toEntity(blogDto)).thenReturn(blog);
+        when(blogRepository.save(blog)).thenReturn(blog);
+        when(blogMapper.toDto(blog)).thenReturn(blogDto);
+
+        blogService.createBlog(blogDto);
+
+        assertEquals("<h2 id=\"intro\">Intro</h2><p>text</p>", blog.getRenderedHtml());
+        assertEquals(BlogContentRenderer.RENDERER_VERSION, blog.getRendererVersion());
+        assertEquals(64, blog.getContentHash().length());
+    }
+
+    @Test
+    void shouldSkipRenderingWhenContentIsUnchanged() {
+        BlogContentRenderer renderer = new BlogContentRenderer();
+        Blog existingBlog = Blog.builder()
+                .id("1")
+                .title("Blog")
+                .slug("blog")
+                .content("<p>same</p>")
+                .renderedHtml("previous rendering")
+                .contentHash(renderer.hash("<p>same</p>"))
+                .rendererVersion(BlogContentRenderer.RENDERER_VERSION)
+                .published(true)
+                .build();
+        BlogDto blogDto = BlogDto.builder().title("New Title").slug("blog").content("<p>same</p>").published(true).build();
+
+        when(blogRepository.findById("1")).thenReturn(Optional.of(existingBlog));
+        when(blogRepository.save(existingBlog)).thenReturn(existingBlog);
+        when(blogMapper.toDto(existingBlog)).thenReturn(blogDto);
+
+        blogService.updateBlog("1", blogDto);
+
+        assertEquals("previous rendering", existingBlog.getRenderedHtml());
+    }
+
+    @Test
+    void shouldReturnRenderedHtmlWithoutSourceBySlug() {
+        Blog blog = Blog.builder().id("1").title("Blog").slug("blog").content("<p>raw</p>").published(true).build();
+        BlogDto blogDto = BlogDto.builder().id("1").title("Blog").slug("blog")
+                .content("<p>raw</p>").renderedHtml("<p>raw</p>").published(true).build();
+
+        when(slugIndex.resolve("blog")).thenReturn(Optional.of("1"));
+        when(blogRepository.findById("1")).thenReturn(Optional.of(blog));
+        when(blogMapper.toDto(blog)).thenReturn(blogDto);
+
+        BlogDto result = blogService.getBlogBySlug("blog").orElseThrow();
+
+        assertEquals("<p>raw</p>", result.getRenderedHtml());
+        assertNull(result.getContent());
+    }
+
+    @Test
+    void shouldRerenderStaleBlogs() {
+        Blog legacy = Blog.builder()
+                .id("1")
+                .title("Legacy")
+                .slug("legacy")
+                .content("<p>legacy post body</p>")
+                .published(true)
+                .build();
+
+        when(blogRepository.findIdsNeedingRender(BlogContentRenderer.RENDERER_VERSION)).thenReturn(List.of("1"));
+        when(blogRepository.findAllById(List.of("1"))).thenReturn(List.of(legacy));
+
+        int rerendered = blogService.rerenderBlogs(false);
+
+        assertEquals(1, rerendered);
+        assertEquals(3, legacy.getWordCount());
+        assertEquals("<p>legacy post body</p>", legacy.getRenderedHtml());
+        verify(blogRepository).saveAll(List.of(legacy));
+        verify(entityManager).clear();
+        verify(blogRepository, never()).findAllIds();
     }
 }
@@ -0,0 +1,98 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.blog.repository.BlogRepository;
+import com.portfolio.blog.repository.BlogSlugView;
+import com.portfolio.common.event.ContentChangedEvent;
+import com.portfolio.common.event.ContentChangedEvent.ChangeType;
+import com.portfolio.common.event.ContentChangedEvent.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlogSlugIndexTest {
+
+    @Mock
+    private BlogRepository blogRepository;
+
+    private BlogSlugIndex slugIndex;
+
+    @BeforeEach
+    void setUp() {
+        slugIndex = new BlogSlugIndex(blogRepository);
+        when(blogRepository.findPublishedSlugs()).thenReturn(List.of(new SlugView("1", "hello-world")));
+    }
+
+    @Test
+    void shouldResolveFromMemoryAfterFirstLoad() {
+        assertEquals(Optional.of("1"), slugIndex.resolve("hello-world"));
+        assertEquals(Optional.empty(), slugIndex.resolve("wp-login.php"));
+        assertEquals(Optional.empty(), slugIndex.resolve("wp-admin"));
+
+        verify(blogRepository, times(1)).findPublishedSlugs();
+        verifyNoMoreInteractions(blogRepository);
+    }
+
+    @Test
+    void shouldFollowSlugRename() {
+        slugIndex.resolve("hello-world");
+        when(blogRepository.findPublishedSlugById("1")).thenReturn(Optional.of("hello-again"));
+
+        slugIndex.onContentChanged(new ContentChangedEvent(ContentType.BLOG, "1", ChangeType.UPDATED));
+
+        assertEquals(Optional.empty(), slugIndex.resolve("hello-world"));
+        assertEquals(Optional.of("1"), slugIndex.resolve("hello-again"));
+    }
+
+    @Test
+    void shouldDropDeletedBlog() {
+        slugIndex.resolve("hello-world");
+
+        slugIndex.onContentChanged(new ContentChangedEvent(ContentType.BLOG, "1", ChangeType.DELETED));
+
+        assertEquals(Optional.empty(), slugIndex.resolve("hello-world"));
+        verify(blogRepository, never()).findPublishedSlugById("1");
+    }
+
+    @Test
+    void shouldReloadWholeIndexOnBulkChange() {
+        slugIndex.resolve("hello-world");
+        when(blogRepository.findPublishedSlugs()).thenReturn(List.of(new SlugView("2", "second-post")));
+
+        slugIndex.onContentChanged(new ContentChangedEvent(ContentType.BLOG, null, ChangeType.REORDERED));
+
+        assertEquals(Optional.empty(), slugIndex.resolve("hello-world"));
+        assertEquals(Optional.of("2"), slugIndex.resolve("second-post"));
+        verify(blogRepository, times(2)).findPublishedSlugs();
+    }
+
+    @Test
+    void shouldPickUpPostsPublishedOnOtherNodesOnRefresh() {
+        assertEquals(Optional.empty(), slugIndex.resolve("second-post"));
+        when(blogRepository.findPublishedSlugs())
+                .thenReturn(List.of(new SlugView("1", "hello-world"), new SlugView("2", "second-post")));
+
+        slugIndex.refresh();
+
+        assertEquals(Optional.of("2"), slugIndex.resolve("second-post"));
+    }
+
+    @Test
+    void shouldNotLoadOnRefreshBeforeFirstUse() {
+        slugIndex.refresh();
+        slugIndex.resolve("hello-world");
+
+        verify(blogRepository, times(1)).findPublishedSlugs();
+    }
+
+    private record SlugView(String getId, String getSlug) implements BlogSlugView {
+    }
+}
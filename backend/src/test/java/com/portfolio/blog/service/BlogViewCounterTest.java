@@ -0,0 +1,102 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.common.event.ContentChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlogViewCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private BlogViewCounter viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        viewCounter = new BlogViewCounter(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFlushAccumulatedViewsInOneBatch() {
+        viewCounter.record("a");
+        viewCounter.record("a");
+        viewCounter.record("b");
+
+        assertEquals(3, viewCounter.flush());
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertEquals(2, batch.getValue().size());
+        assertTrue(batch.getValue().stream().anyMatch(args -> args[0].equals(2L) && args[1].equals("a")));
+        assertEquals(0, viewCounter.pendingViews("a"));
+    }
+
+    @Test
+    void shouldSkipDatabaseWhenNothingPending() {
+        assertEquals(0, viewCounter.flush());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void shouldKeepViewsWhenFlushFails() {
+        viewCounter.record("a");
+        viewCounter.record("a");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertEquals(0, viewCounter.flush());
+        assertEquals(2, viewCounter.pendingViews("a"));
+    }
+
+    @Test
+    void shouldDropPendingViewsOfDeletedBlog() {
+        viewCounter.record("a");
+        viewCounter.record("b");
+
+        viewCounter.onContentChanged(new ContentChangedEvent(
+                ContentChangedEvent.ContentType.BLOG, "a", ContentChangedEvent.ChangeType.DELETED));
+
+        assertEquals(0, viewCounter.pendingViews("a"));
+        assertEquals(1, viewCounter.flush());
+    }
+
+    @Test
+    void shouldNotLoseConcurrentViews() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    viewCounter.record("a");
+                }
+            });
+        }
+        executor.shutdown();
+
+        long flushed = 0;
+        while (!executor.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            flushed += viewCounter.flush();
+        }
+        flushed += viewCounter.flush();
+
+        assertEquals(40_000, flushed);
+    }
+}
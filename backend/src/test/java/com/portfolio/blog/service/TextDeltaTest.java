@@ -0,0 +1,67 @@
+package com.portfolio.blog.service;
+
+import com.portfolio.blog.dto.BlogRevisionDiffDto.Chunk;
+import com.portfolio.blog.dto.BlogRevisionDiffDto.Operation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextDeltaTest {
+
+    @Test
+    void shouldRoundTripEdits() {
+        String base = "<h2>Intro</h2><p>First paragraph.</p><p>Second paragraph.</p>\n# Trailing";
+        String target = "<h2>Intro</h2><p>First paragraph, edited.</p><p>New one.</p><p>Second paragraph.</p>";
+
+        assertEquals(target, TextDelta.apply(base, TextDelta.encode(base, target)));
+        assertEquals("", TextDelta.apply(base, TextDelta.encode(base, "")));
+        assertEquals(base, TextDelta.apply("", TextDelta.encode("", base)));
+    }
+
+    @Test
+    void shouldKeepDeltaSmallForSmallEditToLargePost() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < 200_000; i++) {
+            sb.append("<p>Paragraph ").append(i).append(" with some reasonably long body text.</p>");
+        }
+        String base = sb.toString();
+        String target = base.replace("<p>Paragraph 1500 ", "<p>Paragraph fifteen hundred ");
+
+        String delta = TextDelta.encode(base, target);
+
+        assertTrue(delta.length() < 200, "delta was " + delta.length() + " chars");
+        assertEquals(target, TextDelta.apply(base, delta));
+    }
+
+    @Test
+    void shouldRoundTripRandomEdits() {
+        Random random = new Random(42);
+        String[] words = {"<p>", "</p>", "alpha ", "beta ", "\n", "<em>", "</em>", "gamma. "};
+        for (int round = 0; round < 200; round++) {
+            String a = randomText(random, words, random.nextInt(60));
+            String b = randomText(random, words, random.nextInt(60));
+            assertEquals(b, TextDelta.apply(a, TextDelta.encode(a, b)));
+        }
+    }
+
+    @Test
+    void shouldDescribeChangesAsChunks() {
+        List<Chunk> chunks = TextDelta.chunks("<p>a</p><p>b</p>", "<p>a</p><p>c</p>");
+
+        assertEquals(List.of(
+                new Chunk(Operation.EQUAL, "<p>a</p><p>"),
+                new Chunk(Operation.DELETE, "b</p>"),
+                new Chunk(Operation.INSERT, "c</p>")), chunks);
+    }
+
+    private static String randomText(Random random, String[] words, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append(words[random.nextInt(words.length)]);
+        }
+        return sb.toString();
+    }
+}
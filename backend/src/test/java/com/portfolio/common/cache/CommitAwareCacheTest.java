@@ -0,0 +1,69 @@
+package com.portfolio.common.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommitAwareCacheTest {
+
+    private final CommitAwareCache<String, String> cache = new CommitAwareCache<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldLoadOnceUntilEvicted() {
+        assertEquals("v1", cache.get("k", this::load));
+        assertEquals("v1", cache.get("k", this::load));
+
+        cache.evict("k");
+
+        assertEquals("v2", cache.get("k", this::load));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldNotStoreValueLoadedAcrossEviction() {
+        String value = cache.get("k", key -> {
+            // A write commits while this read is still mapping the old row
+            cache.evict(key);
+            return "stale";
+        });
+
+        assertEquals("stale", value);
+        assertEquals("v1", cache.get("k", this::load));
+    }
+
+    @Test
+    void shouldEvictAgainAfterTransactionCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictOnCommit("k");
+        // A read between the write and its commit still sees, and caches, the old row
+        assertEquals("v1", cache.get("k", this::load));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals("v2", cache.get("k", this::load));
+    }
+
+    @Test
+    void shouldNotCacheMissingValues() {
+        assertNull(cache.get("k", key -> null));
+        assertEquals("v1", cache.get("k", this::load));
+    }
+
+    private String load(String key) {
+        return "v" + loads.incrementAndGet();
+    }
+}
@@ -0,0 +1,56 @@
+package com.portfolio.common.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedTextConverterTest {
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @Test
+    void shouldCompressLargeText() {
+        String content = "<p>Spring Boot makes it easy to create stand-alone applications. </p>".repeat(200);
+
+        byte[] stored = converter.convertToDatabaseColumn(content);
+
+        assertEquals(CompressedTextConverter.MAGIC, stored[0]);
+        assertEquals(CompressedTextConverter.CODEC_DEFLATE, stored[2]);
+        assertTrue(stored.length < content.length() / 4);
+        assertEquals(content, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    void shouldStoreShortTextUncompressed() {
+        byte[] stored = converter.convertToDatabaseColumn("Short excerpt – with ünïcode");
+
+        assertEquals(CompressedTextConverter.CODEC_STORED, stored[2]);
+        assertEquals("Short excerpt – with ünïcode", converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    void shouldReadLegacyUtf8Rows() {
+        byte[] legacy = "<p>Written before compression</p>".getBytes(StandardCharsets.UTF_8);
+
+        assertFalse(CompressedTextConverter.isEncoded(legacy));
+        assertEquals("<p>Written before compression</p>", converter.convertToEntityAttribute(legacy));
+    }
+
+    @Test
+    void shouldHandleNullAndEmpty() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+        assertEquals("", converter.convertToEntityAttribute(converter.convertToDatabaseColumn("")));
+        assertEquals("", converter.convertToEntityAttribute(new byte[0]));
+    }
+
+    @Test
+    void shouldRejectUnknownVersion() {
+        byte[] stored = converter.convertToDatabaseColumn("text");
+        stored[1] = 9;
+
+        assertThrows(IllegalStateException.class, () -> converter.convertToEntityAttribute(stored));
+    }
+}
@@ -0,0 +1,78 @@
+package com.portfolio.common.converter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.blog.dto.BlogDto;
+import com.portfolio.blog.dto.BlogMapper;
+import com.portfolio.blog.entity.Blog;
+import com.portfolio.project.dto.ProjectDto;
+import com.portfolio.project.dto.ProjectMapper;
+import com.portfolio.project.entity.Project;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringListJsonConverterTest {
+
+    private final StringListJsonConverter converter = new StringListJsonConverter();
+
+    @Test
+    void shouldRoundTripValues() {
+        List<String> values = List.of("Java", "Spring Boot", "quote \" and \\ backslash", "line\nbreak", "naïve ☕");
+
+        String json = converter.convertToDatabaseColumn(values);
+
+        assertEquals(values, converter.convertToEntityAttribute(json));
+    }
+
+    @Test
+    void shouldMatchJacksonOnEscapes() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> values = List.of("tab\there", "ctrl\u0001", "slash/", "emoji \uD83D\uDE80");
+
+        String json = StringListJsonConverter.write(values);
+
+        assertEquals(values, objectMapper.readValue(json, new TypeReference<List<String>>() {}));
+        assertEquals(List.of("a/b", "é"), StringListJsonConverter.parse(" [ \"a\\/b\" , \"\\u00e9\" ] "));
+    }
+
+    @Test
+    void shouldLetMappersUpdateLoadedListsInPlace() {
+        Blog blog = Blog.builder().tags(converter.convertToEntityAttribute("[\"a\",\"b\"]")).build();
+        Project project = Project.builder().technologies(converter.convertToEntityAttribute(null)).build();
+
+        Mappers.getMapper(BlogMapper.class).updateEntityFromDto(
+                BlogDto.builder().title("t").slug("s").content("c").tags(List.of("c")).build(), blog);
+        Mappers.getMapper(ProjectMapper.class).updateEntityFromDto(
+                ProjectDto.builder().title("t").technologies(List.of("Java")).build(), project);
+
+        assertEquals(List.of("c"), blog.getTags());
+        assertEquals(List.of("Java"), project.getTechnologies());
+    }
+
+    @Test
+    void shouldStoreEmptyListAsNull() {
+        assertNull(converter.convertToDatabaseColumn(List.of()));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertEquals("[\"a\"]", converter.convertToDatabaseColumn(Arrays.asList("a", null)));
+        assertEquals(List.of(), converter.convertToEntityAttribute(null));
+        assertEquals(List.of(), converter.convertToEntityAttribute("[]"));
+    }
+
+    @Test
+    void shouldUnwrapArrayStoredAsJsonString() {
+        assertEquals(List.of("Java", "Spring"), converter.convertToEntityAttribute("\"[\\\"Java\\\",\\\"Spring\\\"]\""));
+    }
+
+    @Test
+    void shouldReportMalformedData() {
+        for (String malformed : List.of("[\"a\"", "[\"a\",]", "{\"a\":1}", "[1,2]", "[\"a\"] x", "[\"\\q\"]")) {
+            assertThrows(IllegalArgumentException.class, () -> StringListJsonConverter.parse(malformed), malformed);
+        }
+        assertEquals(List.of(), converter.convertToEntityAttribute("[\"a\","));
+    }
+}
@@ -0,0 +1,85 @@
+package com.portfolio.common.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveLimiterTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private long now;
+
+    @Test
+    void shouldRejectOnceLimitIsReached() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(2, 1, 10, 1.5);
+
+        assertTrue(limiter.tryAcquire(limiter.getLimit()));
+        assertTrue(limiter.tryAcquire(limiter.getLimit()));
+        assertTrue(limiter.isSaturated());
+        assertFalse(limiter.tryAcquire(limiter.getLimit()));
+        assertEquals(1, limiter.getRejected());
+
+        limiter.release(MS, now);
+        assertTrue(limiter.tryAcquire(limiter.getLimit()));
+    }
+
+    @Test
+    void shouldGrowWhileLatencyIsSteady() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(10, 1, 100, 1.5);
+
+        for (int window = 0; window < 20; window++) {
+            runWindow(limiter, limiter.getLimit(), 10 * MS);
+        }
+
+        assertTrue(limiter.getLimit() > 10, "limit was " + limiter.getLimit());
+    }
+
+    @Test
+    void shouldShrinkWhenLatencyRises() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(40, 1, 100, 1.5);
+        for (int window = 0; window < 5; window++) {
+            runWindow(limiter, 40, 10 * MS);
+        }
+        int before = limiter.getLimit();
+
+        for (int window = 0; window < 10; window++) {
+            runWindow(limiter, limiter.getLimit(), 100 * MS);
+        }
+
+        assertTrue(limiter.getLimit() < before, "limit went from " + before + " to " + limiter.getLimit());
+        assertTrue(limiter.getLimit() >= 1);
+    }
+
+    @Test
+    void shouldNotGrowWhenMostPermitsAreUnused() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(20, 1, 100, 1.5);
+
+        for (int window = 0; window < 10; window++) {
+            runWindow(limiter, 2, 10 * MS);
+        }
+
+        assertEquals(20, limiter.getLimit());
+    }
+
+    /**
+     * One full window with {@code concurrency} requests in flight at a time, each taking {@code rtt}
+     */
+    private void runWindow(AdaptiveLimiter limiter, int concurrency, long rtt) {
+        int samples = 0;
+        long end = now + AdaptiveLimiter.WINDOW_NANOS;
+        while (samples < AdaptiveLimiter.WINDOW_SAMPLES || now < end) {
+            int admitted = 0;
+            while (admitted < concurrency && limiter.tryAcquire(limiter.getLimit())) {
+                admitted++;
+            }
+            now += rtt;
+            for (int i = 0; i < admitted; i++) {
+                limiter.release(rtt, now);
+            }
+            samples += admitted;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.portfolio.common.limit;
+
+import com.portfolio.common.exception.ServiceUnavailableException;
+import com.portfolio.config.ConcurrencyLimitConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitConfig config = new ConcurrencyLimitConfig();
+        config.getPools().put(LimitPool.ADMIN, pool(2));
+        config.getPools().put(LimitPool.MEDIA, pool(4));
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new ConcurrencyLimitInterceptor(config, meterRegistry);
+    }
+
+    @Test
+    void shouldClassifyRequestsIntoPools() {
+        assertEquals(LimitPool.AUTH, ConcurrencyLimitInterceptor.classify(request("POST", "/api/auth/login")));
+        assertEquals(LimitPool.PUBLIC, ConcurrencyLimitInterceptor.classify(request("GET", "/api/blogs")));
+        assertEquals(LimitPool.PUBLIC, ConcurrencyLimitInterceptor.classify(request("POST", "/api/contacts")));
+        assertEquals(LimitPool.MEDIA, ConcurrencyLimitInterceptor.classify(request("GET", "/api/profile/avatar")));
+        assertEquals(LimitPool.MEDIA, ConcurrencyLimitInterceptor.classify(request("GET", "/api/blogs/1/cover-image")));
+        assertEquals(LimitPool.MEDIA, ConcurrencyLimitInterceptor.classify(request("GET", "/api/projects/1/thumbnail")));
+        assertEquals(LimitPool.ADMIN, ConcurrencyLimitInterceptor.classify(request("PUT", "/api/projects/1")));
+    }
+
+    @Test
+    void shouldRejectWhenPoolIsFullAndReleaseOnCompletion() {
+        MockHttpServletRequest first = request("PUT", "/api/projects/1");
+        MockHttpServletRequest second = request("PUT", "/api/projects/2");
+        assertTrue(interceptor.preHandle(first, new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(second, new MockHttpServletResponse(), null));
+
+        assertThrows(ServiceUnavailableException.class,
+                () -> interceptor.preHandle(request("PUT", "/api/projects/3"), new MockHttpServletResponse(), null));
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), null, null);
+        assertEquals(1, interceptor.limiter(LimitPool.ADMIN).getInflight());
+        assertTrue(interceptor.preHandle(request("PUT", "/api/projects/3"), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void shouldShedLowerPriorityPoolsWhileHigherOneIsSaturated() {
+        interceptor.preHandle(request("PUT", "/api/projects/1"), new MockHttpServletResponse(), null);
+        interceptor.preHandle(request("PUT", "/api/projects/2"), new MockHttpServletResponse(), null);
+
+        // Media admits half of its limit of 4 while admin writes are saturated
+        assertTrue(interceptor.preHandle(request("GET", "/api/profile/avatar"), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(request("GET", "/api/profile/resume"), new MockHttpServletResponse(), null));
+        assertThrows(ServiceUnavailableException.class,
+                () -> interceptor.preHandle(request("GET", "/api/profile/avatar"), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void shouldNotShedOtherPoolsWhileLoginIsSaturated() {
+        for (int i = 0; i < LimitPool.AUTH.getInitialLimit(); i++) {
+            interceptor.preHandle(request("POST", "/api/auth/login"), new MockHttpServletResponse(), null);
+        }
+        assertThrows(ServiceUnavailableException.class,
+                () -> interceptor.preHandle(request("POST", "/api/auth/login"), new MockHttpServletResponse(), null));
+
+        // Media still admits its full limit of 4
+        for (int i = 0; i < 4; i++) {
+            assertTrue(interceptor.preHandle(request("GET", "/api/profile/avatar"), new MockHttpServletResponse(), null));
+        }
+        assertTrue(interceptor.preHandle(request("GET", "/api/blogs"), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void shouldPublishLimitsAsMetrics() {
+        interceptor.preHandle(request("PUT", "/api/projects/1"), new MockHttpServletResponse(), null);
+
+        assertEquals(2.0, meterRegistry.get("http.server.concurrency.limit").tag("pool", "admin").gauge().value());
+        assertEquals(1.0, meterRegistry.get("http.server.concurrency.inflight").tag("pool", "admin").gauge().value());
+        assertEquals(0.0, meterRegistry.get("http.server.concurrency.rejected").tag("pool", "media").functionCounter().count());
+    }
+
+    private static ConcurrencyLimitConfig.Pool pool(int limit) {
+        ConcurrencyLimitConfig.Pool pool = new ConcurrencyLimitConfig.Pool();
+        pool.setInitialLimit(limit);
+        pool.setMinLimit(1);
+        pool.setMaxLimit(limit * 10);
+        return pool;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+}
@@ -0,0 +1,77 @@
+package com.portfolio.common.repository;
+
+import com.portfolio.common.exception.ResourceNotFoundException;
+import com.portfolio.common.exception.ValidationException;
+import com.portfolio.skill.entity.Skill;
+import com.portfolio.skill.repository.SkillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(SortOrderUpdater.class)
+class SortOrderUpdaterTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private SortOrderUpdater sortOrderUpdater;
+
+    @Test
+    void shouldSetSortOrderFromPosition() {
+        Skill angular = persistSkill("Angular", 1);
+        Skill react = persistSkill("React", 2);
+        Skill spring = persistSkill("Spring Boot", 3);
+        entityManager.flush();
+        entityManager.clear();
+
+        sortOrderUpdater.reorder("skills", "Skill", List.of(spring.getId(), angular.getId(), react.getId()));
+
+        List<String> names = skillRepository.findAllOrderedBySort().stream().map(Skill::getName).toList();
+        assertEquals(List.of("Spring Boot", "Angular", "React"), names);
+        assertEquals(0, skillRepository.findById(spring.getId()).orElseThrow().getSortOrder());
+    }
+
+    @Test
+    void shouldRejectUnknownId() {
+        Skill angular = persistSkill("Angular", 1);
+        entityManager.flush();
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> sortOrderUpdater.reorder("skills", "Skill", List.of(angular.getId(), "missing")));
+    }
+
+    @Test
+    void shouldRejectDuplicateIds() {
+        Skill angular = persistSkill("Angular", 1);
+        entityManager.flush();
+
+        assertThrows(ValidationException.class,
+                () -> sortOrderUpdater.reorder("skills", "Skill", List.of(angular.getId(), angular.getId())));
+    }
+
+    @Test
+    void shouldRejectOtherTables() {
+        assertThrows(IllegalArgumentException.class,
+                () -> sortOrderUpdater.reorder("users", "User", List.of("1")));
+    }
+
+    private Skill persistSkill(String name, int sortOrder) {
+        return entityManager.persist(Skill.builder()
+                .name(name)
+                .category("backend")
+                .proficiency(80)
+                .sortOrder(sortOrder)
+                .build());
+    }
+}
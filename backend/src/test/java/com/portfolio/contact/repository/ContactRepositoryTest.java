@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -130,4 +131,104 @@ class ContactRepositoryTest {
         assertFalse(found.isRead());
         assertNotNull(found.getCreatedAt());
     }
+
+    @Test
+    void shouldMarkReadByIdsCountingOnlyChangedRows() {
+        Contact unread = persistContact("unread@example.com", false, false);
+        Contact read = persistContact("read@example.com", true, false);
+        Contact other = persistContact("other@example.com", false, false);
+        entityManager.flush();
+
+        int affected = contactRepository.updateReadByIds(List.of(unread.getId(), read.getId()), true, LocalDateTime.now());
+
+        assertEquals(1, affected);
+        assertTrue(contactRepository.findById(unread.getId()).orElseThrow().isRead());
+        assertFalse(contactRepository.findById(other.getId()).orElseThrow().isRead());
+    }
+
+    @Test
+    void shouldArchiveByFilterAndHideFromInbox() {
+        Contact read = persistContact("read@example.com", true, false);
+        Contact unread = persistContact("unread@example.com", false, false);
+        entityManager.flush();
+
+        int affected = contactRepository.updateArchivedByFilter(true, LocalDateTime.now(), true, null, null, null);
+
+        assertEquals(1, affected);
+        assertTrue(contactRepository.findById(read.getId()).orElseThrow().isArchived());
+        assertEquals(List.of(unread.getId()),
+                contactRepository.findAllOrderedByDate().stream().map(Contact::getId).toList());
+    }
+
+    @Test
+    void shouldDeleteByFilterWithinDateRange() {
+        persistContact("a@example.com", false, false);
+        persistContact("b@example.com", true, true);
+        entityManager.flush();
+        LocalDateTime from = LocalDateTime.now().minusHours(1);
+        LocalDateTime to = LocalDateTime.now().plusHours(1);
+
+        assertEquals(0, contactRepository.deleteByFilter(null, null, to, null));
+        assertEquals(1, contactRepository.deleteByFilter(null, true, from, to));
+        assertEquals(1, contactRepository.count());
+    }
+
+    @Test
+    void shouldDeleteByIds() {
+        Contact first = persistContact("a@example.com", false, false);
+        Contact second = persistContact("b@example.com", false, false);
+        persistContact("c@example.com", false, false);
+        entityManager.flush();
+
+        assertEquals(2, contactRepository.deleteByIds(List.of(first.getId(), second.getId(), "missing")));
+        assertEquals(1, contactRepository.count());
+    }
+
+    @Test
+    void shouldPageByCreatedAtAndIdKeyset() {
+        for (int i = 0; i < 5; i++) {
+            persistContact("c" + i + "@example.com", i % 2 == 0, false);
+        }
+        persistContact("archived@example.com", false, true);
+        entityManager.flush();
+        // Page from stored timestamps, as the API does; the in-memory ones carry nanoseconds the column rounds off
+        entityManager.clear();
+
+        List<Contact> first = contactRepository.findPage(null, false, null, null, null, null, Limit.of(2));
+        Contact last = first.get(1);
+        List<Contact> rest = contactRepository.findPage(null, false, null, null, last.getCreatedAt(), last.getId(),
+                Limit.of(10));
+
+        assertEquals(2, first.size());
+        assertEquals(3, rest.size());
+        List<String> seen = new java.util.ArrayList<>(first.stream().map(Contact::getId).toList());
+        rest.forEach(contact -> {
+            assertFalse(seen.contains(contact.getId()));
+            seen.add(contact.getId());
+        });
+        assertTrue(rest.stream().noneMatch(Contact::isArchived));
+    }
+
+    @Test
+    void shouldCountInboxInOneQuery() {
+        persistContact("a@example.com", false, false);
+        persistContact("b@example.com", true, false);
+        persistContact("c@example.com", false, true);
+        entityManager.flush();
+
+        ContactCountsView counts = contactRepository.countInbox();
+
+        assertEquals(2, counts.getTotal());
+        assertEquals(1, counts.getUnread());
+    }
+
+    private Contact persistContact(String email, boolean read, boolean archived) {
+        return entityManager.persist(Contact.builder()
+                .name("Sender")
+                .email(email)
+                .message("Hello")
+                .read(read)
+                .archived(archived)
+                .build());
+    }
 }
@@ -0,0 +1,210 @@
+package com.portfolio.contact.service;
+
+import com.portfolio.common.exception.ServiceUnavailableException;
+import com.portfolio.contact.entity.Contact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContactIngestQueueTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path journalDir;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldJournalContactsAndWriteThemInOneBatch() throws IOException {
+        ContactIngestQueue queue = queue(10);
+
+        queue.submit(contact("a"));
+        queue.submit(contact("b"));
+        queue.submit(contact("c"));
+
+        List<Path> segments = segments();
+        assertEquals(1, segments.size());
+        assertEquals(3, Files.readAllLines(segments.get(0)).size());
+        assertEquals(3, queue.pendingCount());
+
+        assertEquals(3, queue.flush());
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(ContactIngestQueue.INSERT_SQL), batch.capture());
+        assertEquals(List.of("a", "b", "c"), batch.getValue().stream().map(row -> row[0]).toList());
+        verify(eventPublisher).publishEvent(new ContactsIngestedEvent(3));
+        assertTrue(segments().isEmpty());
+    }
+
+    @Test
+    void shouldRejectSubmissionsWhenQueueIsFull() throws IOException {
+        ContactIngestQueue queue = queue(2);
+
+        queue.submit(contact("a"));
+        queue.submit(contact("b"));
+
+        assertThrows(ServiceUnavailableException.class, () -> queue.submit(contact("c")));
+        assertEquals(2, Files.readAllLines(segments().get(0)).size());
+    }
+
+    @Test
+    void shouldKeepJournalWhenWriteFails() throws IOException {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataAccessResourceFailureException("down"));
+        ContactIngestQueue queue = queue(10);
+
+        queue.submit(contact("a"));
+
+        assertEquals(0, queue.flush());
+        assertEquals(1, segments().size());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldKeepWriterRunningThroughDatabaseAndListenerFailures() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[] {1});
+        doThrow(new IllegalStateException("listener failed")).doNothing()
+                .when(eventPublisher).publishEvent(any(Object.class));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ContactIngestQueue queue = new ContactIngestQueue(jdbcTemplate, transactionManager, eventPublisher,
+                    journalDir, 10, 50, executor);
+            queue.onApplicationReady();
+
+            // The first attempt fails and is retried after a backoff; its listener then throws
+            queue.submit(contact("a"));
+            verify(eventPublisher, timeout(5000)).publishEvent(new ContactsIngestedEvent(1));
+
+            queue.submit(contact("b"));
+            verify(eventPublisher, timeout(5000).times(2)).publishEvent(new ContactsIngestedEvent(1));
+            verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyList());
+            assertTrue(segments().isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldInsertRowsOneByOneAndQuarantineRejectedRow() throws IOException {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataIntegrityViolationException("too long"));
+        when(jdbcTemplate.update(eq(ContactIngestQueue.INSERT_SQL), any(Object[].class))).thenAnswer(invocation -> {
+            if ("b".equals(invocation.getArgument(1))) {
+                throw new DataIntegrityViolationException("Data too long for column 'name'");
+            }
+            return 1;
+        });
+        ContactIngestQueue queue = queue(10);
+
+        queue.submit(contact("a"));
+        queue.submit(contact("b"));
+        queue.submit(contact("c"));
+
+        assertEquals(2, queue.flush());
+        verify(eventPublisher).publishEvent(new ContactsIngestedEvent(2));
+        Path quarantine = journalDir.resolve(ContactIngestQueue.QUARANTINE_FILE);
+        assertEquals(List.of(quarantine), segments());
+        List<String> quarantined = Files.readAllLines(quarantine);
+        assertEquals(1, quarantined.size());
+        assertTrue(quarantined.get(0).contains("\"id\":\"b\""));
+    }
+
+    @Test
+    void shouldQuarantineRejectedRowDuringReplay() throws IOException {
+        Files.writeString(journalDir.resolve("contacts-000000000003.journal"),
+                "{\"id\":\"a\",\"name\":\"A\",\"email\":\"a@example.com\",\"subject\":null,\"message\":\"Hi\",\"createdAt\":\"2024-01-01T10:00\"}\n",
+                StandardCharsets.UTF_8);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataIntegrityViolationException("bad row"));
+        when(jdbcTemplate.update(eq(ContactIngestQueue.INSERT_SQL), any(Object[].class)))
+                .thenThrow(new DataIntegrityViolationException("bad row"));
+        ContactIngestQueue queue = queue(10);
+
+        queue.replay();
+
+        assertEquals(List.of(journalDir.resolve(ContactIngestQueue.QUARANTINE_FILE)), segments());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReplayOnlyMissingContactsAndSkipTornLine() throws IOException {
+        Files.writeString(journalDir.resolve("contacts-000000000007.journal"),
+                "{\"id\":\"a\",\"name\":\"A\",\"email\":\"a@example.com\",\"subject\":null,\"message\":\"Hi\",\"createdAt\":\"2024-01-01T10:00\"}\n"
+                        + "{\"id\":\"b\",\"name\":\"B\",\"email\":\"b@example.com\",\"subject\":\"Re\",\"message\":\"Hello\",\"createdAt\":\"2024-01-01T10:01\"}\n"
+                        + "{\"id\":\"c\",\"name\":\"C\",\"ema",
+                StandardCharsets.UTF_8);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).thenReturn(List.of("a"));
+        ContactIngestQueue queue = queue(10);
+
+        queue.replay();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(ContactIngestQueue.INSERT_SQL), batch.capture());
+        assertEquals(1, batch.getValue().size());
+        assertEquals("b", batch.getValue().get(0)[0]);
+        verify(eventPublisher).publishEvent(new ContactsIngestedEvent(1));
+
+        // New segments continue after the recovered ones
+        queue.submit(contact("d"));
+        assertEquals(List.of("contacts-000000000008.journal"),
+                segments().stream().map(path -> path.getFileName().toString()).toList());
+    }
+
+    private ContactIngestQueue queue(int capacity) {
+        // The writer thread is never started; tests drive writes through flush()
+        return new ContactIngestQueue(jdbcTemplate, transactionManager, eventPublisher, journalDir, capacity, 50,
+                runnable -> { });
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static Contact contact(String id) {
+        LocalDateTime now = LocalDateTime.now();
+        return Contact.builder()
+                .id(id)
+                .name("Name " + id)
+                .email(id + "@example.com")
+                .message("Message " + id)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
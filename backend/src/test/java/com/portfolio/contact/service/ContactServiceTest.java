@@ -1,7 +1,15 @@
 package com.portfolio.contact.service;
 
+import com.portfolio.common.exception.ConflictException;
 import com.portfolio.common.exception.ResourceNotFoundException;
+import com.portfolio.common.exception.ValidationException;
+import com.portfolio.contact.dto.ContactBulkRequest;
+import com.portfolio.contact.dto.ContactBulkResult;
 import com.portfolio.contact.dto.ContactDto;
+import com.portfolio.contact.dto.ContactCountsDto;
+import com.portfolio.contact.dto.ContactFilter;
+import com.portfolio.contact.dto.ContactPageDto;
+import com.portfolio.contact.repository.ContactCountsView;
 import com.portfolio.contact.dto.ContactMapper;
 import com.portfolio.contact.dto.ContactRequest;
 import com.portfolio.contact.entity.Contact;
@@ -11,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -19,6 +28,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,11 +40,14 @@ class ContactServiceTest {
     @Mock
     private ContactMapper contactMapper;
 
+    @Mock
+    private ContactIngestQueue ingestQueue;
+
     private ContactServiceImpl contactService;
 
     @BeforeEach
     void setUp() {
-        contactService = new ContactServiceImpl(contactRepository, contactMapper);
+        contactService = new ContactServiceImpl(contactRepository, contactMapper, ingestQueue, new ContactSpamFilter());
     }
 
     @Test
@@ -114,36 +127,42 @@ class ContactServiceTest {
                 .read(false)
                 .build();
 
-        Contact savedContact = Contact.builder()
-                .id("1")
-                .name("John Doe")
-                .email("john@example.com")
-                .subject("Question")
-                .message("I have a question")
-                .read(false)
-                .build();
-
-        ContactDto savedContactDto = ContactDto.builder()
-                .id("1")
-                .name("John Doe")
-                .email("john@example.com")
-                .subject("Question")
-                .message("I have a question")
-                .read(false)
-                .build();
-
         when(contactMapper.toEntity(contactRequest)).thenReturn(contact);
-        when(contactRepository.save(contact)).thenReturn(savedContact);
-        when(contactMapper.toDto(savedContact)).thenReturn(savedContactDto);
+        when(contactMapper.toDto(contact)).thenAnswer(invocation -> ContactDto.builder()
+                .id(contact.getId())
+                .name(contact.getName())
+                .read(contact.isRead())
+                .createdAt(contact.getCreatedAt())
+                .build());
 
         ContactDto result = contactService.createContact(contactRequest);
 
         assertNotNull(result.getId());
+        assertNotNull(result.getCreatedAt());
         assertEquals("John Doe", result.getName());
         assertFalse(result.getRead());
         verify(contactMapper).toEntity(contactRequest);
-        verify(contactRepository).save(contact);
-        verify(contactMapper).toDto(savedContact);
+        verify(ingestQueue).submit(contact);
+        verify(contactRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRefuseResentMessageWithoutQueueingIt() {
+        ContactRequest contactRequest = ContactRequest.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .message("I would like to talk about a contract role on your team next month")
+                .build();
+        when(contactMapper.toEntity(contactRequest)).thenAnswer(invocation -> Contact.builder()
+                .name(contactRequest.getName())
+                .email(contactRequest.getEmail())
+                .message(contactRequest.getMessage())
+                .build());
+
+        contactService.createContact(contactRequest);
+
+        assertThrows(ConflictException.class, () -> contactService.createContact(contactRequest));
+        verify(ingestQueue, times(1)).submit(any(Contact.class));
     }
 
     @Test
@@ -224,4 +243,117 @@ class ContactServiceTest {
         verify(contactRepository).findUnreadContacts();
         verify(contactMapper).toDtoList(contacts);
     }
+
+    @Test
+    void shouldApplyBulkActionByIds() {
+        when(contactRepository.updateArchivedByIds(eq(List.of("1", "2")), eq(true), any(LocalDateTime.class))).thenReturn(2);
+
+        ContactBulkResult result = contactService.applyBulk(ContactBulkRequest.builder()
+                .action(ContactBulkRequest.Action.ARCHIVE)
+                .ids(List.of("1", "2"))
+                .build());
+
+        assertEquals(2, result.getAffected());
+        assertEquals(ContactBulkRequest.Action.ARCHIVE, result.getAction());
+        verify(contactRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldApplyBulkDeleteByFilter() {
+        LocalDateTime before = LocalDateTime.of(2025, 1, 1, 0, 0);
+        when(contactRepository.deleteByFilter(false, null, null, before)).thenReturn(300);
+
+        ContactBulkResult result = contactService.applyBulk(ContactBulkRequest.builder()
+                .action(ContactBulkRequest.Action.DELETE)
+                .filter(ContactFilter.builder().read(false).to(before).build())
+                .build());
+
+        assertEquals(300, result.getAffected());
+    }
+
+    @Test
+    void shouldRejectBulkRequestWithoutSingleSelection() {
+        ContactBulkRequest neither = ContactBulkRequest.builder().action(ContactBulkRequest.Action.DELETE).build();
+        ContactBulkRequest both = ContactBulkRequest.builder()
+                .action(ContactBulkRequest.Action.DELETE)
+                .ids(List.of("1"))
+                .filter(ContactFilter.builder().read(true).build())
+                .build();
+        ContactBulkRequest emptyFilter = ContactBulkRequest.builder()
+                .action(ContactBulkRequest.Action.DELETE)
+                .filter(new ContactFilter())
+                .build();
+
+        assertThrows(ValidationException.class, () -> contactService.applyBulk(neither));
+        assertThrows(ValidationException.class, () -> contactService.applyBulk(both));
+        assertThrows(ValidationException.class, () -> contactService.applyBulk(emptyFilter));
+        verifyNoInteractions(contactRepository);
+    }
+
+    @Test
+    void shouldReturnNextCursorOnlyWhenMoreContactsExist() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 12, 0);
+        List<Contact> contacts = List.of(
+                Contact.builder().id("3").createdAt(createdAt).build(),
+                Contact.builder().id("2").createdAt(createdAt).build(),
+                Contact.builder().id("1").createdAt(createdAt.minusDays(1)).build());
+        ContactFilter filter = ContactFilter.builder().archived(false).build();
+        when(contactRepository.findPage(null, false, null, null, null, null, Limit.of(3)))
+                .thenReturn(contacts);
+        when(contactMapper.toDtoList(contacts.subList(0, 2)))
+                .thenReturn(List.of(ContactDto.builder().id("3").build(), ContactDto.builder().id("2").build()));
+
+        ContactPageDto page = contactService.getContactPage(filter, null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertNotNull(page.getNextCursor());
+
+        when(contactRepository.findPage(null, false, null, null, createdAt, "2", Limit.of(3)))
+                .thenReturn(contacts.subList(2, 3));
+        when(contactMapper.toDtoList(contacts.subList(2, 3))).thenReturn(List.of(ContactDto.builder().id("1").build()));
+
+        ContactPageDto next = contactService.getContactPage(filter, page.getNextCursor(), 2);
+
+        assertEquals(1, next.getItems().size());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThrows(ValidationException.class,
+                () -> contactService.getContactPage(new ContactFilter(), "not-a-cursor", 10));
+    }
+
+    @Test
+    void shouldCacheCountsUntilWrite() {
+        ContactCountsView view = mock(ContactCountsView.class);
+        when(view.getTotal()).thenReturn(5L);
+        when(view.getUnread()).thenReturn(2L);
+        when(contactRepository.countInbox()).thenReturn(view);
+        when(contactRepository.deleteByIds(List.of("1"))).thenReturn(1);
+
+        ContactCountsDto counts = contactService.getCounts();
+        contactService.getCounts();
+        contactService.applyBulk(ContactBulkRequest.builder()
+                .action(ContactBulkRequest.Action.DELETE)
+                .ids(List.of("1"))
+                .build());
+        contactService.getCounts();
+
+        assertEquals(5, counts.getTotal());
+        assertEquals(2, counts.getUnread());
+        verify(contactRepository, times(2)).countInbox();
+    }
+
+    @Test
+    void shouldEvictCountsWhenQueuedContactsAreWritten() {
+        ContactCountsView view = mock(ContactCountsView.class);
+        when(contactRepository.countInbox()).thenReturn(view);
+
+        contactService.getCounts();
+        contactService.onContactsIngested(new ContactsIngestedEvent(3));
+        contactService.getCounts();
+
+        verify(contactRepository, times(2)).countInbox();
+    }
 }
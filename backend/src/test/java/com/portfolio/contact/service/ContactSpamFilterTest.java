@@ -0,0 +1,120 @@
+package com.portfolio.contact.service;
+
+import com.portfolio.contact.entity.Contact;
+import com.portfolio.contact.service.ContactSpamFilter.Verdict;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactSpamFilterTest {
+
+    private static final String MESSAGE = "Hi Kartikey, I came across your portfolio and really liked the blog "
+            + "engine you built. We are hiring a backend engineer for our payments team in Berlin and I think "
+            + "you would be a great fit. Would you be open to a short call next week?";
+
+    private Instant now;
+    private ContactSpamFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.parse("2024-01-01T10:00:00Z");
+        filter = new ContactSpamFilter(new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        });
+    }
+
+    @Test
+    void shouldAcceptOrdinaryMessage() {
+        assertEquals(Verdict.ACCEPT, filter.admit(contact("jane@example.com", MESSAGE)));
+    }
+
+    @Test
+    void shouldRefuseNearDuplicateFromAnotherSender() {
+        filter.admit(contact("jane@example.com", MESSAGE));
+
+        String edited = MESSAGE.replace("Hi Kartikey,", "Hello Kartikey!");
+
+        assertEquals(Verdict.DUPLICATE, filter.admit(contact("bot@example.net", edited)));
+        assertEquals(Verdict.ACCEPT, filter.admit(contact("bob@example.com",
+                "Could you share the source code of the portfolio site? I want to build something similar for my studio.")));
+    }
+
+    @Test
+    void shouldOnlyTreatShortMessagesAsDuplicatesFromTheSameSender() {
+        filter.admit(contact("jane@example.com", "Hello there"));
+
+        assertEquals(Verdict.ACCEPT, filter.admit(contact("bob@example.com", "Hello there")));
+        assertEquals(Verdict.DUPLICATE, filter.admit(contact("Jane@Example.com", "Hello there")));
+    }
+
+    @Test
+    void shouldForgetDuplicatesAfterWindow() {
+        filter.admit(contact("jane@example.com", MESSAGE));
+
+        now = now.plus(ContactSpamFilter.DUPLICATE_WINDOW).plusSeconds(1);
+
+        assertEquals(Verdict.ACCEPT, filter.admit(contact("jane@example.com", MESSAGE)));
+    }
+
+    @Test
+    void shouldRefuseRepeatSender() {
+        for (int i = 0; i < ContactSpamFilter.MAX_PER_SENDER; i++) {
+            assertEquals(Verdict.ACCEPT, filter.admit(contact("jane@example.com", "Question number " + i + " about your projects")));
+            now = now.plusSeconds(60);
+        }
+
+        assertEquals(Verdict.REPEAT_SENDER, filter.admit(contact("jane@example.com", "One more unrelated question for you")));
+        assertEquals(ContactSpamFilter.SENDER_WINDOW.toSeconds() - 180, filter.senderRetryAfterSeconds("jane@example.com"));
+    }
+
+    @Test
+    void shouldAllowResendAfterForget() {
+        Contact contact = contact("jane@example.com", MESSAGE);
+        filter.admit(contact);
+
+        filter.forget(contact);
+
+        assertEquals(Verdict.ACCEPT, filter.admit(contact("jane@example.com", MESSAGE)));
+    }
+
+    @Test
+    void shouldScoreObviousSpam() {
+        Contact spam = contact("seo@example.ru", "Get your site to the first page of Google! Cheap SEO and backlinks "
+                + "https://cheap-links.example https://more-links.example [url=https://x.example]click here[/url]");
+
+        assertEquals(Verdict.SPAM, filter.admit(spam));
+        assertTrue(ContactSpamFilter.spamScore(contact("jane@example.com", MESSAGE)) < ContactSpamFilter.SPAM_THRESHOLD);
+        assertTrue(ContactSpamFilter.spamScore(contact("jane@example.com",
+                "Here is the repo I mentioned: https://github.com/example/project - let me know what you think of "
+                        + "the approach to caching.")) < ContactSpamFilter.SPAM_THRESHOLD);
+    }
+
+    private static Contact contact(String email, String message) {
+        return Contact.builder()
+                .id(UUID.randomUUID().toString())
+                .name("Sender")
+                .email(email)
+                .message(message)
+                .build();
+    }
+}
@@ -100,7 +100,7 @@ class ExperienceRepositoryTest {
                 .startDate(LocalDate.of(2021, 1, 1))
                 .build();
 
-        experience.setTechnologiesList(Arrays.asList("Java", "Spring Boot", "React"));
+        experience.setTechnologies(Arrays.asList("Java", "Spring Boot", "React"));
 
         entityManager.persist(experience);
         entityManager.flush();
@@ -109,7 +109,7 @@ class ExperienceRepositoryTest {
         Experience found = experienceRepository.findById(experience.getId()).orElse(null);
 
         assertNotNull(found);
-        List<String> technologies = found.getTechnologiesList();
+        List<String> technologies = found.getTechnologies();
         assertEquals(3, technologies.size());
         assertTrue(technologies.contains("Java"));
         assertTrue(technologies.contains("Spring Boot"));
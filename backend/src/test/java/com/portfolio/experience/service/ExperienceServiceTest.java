@@ -1,15 +1,18 @@
 package com.portfolio.experience.service;
 
 import com.portfolio.common.exception.ResourceNotFoundException;
+import com.portfolio.common.repository.SortOrderUpdater;
 import com.portfolio.experience.dto.ExperienceDto;
 import com.portfolio.experience.dto.ExperienceMapper;
 import com.portfolio.experience.entity.Experience;
 import com.portfolio.experience.repository.ExperienceRepository;
+import com.portfolio.technology.service.TechnologyIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -29,11 +32,21 @@ class ExperienceServiceTest {
     @Mock
     private ExperienceMapper experienceMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TechnologyIndex technologyIndex;
+
+    @Mock
+    private SortOrderUpdater sortOrderUpdater;
+
     private ExperienceServiceImpl experienceService;
 
     @BeforeEach
     void setUp() {
-        experienceService = new ExperienceServiceImpl(experienceRepository, experienceMapper);
+        experienceService = new ExperienceServiceImpl(experienceRepository, experienceMapper, eventPublisher,
+                technologyIndex, sortOrderUpdater);
     }
 
     @Test
@@ -0,0 +1,111 @@
+package com.portfolio.feed.service;
+
+import com.portfolio.blog.repository.BlogRepository;
+import com.portfolio.blog.repository.BlogSummaryView;
+import com.portfolio.common.event.ContentChangedEvent;
+import com.portfolio.config.SystemPropertiesConfig;
+import com.portfolio.project.repository.ProjectRepository;
+import com.portfolio.project.repository.ProjectSitemapView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedServiceTest {
+
+    @Mock
+    private BlogRepository blogRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private BlogSummaryView blog;
+
+    private FeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        SystemPropertiesConfig config = new SystemPropertiesConfig();
+        config.setSiteUrl("https://example.com/");
+        config.setSiteTitle("Example & Co");
+        feedService = new FeedService(blogRepository, projectRepository, config, ZoneOffset.UTC);
+
+        lenient().when(blog.getTitle()).thenReturn("Hello <World>");
+        lenient().when(blog.getSlug()).thenReturn("hello-world");
+        lenient().when(blog.getExcerpt()).thenReturn("Intro");
+        lenient().when(blog.getTags()).thenReturn(List.of("java", "spring"));
+        lenient().when(blog.getPublishedDate()).thenReturn(LocalDateTime.of(2024, 1, 2, 10, 0));
+        lenient().when(blog.getUpdatedAt()).thenReturn(LocalDateTime.of(2024, 1, 3, 12, 30));
+        when(blogRepository.findPublishedSummaries()).thenReturn(List.of(blog));
+        when(projectRepository.findLatestUpdate()).thenReturn(LocalDateTime.of(2024, 2, 1, 8, 0));
+    }
+
+    @Test
+    void shouldWriteRssFeed() {
+        String xml = body(feedService.getFeed(FeedType.RSS));
+
+        assertTrue(xml.contains("<rss version=\"2.0\""));
+        assertTrue(xml.contains("<title>Example &amp; Co</title>"));
+        assertTrue(xml.contains("<title>Hello &lt;World&gt;</title>"));
+        assertTrue(xml.contains("<link>https://example.com/blog/hello-world</link>"));
+        assertTrue(xml.contains("<pubDate>Tue, 2 Jan 2024 10:00:00 GMT</pubDate>"));
+        assertTrue(xml.contains("<category>spring</category>"));
+    }
+
+    @Test
+    void shouldWriteAtomFeed() {
+        String xml = body(feedService.getFeed(FeedType.ATOM));
+
+        assertTrue(xml.contains("<feed xmlns=\"http://www.w3.org/2005/Atom\">"));
+        assertTrue(xml.contains("<updated>2024-01-03T12:30:00Z</updated>"));
+        assertTrue(xml.contains("<category term=\"java\""));
+    }
+
+    @Test
+    void shouldWriteSitemapWithLatestContentDates() {
+        ProjectSitemapView project = mock(ProjectSitemapView.class);
+        when(project.getId()).thenReturn("p1");
+        when(project.getUpdatedAt()).thenReturn(LocalDateTime.of(2024, 2, 1, 8, 0));
+        when(projectRepository.findSitemapEntries()).thenReturn(List.of(project));
+
+        CachedFeed sitemap = feedService.getFeed(FeedType.SITEMAP);
+        String xml = body(sitemap);
+
+        assertTrue(xml.contains("<loc>https://example.com/</loc><lastmod>2024-02-01T08:00:00Z</lastmod>"));
+        assertTrue(xml.contains("<loc>https://example.com/blog/hello-world</loc><lastmod>2024-01-03T12:30:00Z</lastmod>"));
+        assertTrue(xml.contains("<loc>https://example.com/projects/p1</loc><lastmod>2024-02-01T08:00:00Z</lastmod>"));
+        assertEquals(LocalDateTime.of(2024, 2, 1, 8, 0).toInstant(ZoneOffset.UTC), sitemap.lastModified());
+    }
+
+    @Test
+    void shouldServeCachedFeedUntilContentChanges() {
+        CachedFeed first = feedService.getFeed(FeedType.RSS);
+        CachedFeed second = feedService.getFeed(FeedType.RSS);
+
+        assertSame(first, second);
+        verify(blogRepository, times(1)).findPublishedSummaries();
+
+        feedService.onContentChanged(new ContentChangedEvent(
+                ContentChangedEvent.ContentType.BLOG, "1", ContentChangedEvent.ChangeType.UPDATED));
+        CachedFeed regenerated = feedService.getFeed(FeedType.RSS);
+
+        assertNotSame(first, regenerated);
+        assertEquals(first.etag(), regenerated.etag());
+        verify(blogRepository, times(2)).findPublishedSummaries();
+    }
+
+    private static String body(CachedFeed feed) {
+        return new String(feed.body(), StandardCharsets.UTF_8);
+    }
+}
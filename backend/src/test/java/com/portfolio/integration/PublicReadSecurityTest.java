@@ -0,0 +1,53 @@
+package com.portfolio.integration;
+
+import com.portfolio.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PublicReadSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private JwtTokenProvider tokenProvider;
+
+    @Test
+    void shouldServePublicReadWithoutParsingStaleToken() throws Exception {
+        mockMvc.perform(get("/api/skills")
+                        .header("Authorization", "Bearer stale.jwt.token"))
+                .andExpect(status().isOk());
+
+        verify(tokenProvider, never()).getValidClaims(any());
+    }
+
+    @Test
+    void shouldKeepCorsOnPublicReads() throws Exception {
+        mockMvc.perform(get("/api/skills")
+                        .header("Origin", "http://localhost:4200"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Access-Control-Allow-Origin", "http://localhost:4200"));
+    }
+
+    @Test
+    void shouldKeepAdminReadsOnAuthenticatedChain() throws Exception {
+        mockMvc.perform(get("/api/blogs/all")
+                        .header("Authorization", "Bearer stale.jwt.token"))
+                .andExpect(result -> assertNotEquals(200, result.getResponse().getStatus()));
+
+        // The token was looked at, so an admin's valid token would have been honoured
+        verify(tokenProvider).getValidClaims("stale.jwt.token");
+    }
+}
@@ -2,11 +2,13 @@ package com.portfolio.profile.repository;
 
 import com.portfolio.profile.entity.Profile;
 import com.portfolio.profile.entity.SocialLink;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -104,4 +106,60 @@ class ProfileRepositoryTest {
         Optional<Profile> deletedProfile = profileRepository.findById(profile.getId());
         assertFalse(deletedProfile.isPresent());
     }
+
+    @Test
+    void shouldLoadSingletonWithSocialLinksAndWithoutFiles() {
+        Profile profile = Profile.builder()
+                .fullName("John Doe")
+                .title("Developer")
+                .email("john@example.com")
+                .avatarData(new byte[]{1, 2, 3})
+                .avatarContentType("image/png")
+                .resumeData(new byte[]{4, 5})
+                .resumeContentType("application/pdf")
+                .build();
+        profile.addSocialLink(SocialLink.builder().platform("LinkedIn").url("https://linkedin.com/in/johndoe").sortOrder(2).build());
+        profile.addSocialLink(SocialLink.builder().platform("GitHub").url("https://github.com/johndoe").sortOrder(1).build());
+
+        entityManager.persist(profile);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Profile> profiles = profileRepository.findSingleton();
+
+        assertEquals(1, profiles.size());
+        Profile found = profiles.get(0);
+        assertTrue(Hibernate.isInitialized(found.getSocialLinks()));
+        assertEquals("GitHub", found.getSocialLinks().get(0).getPlatform());
+        assertFalse(Hibernate.isPropertyInitialized(found, "avatarData"));
+        assertFalse(Hibernate.isPropertyInitialized(found, "resumeData"));
+
+        // Still readable on demand
+        assertArrayEquals(new byte[]{1, 2, 3}, found.getAvatarData());
+        assertFalse(Hibernate.isPropertyInitialized(found, "resumeData"));
+    }
+
+    @Test
+    void shouldFindFilesById() {
+        Profile profile = Profile.builder()
+                .fullName("John Doe")
+                .title("Developer")
+                .email("john@example.com")
+                .avatarData(new byte[]{1, 2, 3})
+                .avatarContentType("image/png")
+                .build();
+
+        entityManager.persist(profile);
+        entityManager.flush();
+        entityManager.clear();
+
+        Optional<ProfileFileView> avatar = profileRepository.findAvatarById(profile.getId());
+        Optional<ProfileFileView> resume = profileRepository.findResumeById(profile.getId());
+
+        assertTrue(avatar.isPresent());
+        assertArrayEquals(new byte[]{1, 2, 3}, avatar.get().getData());
+        assertEquals("image/png", avatar.get().getContentType());
+        assertTrue(resume.isPresent());
+        assertNull(resume.get().getData());
+    }
 }
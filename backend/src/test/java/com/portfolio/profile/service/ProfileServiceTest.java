@@ -1,6 +1,7 @@
 package com.portfolio.profile.service;
 
 import com.portfolio.common.exception.ResourceNotFoundException;
+import com.portfolio.common.repository.SortOrderUpdater;
 import com.portfolio.profile.dto.ProfileDto;
 import com.portfolio.profile.dto.ProfileMapper;
 import com.portfolio.profile.dto.SocialLinkDto;
@@ -18,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -41,11 +43,15 @@ class ProfileServiceTest {
     @Mock
     private ResumeValidationService resumeValidationService;
 
+    @Mock
+    private SortOrderUpdater sortOrderUpdater;
+
     private ProfileServiceImpl profileService;
 
     @BeforeEach
     void setUp() {
-        profileService = new ProfileServiceImpl(profileRepository, profileMapper, socialLinkMapper, avatarValidationService, resumeValidationService);
+        profileService = new ProfileServiceImpl(profileRepository, profileMapper, socialLinkMapper, avatarValidationService, resumeValidationService,
+                sortOrderUpdater);
     }
 
     @Test
@@ -64,26 +70,54 @@ class ProfileServiceTest {
                 .email("john@example.com")
                 .build();
 
-        when(profileRepository.findAll()).thenReturn(Collections.singletonList(profile));
+        when(profileRepository.findSingleton()).thenReturn(Collections.singletonList(profile));
         when(profileMapper.toDto(profile)).thenReturn(profileDto);
 
         ProfileDto result = profileService.getProfile();
 
         assertEquals("John Doe", result.getFullName());
         assertEquals("Developer", result.getTitle());
-        verify(profileRepository).findAll();
+        verify(profileRepository).findSingleton();
         verify(profileMapper).toDto(profile);
     }
 
+    @Test
+    void shouldServeRepeatedReadsFromCacheUntilUpdated() {
+        Profile profile = Profile.builder()
+                .id("1")
+                .fullName("John Doe")
+                .title("Developer")
+                .email("john@example.com")
+                .build();
+        ProfileDto profileDto = ProfileDto.builder().id("1").fullName("John Doe").build();
+
+        when(profileRepository.findSingleton()).thenReturn(Collections.singletonList(profile));
+        when(profileRepository.findWithSocialLinksById("1")).thenReturn(Optional.of(profile));
+        when(profileMapper.toDto(profile)).thenReturn(profileDto);
+        when(profileRepository.save(profile)).thenReturn(profile);
+
+        profileService.getProfile();
+        profileService.getProfile();
+        verify(profileRepository, times(1)).findSingleton();
+
+        profileService.updateProfile(ProfileDto.builder().fullName("John Doe").build());
+        profileService.getProfile();
+
+        // After the first lookup the remembered id is used instead of scanning for the profile
+        verify(profileRepository, times(1)).findSingleton();
+        verify(profileRepository, times(2)).findWithSocialLinksById("1");
+        verify(profileRepository, never()).findAll();
+    }
+
     @Test
     void shouldThrowExceptionWhenNoProfileExists() {
-        when(profileRepository.findAll()).thenReturn(Collections.emptyList());
+        when(profileRepository.findSingleton()).thenReturn(Collections.emptyList());
 
         assertThrows(ResourceNotFoundException.class, () -> {
             profileService.getProfile();
         });
 
-        verify(profileRepository).findAll();
+        verify(profileRepository).findSingleton();
     }
 
     @Test
@@ -130,7 +164,7 @@ class ProfileServiceTest {
                 .sortOrder(1)
                 .build();
 
-        when(profileRepository.findAll()).thenReturn(Collections.singletonList(existingProfile));
+        when(profileRepository.findSingleton()).thenReturn(Collections.singletonList(existingProfile));
         when(socialLinkMapper.toEntity(any(SocialLinkDto.class))).thenReturn(socialLink);
         when(profileRepository.save(any(Profile.class))).thenReturn(updatedProfile);
         when(profileMapper.toDto(updatedProfile)).thenReturn(updatedProfileDto);
@@ -139,12 +173,60 @@ class ProfileServiceTest {
 
         assertEquals("John Doe Updated", result.getFullName());
         assertEquals("Senior Developer", result.getTitle());
-        verify(profileRepository).findAll();
+        verify(profileRepository).findSingleton();
         verify(profileMapper).updateEntityFromDto(profileDto, existingProfile);
         verify(profileRepository).save(any(Profile.class));
         verify(profileMapper).toDto(updatedProfile);
     }
 
+    @Test
+    void shouldMergeSocialLinksInsteadOfReplacingThem() {
+        Profile existingProfile = Profile.builder()
+                .id("1")
+                .fullName("John Doe")
+                .title("Developer")
+                .email("john@example.com")
+                .socialLinks(new ArrayList<>())
+                .build();
+        SocialLink github = SocialLink.builder().id("link-1").platform("GitHub").url("https://github.com/old").sortOrder(1).build();
+        SocialLink linkedIn = SocialLink.builder().id("link-2").platform("LinkedIn").url("https://linkedin.com/in/johndoe").sortOrder(2).build();
+        SocialLink twitter = SocialLink.builder().id("link-3").platform("Twitter").url("https://twitter.com/johndoe").sortOrder(3).build();
+        existingProfile.addSocialLink(github);
+        existingProfile.addSocialLink(linkedIn);
+        existingProfile.addSocialLink(twitter);
+
+        SocialLinkDto githubDto = SocialLinkDto.builder().id("link-1").platform("GitHub").url("https://github.com/new").sortOrder(1).build();
+        SocialLinkDto linkedInDto = SocialLinkDto.builder().platform("linkedin").url("https://linkedin.com/in/johndoe").sortOrder(2).build();
+        SocialLinkDto mastodonDto = SocialLinkDto.builder().platform("Mastodon").url("https://mastodon.social/@johndoe").sortOrder(3).build();
+        ProfileDto profileDto = ProfileDto.builder()
+                .fullName("John Doe")
+                .title("Developer")
+                .email("john@example.com")
+                .socialLinks(Arrays.asList(githubDto, linkedInDto, mastodonDto))
+                .build();
+        SocialLink mastodon = SocialLink.builder().id("client-id").platform("Mastodon").url("https://mastodon.social/@johndoe").sortOrder(3).build();
+
+        when(profileRepository.findSingleton()).thenReturn(Collections.singletonList(existingProfile));
+        when(socialLinkMapper.toEntity(mastodonDto)).thenReturn(mastodon);
+        when(profileRepository.save(existingProfile)).thenReturn(existingProfile);
+
+        profileService.updateProfile(profileDto);
+
+        // Matched by id and by platform: updated in place; unmatched: removed; new: inserted
+        verify(socialLinkMapper).updateEntityFromDto(githubDto, github);
+        verify(socialLinkMapper).updateEntityFromDto(linkedInDto, linkedIn);
+        verify(socialLinkMapper, never()).toEntity(githubDto);
+        verify(socialLinkMapper, never()).toEntity(linkedInDto);
+        List<SocialLink> links = existingProfile.getSocialLinks();
+        assertEquals(3, links.size());
+        assertTrue(links.contains(github));
+        assertTrue(links.contains(linkedIn));
+        assertFalse(links.contains(twitter));
+        assertTrue(links.contains(mastodon));
+        assertNull(mastodon.getId());
+        assertSame(existingProfile, mastodon.getProfile());
+    }
+
     @Test
     void shouldCreateNewProfileWhenNoneExists() {
         ProfileDto profileDto = ProfileDto.builder()
@@ -175,7 +257,7 @@ class ProfileServiceTest {
                 .email("john@example.com")
                 .build();
 
-        when(profileRepository.findAll()).thenReturn(Collections.emptyList());
+        when(profileRepository.findSingleton()).thenReturn(Collections.emptyList());
         when(profileMapper.toEntity(profileDto)).thenReturn(profile);
         when(profileRepository.save(any(Profile.class))).thenReturn(savedProfile);
         when(profileMapper.toDto(savedProfile)).thenReturn(savedProfileDto);
@@ -184,7 +266,7 @@ class ProfileServiceTest {
 
         assertNotNull(result.getId());
         assertEquals("John Doe", result.getFullName());
-        verify(profileRepository).findAll();
+        verify(profileRepository).findSingleton();
         verify(profileMapper).toEntity(profileDto);
         verify(profileRepository).save(any(Profile.class));
         verify(profileMapper).toDto(savedProfile);
@@ -100,7 +100,7 @@ class ProjectRepositoryTest {
                 .sortOrder(1)
                 .build();
 
-        project.setTechnologiesList(Arrays.asList("React", "Node.js", "MongoDB"));
+        project.setTechnologies(Arrays.asList("React", "Node.js", "MongoDB"));
 
         entityManager.persist(project);
         entityManager.flush();
@@ -109,7 +109,7 @@ class ProjectRepositoryTest {
         Project found = projectRepository.findById(project.getId()).orElse(null);
 
         assertNotNull(found);
-        List<String> technologies = found.getTechnologiesList();
+        List<String> technologies = found.getTechnologies();
         assertEquals(3, technologies.size());
         assertTrue(technologies.contains("React"));
         assertTrue(technologies.contains("Node.js"));
@@ -1,19 +1,24 @@
 package com.portfolio.project.service;
 
+import com.portfolio.common.event.ContentChangedEvent;
 import com.portfolio.common.exception.ResourceNotFoundException;
+import com.portfolio.common.repository.SortOrderUpdater;
 import com.portfolio.project.dto.ProjectDto;
 import com.portfolio.project.dto.ProjectMapper;
 import com.portfolio.project.entity.Project;
 import com.portfolio.project.repository.ProjectRepository;
+import com.portfolio.technology.service.TechnologyIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,11 +36,21 @@ class ProjectServiceTest {
     @Mock
     private ProjectImageValidationService imageValidationService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TechnologyIndex technologyIndex;
+
+    @Mock
+    private SortOrderUpdater sortOrderUpdater;
+
     private ProjectServiceImpl projectService;
 
     @BeforeEach
     void setUp() {
-        projectService = new ProjectServiceImpl(projectRepository, projectMapper, imageValidationService);
+        projectService = new ProjectServiceImpl(projectRepository, projectMapper, imageValidationService, eventPublisher,
+                technologyIndex, sortOrderUpdater);
     }
 
     @Test
@@ -195,6 +210,33 @@ class ProjectServiceTest {
 
         verify(projectRepository).findById("1");
         verify(projectRepository).delete(project);
+        verify(eventPublisher).publishEvent(new ContentChangedEvent(
+                ContentChangedEvent.ContentType.PROJECT, "1", ContentChangedEvent.ChangeType.DELETED));
+    }
+
+    @Test
+    void shouldPublishChangeWhenThumbnailUpdated() {
+        Project project = Project.builder().id("1").title("Project A").build();
+
+        when(imageValidationService.validateAndDecode("aGk=", "image/png")).thenReturn(new byte[]{1, 2});
+        when(projectRepository.findById("1")).thenReturn(Optional.of(project));
+        when(projectRepository.save(project)).thenReturn(project);
+
+        projectService.updateThumbnail("1", "aGk=", "image/png");
+
+        assertEquals(2, project.getThumbnailFileSize());
+        verify(eventPublisher).publishEvent(new ContentChangedEvent(
+                ContentChangedEvent.ContentType.PROJECT, "1", ContentChangedEvent.ChangeType.UPDATED));
+    }
+
+    @Test
+    void shouldReorderProjectsWithOneEvent() {
+        projectService.reorderProjects(List.of("2", "1", "3"));
+
+        verify(sortOrderUpdater).reorder("projects", "Project", List.of("2", "1", "3"));
+        verify(eventPublisher).publishEvent(new ContentChangedEvent(
+                ContentChangedEvent.ContentType.PROJECT, null, ContentChangedEvent.ChangeType.REORDERED));
+        verifyNoInteractions(projectRepository);
     }
 
     @Test
@@ -217,4 +259,23 @@ class ProjectServiceTest {
         verify(projectRepository).findFeaturedProjects();
         verify(projectMapper).toDtoList(projects);
     }
+
+    @Test
+    void shouldGetProjectsByTechnologyFromIndex() {
+        Project project = Project.builder().id("1").title("Stream processor").build();
+        ProjectDto dto = ProjectDto.builder().id("1").title("Stream processor").build();
+        when(technologyIndex.projectIds("Kafka")).thenReturn(Set.of("1"));
+        when(projectRepository.findByIdsOrderedBySort(Set.of("1"))).thenReturn(List.of(project));
+        when(projectMapper.toDtoList(List.of(project))).thenReturn(List.of(dto));
+
+        assertEquals(List.of(dto), projectService.getProjectsByTechnology("Kafka"));
+    }
+
+    @Test
+    void shouldNotQueryForUnknownTechnology() {
+        when(technologyIndex.projectIds("Cobol")).thenReturn(Set.of());
+
+        assertTrue(projectService.getProjectsByTechnology("Cobol").isEmpty());
+        verifyNoInteractions(projectRepository);
+    }
 }
@@ -0,0 +1,100 @@
+package com.portfolio.security;
+
+import com.portfolio.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void shouldDelegateAndRecordHashTime() {
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(null), 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        assertEquals("{plain}secret", encoder.encode("secret"));
+        assertTrue(encoder.matches("secret", "{plain}secret"));
+        assertFalse(encoder.matches("wrong", "{plain}secret"));
+
+        assertEquals(2, meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count());
+        assertEquals(1, meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void shouldRejectAtOnceWhenQueueIsFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(release), 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        // One hash running, one waiting in the queue
+        callers.submit(() -> encoder.matches("a", "{plain}a"));
+        callers.submit(() -> encoder.matches("b", "{plain}b"));
+        awaitQueueDepth(1);
+
+        assertThrows(ServiceUnavailableException.class, () -> encoder.matches("c", "{plain}c"));
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+    }
+
+    @Test
+    void shouldGiveUpAfterTimeout() {
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(release), 1, 1, Duration.ofMillis(50), meterRegistry);
+
+        assertThrows(ServiceUnavailableException.class, () -> encoder.matches("a", "{plain}a"));
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.queue").gauge().value() < depth) {
+            assertTrue(System.nanoTime() < deadline, "queue never reached " + depth);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Cheap stand-in for BCrypt that can be held until a latch opens
+     */
+    private record PlainEncoder(CountDownLatch gate) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return ("{plain}" + rawPassword).equals(encodedPassword);
+        }
+
+        private void await() {
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
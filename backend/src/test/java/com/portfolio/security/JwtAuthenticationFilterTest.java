@@ -0,0 +1,136 @@
+package com.portfolio.security;
+
+import com.portfolio.config.JwtConfig;
+import com.portfolio.user.entity.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    // HS512 needs a key of at least 512 bits
+    private static final String SECRET = "filterTestSecretKeyForJWT0123456789012345678901234567890123456789";
+
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret(SECRET);
+        jwtConfig.setExpiration(3600000L);
+        tokenProvider = new JwtTokenProvider(jwtConfig);
+        filter = new JwtAuthenticationFilter(tokenProvider, tokenVersionCache, tokenRevocationList);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldAuthenticateFromClaimsWithoutLoadingTheUser() throws Exception {
+        when(tokenVersionCache.isCurrent("admin", 3)).thenReturn(true);
+
+        Authentication authentication = filter(bearer(tokenProvider.generateToken(user(3))));
+
+        assertNotNull(authentication);
+        assertEquals("admin", authentication.getName());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_admin")), List.copyOf(authentication.getAuthorities()));
+    }
+
+    @Test
+    void shouldCarryTokenVersionOfLoginPrincipal() throws Exception {
+        UserPrincipal principal = new UserPrincipal("admin", "hash",
+                List.of(new SimpleGrantedAuthority("ROLE_admin")), 5);
+        String token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        when(tokenVersionCache.isCurrent("admin", 5)).thenReturn(true);
+
+        assertNotNull(filter(bearer(token)));
+    }
+
+    @Test
+    void shouldRejectTokenIssuedBeforeVersionChange() throws Exception {
+        when(tokenVersionCache.isCurrent("admin", 3)).thenReturn(false);
+
+        assertNull(filter(bearer(tokenProvider.generateToken(user(3)))));
+    }
+
+    @Test
+    void shouldRejectRevokedToken() throws Exception {
+        String token = tokenProvider.generateToken(user(3));
+        when(tokenRevocationList.isRevoked(tokenProvider.getValidClaims(token).getId())).thenReturn(true);
+
+        assertNull(filter(bearer(token)));
+        verifyNoInteractions(tokenVersionCache);
+    }
+
+    @Test
+    void shouldRejectTokenWithoutRoleAndVersionClaims() throws Exception {
+        String legacy = Jwts.builder()
+                .subject("admin")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS512)
+                .compact();
+
+        assertNull(filter(bearer(legacy)));
+        verifyNoInteractions(tokenVersionCache);
+    }
+
+    @Test
+    void shouldIgnoreRequestWithoutToken() throws Exception {
+        assertNull(filter(new MockHttpServletRequest("GET", "/api/contacts")));
+        verifyNoInteractions(tokenVersionCache);
+    }
+
+    private Authentication filter(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/contacts");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static User user(int tokenVersion) {
+        return User.builder()
+                .id("user-001")
+                .username("admin")
+                .passwordHash("hash")
+                .role("admin")
+                .tokenVersion(tokenVersion)
+                .build();
+    }
+}
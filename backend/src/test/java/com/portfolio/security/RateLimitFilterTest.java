@@ -0,0 +1,147 @@
+package com.portfolio.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.config.RateLimitConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private static final String NGINX = "172.28.0.10";
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitConfig.Rule login = new RateLimitConfig.Rule();
+        login.setPath("/api/auth/login");
+        login.setCapacity(3);
+        login.setPeriod(Duration.ofSeconds(30));
+        RateLimitConfig config = new RateLimitConfig();
+        config.getRules().put("login", login);
+
+        filter = new RateLimitFilter(config, new ObjectMapper().findAndRegisterModules(), now::get);
+    }
+
+    @Test
+    void shouldAllowBurstThenRejectWithRetryAfter() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, perform("POST", "/api/auth/login", "10.0.0.1").getStatus());
+        }
+
+        MockHttpServletResponse rejected = perform("POST", "/api/auth/login", "10.0.0.1");
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("10", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("Too Many Requests"));
+    }
+
+    @Test
+    void shouldRefillOverTime() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            perform("POST", "/api/auth/login", "10.0.0.1");
+        }
+        assertEquals(429, perform("POST", "/api/auth/login", "10.0.0.1").getStatus());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertEquals(200, perform("POST", "/api/auth/login", "10.0.0.1").getStatus());
+        assertEquals(429, perform("POST", "/api/auth/login", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void shouldLimitEachClientAndRouteSeparately() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            perform("POST", "/api/auth/login", "10.0.0.1");
+        }
+
+        assertEquals(200, perform("POST", "/api/auth/login", "10.0.0.2").getStatus());
+        assertEquals(200, perform("GET", "/api/auth/login", "10.0.0.1").getStatus());
+        assertEquals(200, perform("POST", "/api/auth/login/other", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void shouldLimitForwardedClientsSeparately() throws Exception {
+        // RemoteIpFilter applies the same rules as the valve behind server.forward-headers-strategy=native,
+        // trusting only the nginx address as server.tomcat.remoteip.internal-proxies does in Docker
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, performForwarded(NGINX, "203.0.113.7").getStatus());
+        }
+        assertEquals(429, performForwarded(NGINX, "203.0.113.7").getStatus());
+
+        assertEquals(200, performForwarded(NGINX, "198.51.100.23").getStatus());
+    }
+
+    @Test
+    void shouldIgnoreForwardedHeaderFromOtherPrivateHosts() throws Exception {
+        // Another container on the same network, bypassing nginx
+        for (int i = 0; i < 3; i++) {
+            performForwarded("172.28.0.20", "198.51.100." + i);
+        }
+
+        assertEquals(429, performForwarded("172.28.0.20", "198.51.100.99").getStatus());
+    }
+
+    @Test
+    void shouldEvictOnlyRefilledBuckets() throws Exception {
+        perform("POST", "/api/auth/login", "10.0.0.1");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        perform("POST", "/api/auth/login", "10.0.0.2");
+
+        filter.evictIdleBuckets();
+
+        assertEquals(1, filter.trackedClients());
+    }
+
+    @Test
+    void shouldSkipEverythingWhenDisabled() throws Exception {
+        RateLimitConfig config = new RateLimitConfig();
+        config.setEnabled(false);
+        filter = new RateLimitFilter(config, new ObjectMapper(), now::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, perform("POST", "/api/auth/login", "10.0.0.1").getStatus());
+        }
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse performForwarded(String proxyAddr, String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(proxyAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet endpoint = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+            }
+        };
+        RemoteIpFilter remoteIpFilter = new RemoteIpFilter();
+        remoteIpFilter.setInternalProxies(NGINX.replace(".", "\\."));
+        FilterChain chain = new MockFilterChain(endpoint, remoteIpFilter, filter);
+        chain.doFilter(request, response);
+        return response;
+    }
+}
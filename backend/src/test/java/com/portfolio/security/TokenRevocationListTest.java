@@ -0,0 +1,157 @@
+package com.portfolio.security;
+
+import com.portfolio.auth.entity.RevokedToken;
+import com.portfolio.auth.repository.RevokedTokenRepository;
+import com.portfolio.config.JwtConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setExpiration(Duration.ofHours(1).toMillis());
+        revocationList = new TokenRevocationList(revokedTokenRepository, jwtConfig, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldStoreRevocationAndHonourItAtOnce() {
+        revocationList.revoke("jti-1", "admin", Date.from(NOW.plusSeconds(600)));
+
+        assertTrue(revocationList.isRevoked("jti-1"));
+        assertFalse(revocationList.isRevoked("jti-2"));
+        ArgumentCaptor<RevokedToken> saved = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenRepository).save(saved.capture());
+        assertEquals("admin", saved.getValue().getUsername());
+        assertEquals(LocalDateTime.ofInstant(NOW.plusSeconds(600), ZoneOffset.UTC), saved.getValue().getExpiresAt());
+    }
+
+    @Test
+    void shouldHonourRevocationOnlyOnceItCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            revocationList.revoke("jti-1", "admin", Date.from(NOW.plusSeconds(600)));
+            revocationList.revoke("jti-2", "admin", Date.from(NOW.plusSeconds(600)));
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            assertFalse(revocationList.isRevoked("jti-1"));
+            synchronizations.get(0).afterCommit();
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertTrue(revocationList.isRevoked("jti-1"));
+            assertFalse(revocationList.isRevoked("jti-2"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldLoadRevocationsOfTokensThatMayStillBeValid() {
+        LocalDateTime now = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+        when(revokedTokenRepository.findRevokedSince(now.minusHours(1), now))
+                .thenReturn(List.of(revoked("jti-1", now.plusMinutes(5))));
+
+        revocationList.load();
+
+        assertTrue(revocationList.isRevoked("jti-1"));
+    }
+
+    @Test
+    void shouldPollWithOverlapSinceLastPoll() {
+        LocalDateTime now = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+        when(revokedTokenRepository.findRevokedSince(any(), any())).thenReturn(List.of());
+        revocationList.load();
+        when(revokedTokenRepository.findRevokedSince(now.minus(TokenRevocationList.POLL_OVERLAP), now))
+                .thenReturn(List.of(revoked("jti-remote", now.plusMinutes(5))));
+
+        revocationList.poll();
+
+        assertTrue(revocationList.isRevoked("jti-remote"));
+    }
+
+    @Test
+    void shouldGrowBeyondInitialCapacity() {
+        Date expiresAt = Date.from(NOW.plusSeconds(600));
+        int count = TokenRevocationList.MIN_CAPACITY * 3;
+        for (int i = 0; i < count; i++) {
+            revocationList.revoke("jti-" + i, "admin", expiresAt);
+        }
+
+        assertEquals(count, revocationList.size());
+        for (int i = 0; i < count; i++) {
+            assertTrue(revocationList.isRevoked("jti-" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (revocationList.isRevoked("other-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertEquals(0, falsePositives);
+    }
+
+    @Test
+    void shouldPurgeRevocationsOfExpiredTokens() {
+        revocationList.revoke("expired", "admin", Date.from(NOW.minusSeconds(1)));
+        revocationList.revoke("valid", "admin", Date.from(NOW.plusSeconds(600)));
+
+        revocationList.purgeExpired();
+
+        verify(revokedTokenRepository).deleteExpired(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC));
+        assertFalse(revocationList.isRevoked("expired"));
+        assertTrue(revocationList.isRevoked("valid"));
+        assertEquals(1, revocationList.size());
+    }
+
+    @Test
+    void shouldRarelyPassUnknownIdsThroughTheFilter() {
+        BloomFilter bloomFilter = new BloomFilter(1000);
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.add("revoked-" + i);
+        }
+        int hits = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (bloomFilter.mightContain("unknown-" + i)) {
+                hits++;
+            }
+        }
+        // About 1% at capacity
+        assertTrue(hits < 2_000, "false positives: " + hits);
+    }
+
+    private static RevokedToken revoked(String jti, LocalDateTime expiresAt) {
+        return RevokedToken.builder()
+                .jti(jti)
+                .username("admin")
+                .expiresAt(expiresAt)
+                .revokedAt(expiresAt.minusMinutes(30))
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.portfolio.security;
+
+import com.portfolio.user.entity.User;
+import com.portfolio.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenVersionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TokenVersionCache(userRepository, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldLoadEachUserOnce() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user(1)));
+
+        assertTrue(cache.isCurrent("admin", 1));
+        assertTrue(cache.isCurrent("admin", 1));
+        assertFalse(cache.isCurrent("admin", 0));
+
+        verify(userRepository, times(1)).findByUsername("admin");
+    }
+
+    @Test
+    void shouldReloadAfterEviction() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user(1)), Optional.of(user(2)));
+        assertTrue(cache.isCurrent("admin", 1));
+
+        cache.evictOnCommit("admin");
+
+        assertFalse(cache.isCurrent("admin", 1));
+        assertTrue(cache.isCurrent("admin", 2));
+        verify(userRepository, times(2)).findByUsername("admin");
+    }
+
+    @Test
+    void shouldDropUsersChangedOnOtherNodes() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user(1)), Optional.of(user(2)));
+        assertTrue(cache.isCurrent("admin", 1));
+        LocalDateTime now = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+        when(userRepository.findUsernamesUpdatedSince(now.minus(TokenRevocationList.POLL_OVERLAP)))
+                .thenReturn(List.of("admin"));
+
+        cache.poll();
+
+        assertFalse(cache.isCurrent("admin", 1));
+        assertTrue(cache.isCurrent("admin", 2));
+    }
+
+    @Test
+    void shouldRejectUnknownUserWithoutCachingIt() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty(), Optional.of(user(0)));
+
+        assertFalse(cache.isCurrent("ghost", 0));
+        assertTrue(cache.isCurrent("ghost", 0));
+    }
+
+    private static User user(int tokenVersion) {
+        return User.builder()
+                .id("user-001")
+                .username("admin")
+                .passwordHash("hash")
+                .role("admin")
+                .tokenVersion(tokenVersion)
+                .build();
+    }
+}
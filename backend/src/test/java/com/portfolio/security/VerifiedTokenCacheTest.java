@@ -0,0 +1,105 @@
+package com.portfolio.security;
+
+import com.portfolio.config.JwtConfig;
+import com.portfolio.user.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "cacheTestSecretKeyForJWT01234567890123456789012345678901234567890";
+    private static final long EXPIRATION = 3600000L;
+
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+    private JwtConfig jwtConfig;
+
+    @BeforeEach
+    void setUp() {
+        jwtConfig = new JwtConfig();
+        jwtConfig.setSecret(SECRET);
+        jwtConfig.setExpiration(EXPIRATION);
+    }
+
+    @Test
+    void shouldServeRepeatedTokenFromCache() {
+        JwtTokenProvider provider = new JwtTokenProvider(jwtConfig, now::get);
+        String token = provider.generateToken(user());
+
+        Claims first = provider.getValidClaims(token);
+        Claims second = provider.getValidClaims(token);
+
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals("admin", provider.getUsernameFromToken(token));
+    }
+
+    @Test
+    void shouldNotServeExpiredToken() {
+        JwtTokenProvider provider = new JwtTokenProvider(jwtConfig, now::get);
+        String token = provider.generateToken(user());
+        assertNotNull(provider.getValidClaims(token));
+
+        now.addAndGet(EXPIRATION + 1000);
+
+        assertNull(provider.getValidClaims(token));
+    }
+
+    @Test
+    void shouldVerifyTokenThatDiffersFromCachedOne() {
+        JwtTokenProvider provider = new JwtTokenProvider(jwtConfig, now::get);
+        String token = provider.generateToken(user());
+        assertNotNull(provider.getValidClaims(token));
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertNull(provider.getValidClaims(tampered));
+    }
+
+    @Test
+    void shouldStayWithinBoundAndSweepExpiredEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, now::get);
+        cache.put("a", claims(now.get() + 1000));
+        cache.put("b", claims(now.get() + 5000));
+        cache.put("c", claims(now.get() + 5000));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("c"));
+
+        now.addAndGet(2000);
+        cache.put("c", claims(now.get() + 5000));
+
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+    }
+
+    @Test
+    void shouldVerifyEveryTimeWhenDisabled() {
+        jwtConfig.setClaimCacheSize(0);
+        JwtTokenProvider provider = new JwtTokenProvider(jwtConfig, now::get);
+        String token = provider.generateToken(user());
+
+        assertNotSame(provider.getValidClaims(token), provider.getValidClaims(token));
+    }
+
+    private static Claims claims(long expiresAt) {
+        return Jwts.claims().subject("admin").expiration(new Date(expiresAt)).build();
+    }
+
+    private static User user() {
+        return User.builder()
+                .id("user-001")
+                .username("admin")
+                .passwordHash("hash")
+                .role("admin")
+                .tokenVersion(0)
+                .build();
+    }
+}
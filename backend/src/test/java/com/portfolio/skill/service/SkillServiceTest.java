@@ -1,6 +1,7 @@
 package com.portfolio.skill.service;
 
 import com.portfolio.common.exception.ResourceNotFoundException;
+import com.portfolio.common.repository.SortOrderUpdater;
 import com.portfolio.skill.dto.SkillDto;
 import com.portfolio.skill.dto.SkillMapper;
 import com.portfolio.skill.entity.Skill;
@@ -28,11 +29,14 @@ class SkillServiceTest {
     @Mock
     private SkillMapper skillMapper;
 
+    @Mock
+    private SortOrderUpdater sortOrderUpdater;
+
     private SkillServiceImpl skillService;
 
     @BeforeEach
     void setUp() {
-        skillService = new SkillServiceImpl(skillRepository, skillMapper);
+        skillService = new SkillServiceImpl(skillRepository, skillMapper, sortOrderUpdater);
     }
 
     @Test
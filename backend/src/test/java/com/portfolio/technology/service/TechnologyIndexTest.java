@@ -0,0 +1,105 @@
+package com.portfolio.technology.service;
+
+import com.portfolio.common.event.ContentChangedEvent;
+import com.portfolio.common.event.ContentChangedEvent.ChangeType;
+import com.portfolio.common.event.ContentChangedEvent.ContentType;
+import com.portfolio.experience.repository.ExperienceRepository;
+import com.portfolio.experience.repository.ExperienceTechnologiesView;
+import com.portfolio.project.repository.ProjectRepository;
+import com.portfolio.project.repository.ProjectTechnologiesView;
+import com.portfolio.technology.dto.TechnologyDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TechnologyIndexTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ExperienceRepository experienceRepository;
+
+    private TechnologyIndex technologyIndex;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(LocalDate.of(2026, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        technologyIndex = new TechnologyIndex(projectRepository, experienceRepository, clock);
+
+        when(projectRepository.findAllTechnologies()).thenReturn(List.of(
+                new ProjectView("p1", List.of("Kafka", "Java")),
+                new ProjectView("p2", List.of("java ", "Spring  Boot"))));
+        when(experienceRepository.findAllTechnologies()).thenReturn(List.of(
+                // Overlapping roles: 2020-2023 and 2022-2024 give four years of Java, not five
+                new ExperienceView("e1", List.of("Java"), LocalDate.of(2020, 1, 1), LocalDate.of(2023, 1, 1)),
+                new ExperienceView("e2", List.of("Java", "Kafka"), LocalDate.of(2022, 1, 1), LocalDate.of(2024, 1, 1)),
+                new ExperienceView("e3", List.of("Go"), LocalDate.of(2025, 1, 1), null)));
+    }
+
+    @Test
+    void shouldMatchAnySpelling() {
+        assertEquals(Set.of("p1", "p2"), technologyIndex.projectIds("JAVA"));
+        assertEquals(Set.of("p2"), technologyIndex.projectIds("spring boot"));
+        assertEquals(Set.of("e2"), technologyIndex.experienceIds("kafka"));
+        assertTrue(technologyIndex.projectIds("Rust").isEmpty());
+    }
+
+    @Test
+    void shouldSummarizeCountsAndYears() {
+        List<TechnologyDto> technologies = technologyIndex.getTechnologies();
+
+        TechnologyDto java = technologies.get(0);
+        assertEquals("java", java.getKey());
+        assertEquals("Java", java.getName());
+        assertEquals(2, java.getProjectCount());
+        assertEquals(2, java.getExperienceCount());
+        assertEquals(4.0, java.getYears());
+
+        TechnologyDto go = technologies.stream().filter(t -> t.getKey().equals("go")).findFirst().orElseThrow();
+        assertEquals(1.0, go.getYears());
+    }
+
+    @Test
+    void shouldUpdateSingleProjectOnChange() {
+        technologyIndex.projectIds("java");
+        when(projectRepository.findTechnologiesById("p1")).thenReturn(Optional.of(new ProjectView("p1", List.of("Rust"))));
+
+        technologyIndex.onContentChanged(new ContentChangedEvent(ContentType.PROJECT, "p1", ChangeType.UPDATED));
+
+        assertEquals(Set.of("p2"), technologyIndex.projectIds("java"));
+        assertEquals(Set.of("p1"), technologyIndex.projectIds("rust"));
+        assertTrue(technologyIndex.projectIds("kafka").isEmpty());
+        verify(projectRepository, times(1)).findAllTechnologies();
+    }
+
+    @Test
+    void shouldDropFacetWhenLastUseIsDeleted() {
+        technologyIndex.getTechnologies();
+
+        technologyIndex.onContentChanged(new ContentChangedEvent(ContentType.EXPERIENCE, "e3", ChangeType.DELETED));
+
+        assertTrue(technologyIndex.getTechnologies().stream().noneMatch(t -> t.getKey().equals("go")));
+        verify(experienceRepository, never()).findTechnologiesById("e3");
+    }
+
+    private record ProjectView(String getId, List<String> getTechnologies) implements ProjectTechnologiesView {
+    }
+
+    private record ExperienceView(String getId, List<String> getTechnologies, LocalDate getStartDate,
+                                  LocalDate getEndDate) implements ExperienceTechnologiesView {
+    }
+}
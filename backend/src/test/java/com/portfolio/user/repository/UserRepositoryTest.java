@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -63,4 +64,24 @@ class UserRepositoryTest {
 
         assertFalse(exists);
     }
+
+    @Test
+    void shouldUpdatePasswordOnlyWhileHashIsUnchanged() {
+        User user = User.builder()
+                .username("testuser")
+                .passwordHash("oldhash")
+                .role("admin")
+                .requiresPasswordChange(true)
+                .build();
+        entityManager.persist(user);
+        entityManager.flush();
+
+        assertEquals(0, userRepository.updatePassword("testuser", "otherhash", "newhash", LocalDateTime.now()));
+        assertEquals(1, userRepository.updatePassword("testuser", "oldhash", "newhash", LocalDateTime.now()));
+
+        User updated = userRepository.findByUsername("testuser").orElseThrow();
+        assertEquals("newhash", updated.getPasswordHash());
+        assertFalse(updated.getRequiresPasswordChange());
+        assertEquals(1, updated.getTokenVersion());
+    }
 }
@@ -1,5 +1,6 @@
 package com.portfolio.user.service;
 
+import com.portfolio.security.TokenVersionCache;
 import com.portfolio.user.entity.User;
 import com.portfolio.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -14,6 +16,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,11 +28,14 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
     private UserServiceImpl userService;
 
     @BeforeEach
     void setUp() {
-        userService = new UserServiceImpl(userRepository, passwordEncoder);
+        userService = new UserServiceImpl(userRepository, passwordEncoder, tokenVersionCache);
     }
 
     @Test
@@ -63,4 +69,100 @@ class UserServiceTest {
 
         verify(userRepository).findByUsername("nonexistent");
     }
+
+    @Test
+    void shouldChangePasswordWithOneVerificationAndOneHash() throws Exception {
+        User user = User.builder()
+                .id("user-001")
+                .username("testuser")
+                .passwordHash("oldhash")
+                .role("admin")
+                .requiresPasswordChange(true)
+                .build();
+
+        User updated = User.builder()
+                .id("user-001")
+                .username("testuser")
+                .passwordHash("newhash")
+                .role("admin")
+                .requiresPasswordChange(false)
+                .build();
+
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user), Optional.of(updated));
+        when(passwordEncoder.matches("current", "oldhash")).thenReturn(true);
+        when(passwordEncoder.encode("newpassword")).thenReturn("newhash");
+        when(userRepository.updatePassword(eq("testuser"), eq("oldhash"), eq("newhash"), any())).thenReturn(1);
+
+        User result = userService.changePassword("testuser", "current", "newpassword");
+
+        assertEquals("newhash", result.getPasswordHash());
+        assertFalse(result.getRequiresPasswordChange());
+        verify(passwordEncoder, times(1)).matches(any(), any());
+    }
+
+    @Test
+    void shouldInvalidateIssuedTokensWhenPasswordChanges() throws Exception {
+        User user = User.builder()
+                .id("user-001")
+                .username("testuser")
+                .passwordHash("oldhash")
+                .role("admin")
+                .tokenVersion(2)
+                .build();
+        User updated = User.builder()
+                .id("user-001")
+                .username("testuser")
+                .passwordHash("newhash")
+                .role("admin")
+                .tokenVersion(3)
+                .build();
+
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user), Optional.of(updated));
+        when(passwordEncoder.matches("current", "oldhash")).thenReturn(true);
+        when(passwordEncoder.encode("newpassword")).thenReturn("newhash");
+        when(userRepository.updatePassword(eq("testuser"), eq("oldhash"), eq("newhash"), any())).thenReturn(1);
+
+        User result = userService.changePassword("testuser", "current", "newpassword");
+
+        assertEquals(3, result.getTokenVersion());
+        verify(tokenVersionCache).evictOnCommit("testuser");
+    }
+
+    @Test
+    void shouldRejectPasswordChangedConcurrently() {
+        User user = User.builder()
+                .id("user-001")
+                .username("testuser")
+                .passwordHash("oldhash")
+                .role("admin")
+                .build();
+
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("current", "oldhash")).thenReturn(true);
+        when(passwordEncoder.encode("newpassword")).thenReturn("newhash");
+        when(userRepository.updatePassword(eq("testuser"), eq("oldhash"), eq("newhash"), any())).thenReturn(0);
+
+        assertThrows(BadCredentialsException.class,
+                () -> userService.changePassword("testuser", "current", "newpassword"));
+        verifyNoInteractions(tokenVersionCache);
+    }
+
+    @Test
+    void shouldRejectUnchangedPasswordWithoutHashing() {
+        User user = User.builder()
+                .id("user-001")
+                .username("testuser")
+                .passwordHash("oldhash")
+                .role("admin")
+                .build();
+
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("current", "oldhash")).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.changePassword("testuser", "current", "current"));
+
+        verify(passwordEncoder, never()).encode(any());
+        verify(userRepository, never()).updatePassword(any(), any(), any(), any());
+    }
 }
@@ -26,5 +26,8 @@ export interface ChangePasswordRequest {
 /** Change password response */
 export interface ChangePasswordResponse {
   message: string;
+  /** Replaces the current token, which the password change invalidated */
+  token: string;
+  expiresIn: number;
   user: LoginResponse['user'];
 }
@@ -1,3 +1,17 @@
+/** Heading entry of a blog's table of contents */
+export interface BlogOutlineEntry {
+  level: number;
+  text: string;
+  anchor: string;
+}
+
+/** Link to a related post, precomputed on the server */
+export interface RelatedBlog {
+  id: string;
+  slug: string;
+  title: string;
+}
+
 /** Blog data transfer object */
 export interface BlogDto {
   id: string;
@@ -12,6 +26,30 @@ export interface BlogDto {
   published: boolean;
   publishedDate: string | null;
   readingTime: number | null;
+  /** Word count computed when the post was saved */
+  wordCount?: number | null;
+  /** Heading outline (table of contents); anchors match ids in renderedHtml */
+  outline?: BlogOutlineEntry[];
+  /** Sanitized, server-rendered HTML; preferred over content when present */
+  renderedHtml?: string | null;
+  viewCount?: number | null;
+  /** Related posts, best match first */
+  relatedPosts?: RelatedBlog[];
   createdAt: string;
   updatedAt: string;
 }
+
+/** Autosave draft of a blog's content; content is only returned when the draft is fetched */
+export interface BlogDraft {
+  blogId: string;
+  content: string | null;
+  revision: number;
+  length: number;
+}
+
+/** Replace deleteCount characters at position with insert */
+export interface BlogTextEdit {
+  position: number;
+  deleteCount: number;
+  insert: string;
+}
@@ -14,6 +14,63 @@ export interface ContactDto {
   subject: string;
   message: string;
   read: boolean;
+  /** Hidden from the inbox but kept */
+  archived?: boolean;
   /** ISO datetime string */
   createdAt: string;
 }
+
+/** Query for one page of the contact inbox; filters are optional */
+export interface ContactPageQuery {
+  /** nextCursor from the previous page; omit for the first page */
+  cursor?: string;
+  /** Page size (server caps it at 200) */
+  limit?: number;
+  read?: boolean;
+  /** Defaults to false (the inbox) on the server */
+  archived?: boolean;
+  /** ISO datetime, inclusive */
+  from?: string;
+  /** ISO datetime, exclusive */
+  to?: string;
+}
+
+/** One page of contacts, newest first */
+export interface ContactPage {
+  items: ContactDto[];
+  /** Cursor for the next page, or null on the last page */
+  nextCursor: string | null;
+}
+
+/** Inbox totals (archived contacts excluded) */
+export interface ContactCounts {
+  total: number;
+  unread: number;
+}
+
+/** Operation applied to many contacts at once */
+export type ContactBulkAction = 'MARK_READ' | 'MARK_UNREAD' | 'ARCHIVE' | 'UNARCHIVE' | 'DELETE';
+
+/** Criteria selecting contacts for a bulk operation; omitted fields match everything */
+export interface ContactFilter {
+  read?: boolean;
+  archived?: boolean;
+  /** Inclusive lower bound on createdAt (ISO datetime) */
+  from?: string;
+  /** Exclusive upper bound on createdAt (ISO datetime) */
+  to?: string;
+}
+
+/** Bulk operation request: select contacts by ids or by filter, not both */
+export interface ContactBulkRequest {
+  action: ContactBulkAction;
+  ids?: string[];
+  filter?: ContactFilter;
+}
+
+/** Result of a bulk operation */
+export interface ContactBulkResult {
+  action: ContactBulkAction;
+  /** Contacts changed; those already in the requested state are not counted */
+  affected: number;
+}
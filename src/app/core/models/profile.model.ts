@@ -22,14 +22,16 @@ export interface ProfileDto {
   /** Longer about text (HTML allowed) */
   bio: string;
   avatarUrl: string;
-  /** Base64-encoded avatar image data (without data URI prefix) */
+  /** Base64-encoded avatar image data (without data URI prefix); the API serves stored avatars at /api/profile/avatar instead */
   avatarBase64?: string;
   /** MIME type for avatar (image/jpeg, image/png, image/webp) */
   avatarContentType?: string;
   /** Avatar file size in bytes */
   avatarFileSize?: number;
+  /** When the stored avatar last changed; versions the /api/profile/avatar URL */
+  avatarUpdatedAt?: string;
   resumeUrl: string;
-  /** Base64-encoded resume PDF data (without data URI prefix) */
+  /** Base64-encoded resume PDF data (without data URI prefix); the API serves stored resumes at /api/profile/resume instead */
   resumeBase64?: string;
   /** MIME type for resume (application/pdf) */
   resumeContentType?: string;
@@ -50,8 +50,16 @@ export class AuthService {
 
   /**
    * Logs out the current user and navigates to login page.
+   * The token is revoked on the server so it cannot be reused even if it leaked;
+   * the local session ends whether or not that request succeeds.
    */
   logout(): void {
+    const token = this.isAuthenticated() ? this.tokenSubject.value : null;
+    if (token) {
+      this.http.post<void>('/api/auth/logout', {}, {
+        headers: { Authorization: `Bearer ${token}` }
+      }).subscribe({ error: () => {} });
+    }
     this.clearAuthData();
     this.router.navigate(['/admin/login']);
   }
@@ -121,6 +129,12 @@ export class AuthService {
   changePassword(request: ChangePasswordRequest): Observable<ChangePasswordResponse> {
     return this.http.post<ChangePasswordResponse>('/api/auth/change-password', request).pipe(
       tap(response => {
+        // The old token stops working once the password changes; switch to the new one
+        this.tokenSubject.next(response.token);
+        localStorage.setItem('auth_token', response.token);
+        const expirationTime = Date.now() + (response.expiresIn * 1000);
+        localStorage.setItem('auth_expiration', expirationTime.toString());
+
         // Update user info in memory and localStorage
         this.userSubject.next(response.user);
         localStorage.setItem('auth_user', JSON.stringify(response.user));
@@ -12,9 +12,11 @@ describe('DashboardPageComponent', () => {
   let component: DashboardPageComponent;
   let fixture: ComponentFixture<DashboardPageComponent>;
   let adminServiceMock: {
-    getContacts: ReturnType<typeof vi.fn>;
+    getContactPage: ReturnType<typeof vi.fn>;
+    getContactCounts: ReturnType<typeof vi.fn>;
     getBlogs: ReturnType<typeof vi.fn>;
     markContactRead: ReturnType<typeof vi.fn>;
+    applyContactBulk: ReturnType<typeof vi.fn>;
   };
 
   const mockContacts: ContactDto[] = [
@@ -91,9 +93,11 @@ describe('DashboardPageComponent', () => {
 
   beforeEach(async () => {
     adminServiceMock = {
-      getContacts: vi.fn().mockReturnValue(of(mockContacts)),
+      getContactPage: vi.fn().mockReturnValue(of({ items: mockContacts, nextCursor: 'cursor-1' })),
+      getContactCounts: vi.fn().mockReturnValue(of({ total: 120, unread: 45 })),
       getBlogs: vi.fn().mockReturnValue(of(mockBlogs)),
       markContactRead: vi.fn(),
+      applyContactBulk: vi.fn(),
     };
 
     await TestBed.configureTestingModule({
@@ -114,8 +118,9 @@ describe('DashboardPageComponent', () => {
     expect(component).toBeTruthy();
   });
 
-  it('should load contacts on init', () => {
-    expect(adminServiceMock.getContacts).toHaveBeenCalled();
+  it('should load the first page of contacts on init', () => {
+    expect(adminServiceMock.getContactPage).toHaveBeenCalledWith({ limit: DashboardPageComponent.CONTACT_PAGE_SIZE });
+    expect(component.nextContactCursor).toBe('cursor-1');
     expect(component.contacts).toEqual(mockContacts);
     expect(component.contacts.length).toBe(3);
   });
@@ -127,8 +132,9 @@ describe('DashboardPageComponent', () => {
   });
 
   it('should compute stats correctly', () => {
-    expect(component.totalContacts).toBe(3);
-    expect(component.unreadContacts).toBe(2);
+    // Contact stats come from the server counts, not the loaded page
+    expect(component.totalContacts).toBe(120);
+    expect(component.unreadContacts).toBe(45);
     expect(component.totalBlogs).toBe(3);
     expect(component.publishedBlogs).toBe(2);
   });
@@ -161,4 +167,46 @@ describe('DashboardPageComponent', () => {
     expect(adminServiceMock.markContactRead).toHaveBeenCalledWith('c1');
     expect(component.contacts[0].read).toBe(true);
   });
+
+  it('should archive selected contacts with one bulk request', () => {
+    adminServiceMock.applyContactBulk.mockReturnValue(of({ action: 'ARCHIVE', affected: 2 }));
+    component.selectedContactIds = ['c1', 'c3'];
+
+    component.applyBulkAction('ARCHIVE');
+
+    expect(adminServiceMock.applyContactBulk).toHaveBeenCalledTimes(1);
+    expect(adminServiceMock.applyContactBulk).toHaveBeenCalledWith({ action: 'ARCHIVE', ids: ['c1', 'c3'] });
+    expect(component.contacts.map((c) => c.id)).toEqual(['c2']);
+    expect(component.selectedContactIds).toEqual([]);
+  });
+
+  it('should update read state of selected contacts in place', () => {
+    adminServiceMock.applyContactBulk.mockReturnValue(of({ action: 'MARK_UNREAD', affected: 1 }));
+    component.selectedContactIds = ['c2'];
+
+    component.applyBulkAction('MARK_UNREAD');
+
+    expect(component.contacts.length).toBe(3);
+    expect(component.contacts[1].read).toBe(false);
+  });
+
+  it('should not send a bulk request with nothing selected', () => {
+    component.applyBulkAction('DELETE');
+
+    expect(adminServiceMock.applyContactBulk).not.toHaveBeenCalled();
+  });
+
+  it('should append the next page of contacts', () => {
+    const more: ContactDto = { ...mockContacts[0], id: 'c4', name: 'Dana' };
+    adminServiceMock.getContactPage.mockReturnValue(of({ items: [more], nextCursor: null }));
+
+    component.loadMoreContacts();
+
+    expect(adminServiceMock.getContactPage).toHaveBeenLastCalledWith({
+      cursor: 'cursor-1',
+      limit: DashboardPageComponent.CONTACT_PAGE_SIZE,
+    });
+    expect(component.contacts.map((c) => c.id)).toEqual(['c1', 'c2', 'c3', 'c4']);
+    expect(component.nextContactCursor).toBeNull();
+  });
 });
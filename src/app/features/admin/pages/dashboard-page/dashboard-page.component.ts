@@ -1,8 +1,8 @@
 import { Component, ChangeDetectionStrategy, ChangeDetectorRef, OnInit } from '@angular/core';
-import { ColDef } from 'ag-grid-community';
+import { ColDef, GetRowIdParams, RowSelectionOptions, SelectionChangedEvent } from 'ag-grid-community';
 import { ChartData, ChartOptions } from 'chart.js';
 
-import { ContactDto } from '../../../../core/models/contact.model';
+import { ContactBulkAction, ContactCounts, ContactDto } from '../../../../core/models/contact.model';
 import { BlogDto } from '../../../../core/models/blog.model';
 import { AdminService } from '../../services/admin.service';
 
@@ -14,10 +14,34 @@ import { AdminService } from '../../services/admin.service';
   changeDetection: ChangeDetectionStrategy.OnPush,
 })
 export class DashboardPageComponent implements OnInit {
+  /** Contacts fetched per page */
+  static readonly CONTACT_PAGE_SIZE = 50;
+
   contacts: ContactDto[] = [];
+
+  /** Inbox totals from the server; the grid holds only the pages loaded so far */
+  contactCounts: ContactCounts | null = null;
+
+  /** Cursor for the next page of contacts, null when all are loaded */
+  nextContactCursor: string | null = null;
+
+  /** True while another page of contacts is loading */
+  isLoadingMoreContacts = false;
   blogs: BlogDto[] = [];
   isLoading = false;
 
+  /** IDs of contacts selected in the grid for bulk actions */
+  selectedContactIds: string[] = [];
+
+  /** True while a bulk action request is in flight */
+  isApplyingBulk = false;
+
+  /** Multi-row checkbox selection for bulk actions */
+  contactRowSelection: RowSelectionOptions = { mode: 'multiRow' };
+
+  /** Keeps rows (and their selection) stable when the contacts array is replaced */
+  getContactRowId = (params: GetRowIdParams<ContactDto>): string => params.data.id;
+
   /** AG Grid column definitions for the contacts table */
   contactColumnDefs: ColDef[] = [
     { field: 'name', headerName: 'Name', sortable: true, filter: true },
@@ -78,11 +102,11 @@ export class DashboardPageComponent implements OnInit {
   // ── Computed stats ──────────────────────────────────────────
 
   get totalContacts(): number {
-    return this.contacts.length;
+    return this.contactCounts?.total ?? this.contacts.length;
   }
 
   get unreadContacts(): number {
-    return this.contacts.filter((c) => !c.read).length;
+    return this.contactCounts?.unread ?? this.contacts.filter((c) => !c.read).length;
   }
 
   get totalBlogs(): number {
@@ -112,6 +136,70 @@ export class DashboardPageComponent implements OnInit {
             ...this.contacts.slice(idx + 1),
           ];
         }
+        this.loadContactCounts();
+        this.cdr.markForCheck();
+      },
+    });
+  }
+
+  /**
+   * Appends the next page of contacts to the grid.
+   */
+  loadMoreContacts(): void {
+    if (!this.nextContactCursor || this.isLoadingMoreContacts) {
+      return;
+    }
+    this.isLoadingMoreContacts = true;
+    this.cdr.markForCheck();
+
+    const query = { cursor: this.nextContactCursor, limit: DashboardPageComponent.CONTACT_PAGE_SIZE };
+    this.adminService.getContactPage(query).subscribe({
+      next: (page) => {
+        this.contacts = [...this.contacts, ...page.items];
+        this.nextContactCursor = page.nextCursor;
+        this.isLoadingMoreContacts = false;
+        this.cdr.markForCheck();
+      },
+      error: () => {
+        this.isLoadingMoreContacts = false;
+        this.cdr.markForCheck();
+      },
+    });
+  }
+
+  onContactSelectionChanged(event: SelectionChangedEvent<ContactDto>): void {
+    this.selectedContactIds = event.api.getSelectedRows().map((c) => c.id);
+    this.cdr.markForCheck();
+  }
+
+  /**
+   * Applies an inbox action to every selected contact with a single request.
+   * Archived and deleted contacts leave the list; read state is updated in place.
+   */
+  applyBulkAction(action: ContactBulkAction): void {
+    const ids = [...this.selectedContactIds];
+    if (ids.length === 0 || this.isApplyingBulk) {
+      return;
+    }
+    this.isApplyingBulk = true;
+    this.cdr.markForCheck();
+
+    this.adminService.applyContactBulk({ action, ids }).subscribe({
+      next: () => {
+        const selected = new Set(ids);
+        if (action === 'ARCHIVE' || action === 'DELETE') {
+          this.contacts = this.contacts.filter((c) => !selected.has(c.id));
+          this.selectedContactIds = [];
+        } else if (action === 'MARK_READ' || action === 'MARK_UNREAD') {
+          const read = action === 'MARK_READ';
+          this.contacts = this.contacts.map((c) => (selected.has(c.id) ? { ...c, read } : c));
+        }
+        this.isApplyingBulk = false;
+        this.loadContactCounts();
+        this.cdr.markForCheck();
+      },
+      error: () => {
+        this.isApplyingBulk = false;
         this.cdr.markForCheck();
       },
     });
@@ -123,9 +211,10 @@ export class DashboardPageComponent implements OnInit {
     this.isLoading = true;
     this.cdr.markForCheck();
 
-    this.adminService.getContacts().subscribe({
-      next: (contacts) => {
-        this.contacts = contacts;
+    this.adminService.getContactPage({ limit: DashboardPageComponent.CONTACT_PAGE_SIZE }).subscribe({
+      next: (page) => {
+        this.contacts = page.items;
+        this.nextContactCursor = page.nextCursor;
         this.isLoading = false;
         this.cdr.markForCheck();
       },
@@ -135,6 +224,8 @@ export class DashboardPageComponent implements OnInit {
       },
     });
 
+    this.loadContactCounts();
+
     this.adminService.getBlogs().subscribe({
       next: (blogs) => {
         this.blogs = blogs;
@@ -149,6 +240,15 @@ export class DashboardPageComponent implements OnInit {
     });
   }
 
+  private loadContactCounts(): void {
+    this.adminService.getContactCounts().subscribe({
+      next: (counts) => {
+        this.contactCounts = counts;
+        this.cdr.markForCheck();
+      },
+    });
+  }
+
   private updateChartData(): void {
     const published = this.blogs.filter((b) => b.published).length;
     const drafts = this.blogs.filter((b) => !b.published).length;
@@ -16,6 +16,8 @@ describe('ManageBlogPageComponent', () => {
     createBlog: ReturnType<typeof vi.fn>;
     updateBlog: ReturnType<typeof vi.fn>;
     deleteBlog: ReturnType<typeof vi.fn>;
+    getBlogDraft: ReturnType<typeof vi.fn>;
+    patchBlogDraft: ReturnType<typeof vi.fn>;
   };
 
   const mockBlogs: BlogDto[] = [
@@ -53,6 +55,8 @@ describe('ManageBlogPageComponent', () => {
       createBlog: vi.fn().mockReturnValue(of(mockBlogs[0])),
       updateBlog: vi.fn().mockReturnValue(of(mockBlogs[0])),
       deleteBlog: vi.fn().mockReturnValue(of(undefined)),
+      getBlogDraft: vi.fn().mockReturnValue(of({ blogId: 'b1', content: '<p>Content 1</p>', revision: 0, length: 15 })),
+      patchBlogDraft: vi.fn().mockReturnValue(of({ blogId: 'b1', content: null, revision: 1, length: 20 })),
     };
 
     await TestBed.configureTestingModule({
@@ -169,4 +173,37 @@ describe('ManageBlogPageComponent', () => {
 
     expect(component.blogForm.get('slug')?.value).toBe('my-new-blog-post');
   });
+  describe('draft autosave', () => {
+    it('should compute the changed span only', () => {
+      expect(ManageBlogPageComponent.computeEdit('<p>Hello world</p>', '<p>Hello there world</p>'))
+        .toEqual({ position: 9, deleteCount: 0, insert: 'there ' });
+      expect(ManageBlogPageComponent.computeEdit('<p>abc</p>', '<p>ac</p>'))
+        .toEqual({ position: 4, deleteCount: 1, insert: '' });
+      expect(ManageBlogPageComponent.computeEdit('same', 'same')).toBeNull();
+    });
+
+    it('should restore a newer draft when editing a blog', () => {
+      adminServiceMock.getBlogDraft.mockReturnValue(
+        of({ blogId: 'b1', content: '<p>Unsaved</p>', revision: 3, length: 14 }));
+
+      component.editBlog(mockBlogs[0]);
+
+      expect(adminServiceMock.getBlogDraft).toHaveBeenCalledWith('b1');
+      expect(component.blogForm.get('content')?.value).toBe('<p>Unsaved</p>');
+    });
+
+    it('should send a debounced edit against the acknowledged revision', () => {
+      vi.useFakeTimers();
+      try {
+        component.editBlog(mockBlogs[0]);
+        component.blogForm.patchValue({ content: '<p>Content 1!</p>' });
+        vi.advanceTimersByTime(component.AUTOSAVE_DEBOUNCE_MS);
+
+        expect(adminServiceMock.patchBlogDraft).toHaveBeenCalledWith('b1', 0,
+          [{ position: 12, deleteCount: 0, insert: '!' }]);
+      } finally {
+        vi.useRealTimers();
+      }
+    });
+  });
 });
@@ -1,6 +1,8 @@
-import { Component, ChangeDetectionStrategy, ChangeDetectorRef, OnInit } from '@angular/core';
+import { Component, ChangeDetectionStrategy, ChangeDetectorRef, OnInit, OnDestroy } from '@angular/core';
 import { FormBuilder, FormGroup, Validators } from '@angular/forms';
-import { BlogDto } from '../../../../core/models/blog.model';
+import { HttpErrorResponse } from '@angular/common/http';
+import { Subscription, debounceTime } from 'rxjs';
+import { BlogDto, BlogTextEdit } from '../../../../core/models/blog.model';
 import { AdminService } from '../../services/admin.service';
 import { NotificationService } from '../../../../core/services/notification.service';
 
@@ -11,7 +13,7 @@ import { NotificationService } from '../../../../core/services/notification.serv
   standalone: false,
   changeDetection: ChangeDetectionStrategy.OnPush,
 })
-export class ManageBlogPageComponent implements OnInit {
+export class ManageBlogPageComponent implements OnInit, OnDestroy {
   blogs: BlogDto[] = [];
   isEditing = false;
   selectedBlog: BlogDto | null = null;
@@ -27,6 +29,15 @@ export class ManageBlogPageComponent implements OnInit {
   // Content limits (MEDIUMTEXT = 16MB, show practical limit)
   readonly CONTENT_MAX_LENGTH = 500000;
 
+  // Draft autosave: only the changed span is sent, against the last revision the server acknowledged
+  readonly AUTOSAVE_DEBOUNCE_MS = 2000;
+  draftSavedAt: Date | null = null;
+  private autosaveSub?: Subscription;
+  private syncedContent = '';
+  private draftRevision = 0;
+  private draftInFlight = false;
+  private draftPending = false;
+
   // Quill editor config
   quillModules = {
     toolbar: [
@@ -59,6 +70,10 @@ export class ManageBlogPageComponent implements OnInit {
     this.loadBlogs();
   }
 
+  ngOnDestroy(): void {
+    this.stopAutosave();
+  }
+
   loadBlogs(): void {
     this.adminService.getBlogs().subscribe({
       next: (blogs) => {
@@ -245,10 +260,12 @@ export class ManageBlogPageComponent implements OnInit {
       tags: blog.tags.join(', '),
       published: blog.published,
     });
+    this.startAutosave(blog);
     this.cdr.markForCheck();
   }
 
   cancelEdit(): void {
+    this.stopAutosave();
     this.isEditing = false;
     this.selectedBlog = null;
     this.blogForm.reset({ published: false });
@@ -277,10 +294,129 @@ export class ManageBlogPageComponent implements OnInit {
   }
 
   openNewBlogForm(): void {
+    this.stopAutosave();
     this.isEditing = true;
     this.selectedBlog = null;
     this.blogForm.reset({ published: false });
     this.removeCoverImage();
     this.cdr.markForCheck();
   }
+  /**
+   * Computes the single splice that turns previous into next.
+   * Keystrokes and pastes touch one contiguous span, so trimming the common prefix and suffix
+   * keeps the payload proportional to the change rather than to the post.
+   * @returns The edit, or null when the texts are equal
+   */
+  static computeEdit(previous: string, next: string): BlogTextEdit | null {
+    if (previous === next) {
+      return null;
+    }
+    const maxPrefix = Math.min(previous.length, next.length);
+    let prefix = 0;
+    while (prefix < maxPrefix && previous.charCodeAt(prefix) === next.charCodeAt(prefix)) {
+      prefix++;
+    }
+    let suffix = 0;
+    const maxSuffix = maxPrefix - prefix;
+    while (suffix < maxSuffix
+      && previous.charCodeAt(previous.length - 1 - suffix) === next.charCodeAt(next.length - 1 - suffix)) {
+      suffix++;
+    }
+    return {
+      position: prefix,
+      deleteCount: previous.length - prefix - suffix,
+      insert: next.substring(prefix, next.length - suffix),
+    };
+  }
+
+  /**
+   * Loads the existing draft of a post (offering it in place of the saved content)
+   * and starts sending content changes to it.
+   */
+  private startAutosave(blog: BlogDto): void {
+    this.stopAutosave();
+    this.syncedContent = blog.content || '';
+    this.draftRevision = 0;
+
+    this.adminService.getBlogDraft(blog.id).subscribe({
+      next: (draft) => {
+        if (this.selectedBlog?.id !== blog.id) return;
+        this.draftRevision = draft.revision;
+        this.syncedContent = draft.content ?? '';
+        if (draft.revision > 0 && this.syncedContent !== (blog.content || '')) {
+          this.blogForm.patchValue({ content: this.syncedContent }, { emitEvent: false });
+          this.notification.info('Restored unsaved draft');
+        }
+        this.cdr.markForCheck();
+      },
+      error: () => {
+        // Autosave is best effort; editing and saving still work without it
+      },
+    });
+
+    this.autosaveSub = this.blogForm.get('content')?.valueChanges
+      .pipe(debounceTime(this.AUTOSAVE_DEBOUNCE_MS))
+      .subscribe(() => this.syncDraft());
+  }
+
+  private stopAutosave(): void {
+    this.autosaveSub?.unsubscribe();
+    this.autosaveSub = undefined;
+    this.draftInFlight = false;
+    this.draftPending = false;
+    this.draftSavedAt = null;
+  }
+
+  private syncDraft(): void {
+    const blogId = this.selectedBlog?.id;
+    if (!blogId || !this.autosaveSub) return;
+    if (this.draftInFlight) {
+      // One request at a time, so every edit is computed against an acknowledged revision
+      this.draftPending = true;
+      return;
+    }
+
+    const content: string = this.blogForm.get('content')?.value || '';
+    const edit = ManageBlogPageComponent.computeEdit(this.syncedContent, content);
+    if (!edit) return;
+
+    this.draftInFlight = true;
+    this.adminService.patchBlogDraft(blogId, this.draftRevision, [edit]).subscribe({
+      next: (draft) => {
+        this.draftRevision = draft.revision;
+        this.syncedContent = content;
+        this.draftSavedAt = new Date();
+        this.finishDraftSync();
+      },
+      error: (err: HttpErrorResponse) => {
+        if (err.status === 409) {
+          this.resyncDraft(blogId);
+        } else {
+          this.finishDraftSync();
+        }
+      },
+    });
+  }
+
+  /** After a conflict, take the server's copy as the new base and resend the difference */
+  private resyncDraft(blogId: string): void {
+    this.adminService.getBlogDraft(blogId).subscribe({
+      next: (draft) => {
+        this.draftRevision = draft.revision;
+        this.syncedContent = draft.content ?? '';
+        this.draftPending = true;
+        this.finishDraftSync();
+      },
+      error: () => this.finishDraftSync(),
+    });
+  }
+
+  private finishDraftSync(): void {
+    this.draftInFlight = false;
+    if (this.draftPending) {
+      this.draftPending = false;
+      this.syncDraft();
+    }
+    this.cdr.markForCheck();
+  }
 }
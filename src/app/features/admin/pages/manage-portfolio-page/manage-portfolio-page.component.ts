@@ -284,6 +284,11 @@ export class ManagePortfolioPageComponent implements OnInit {
       return `data:${this.currentProfile.avatarContentType};base64,${this.currentProfile.avatarBase64}`;
     }
 
+    // Stored avatar is served by its own endpoint
+    if (this.currentProfile.avatarFileSize) {
+      return `/api/profile/avatar?v=${encodeURIComponent(this.currentProfile.avatarUpdatedAt ?? '')}`;
+    }
+
     // Fallback to URL
     return this.currentProfile.avatarUrl;
   }
@@ -360,7 +365,7 @@ export class ManagePortfolioPageComponent implements OnInit {
     if (!this.currentProfile) return undefined;
 
     // Check if resume BLOB exists
-    if (this.currentProfile.resumeBase64) {
+    if (this.currentProfile.resumeBase64 || this.currentProfile.resumeFileSize) {
       return '/api/profile/resume';
     }
 
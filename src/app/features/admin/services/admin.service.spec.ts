@@ -192,6 +192,17 @@ describe('AdminService', () => {
     });
   });
 
+  describe('patchBlogDraft', () => {
+    it('should PATCH /blogs/{id}/draft with the base revision and edits', () => {
+      apiMock.patch.mockReturnValue(of({ blogId: 'b1', content: null, revision: 4, length: 10 }));
+      const edits = [{ position: 3, deleteCount: 1, insert: 'x' }];
+
+      service.patchBlogDraft('b1', 3, edits).subscribe();
+
+      expect(apiMock.patch).toHaveBeenCalledWith('/blogs/b1/draft', { baseRevision: 3, edits });
+    });
+  });
+
   // ── Profile ───────────────────────────────────────────────
 
   describe('updateProfile', () => {
@@ -250,6 +261,58 @@ describe('AdminService', () => {
     });
   });
 
+  describe('reorder endpoints', () => {
+    it('should PUT the ordered ids to each order endpoint', () => {
+      apiMock.put.mockReturnValue(of(undefined));
+
+      service.reorderSkills(['s2', 's1']).subscribe();
+      service.reorderExperiences(['e1']).subscribe();
+      service.reorderProjects(['p3', 'p1']).subscribe();
+      service.reorderSocialLinks(['l2', 'l1']).subscribe();
+
+      expect(apiMock.put).toHaveBeenCalledWith('/skills/order', { ids: ['s2', 's1'] });
+      expect(apiMock.put).toHaveBeenCalledWith('/experiences/order', { ids: ['e1'] });
+      expect(apiMock.put).toHaveBeenCalledWith('/projects/order', { ids: ['p3', 'p1'] });
+      expect(apiMock.put).toHaveBeenCalledWith('/profile/social-links/order', { ids: ['l2', 'l1'] });
+    });
+  });
+
+  describe('getContactPage', () => {
+    it('should GET /contacts/page with only the given query params', () => {
+      apiMock.get.mockReturnValue(of({ items: [], nextCursor: null }));
+
+      service.getContactPage({ cursor: 'abc', limit: 20, read: false }).subscribe();
+      service.getContactPage().subscribe();
+
+      expect(apiMock.get).toHaveBeenCalledWith('/contacts/page?cursor=abc&limit=20&read=false');
+      expect(apiMock.get).toHaveBeenCalledWith('/contacts/page');
+    });
+  });
+
+  describe('getContactCounts', () => {
+    it('should GET /contacts/counts', () => {
+      apiMock.get.mockReturnValue(of({ total: 3, unread: 1 }));
+
+      service.getContactCounts().subscribe(counts => {
+        expect(counts.unread).toBe(1);
+      });
+
+      expect(apiMock.get).toHaveBeenCalledWith('/contacts/counts');
+    });
+  });
+
+  describe('applyContactBulk', () => {
+    it('should POST the bulk request to /contacts/bulk', () => {
+      apiMock.post.mockReturnValue(of({ action: 'ARCHIVE', affected: 2 }));
+
+      service.applyContactBulk({ action: 'ARCHIVE', ids: ['c1', 'c2'] }).subscribe(result => {
+        expect(result.affected).toBe(2);
+      });
+
+      expect(apiMock.post).toHaveBeenCalledWith('/contacts/bulk', { action: 'ARCHIVE', ids: ['c1', 'c2'] });
+    });
+  });
+
   // ── Experiences ───────────────────────────────────────────
 
   describe('createExperience', () => {
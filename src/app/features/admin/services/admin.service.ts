@@ -1,8 +1,15 @@
 import { Injectable } from '@angular/core';
 import { Observable } from 'rxjs';
 import { ApiService } from '../../../core/services/api.service';
-import { ContactDto } from '../../../core/models/contact.model';
-import { BlogDto } from '../../../core/models/blog.model';
+import {
+  ContactBulkRequest,
+  ContactBulkResult,
+  ContactCounts,
+  ContactDto,
+  ContactPage,
+  ContactPageQuery
+} from '../../../core/models/contact.model';
+import { BlogDto, BlogDraft, BlogTextEdit } from '../../../core/models/blog.model';
 import { ProfileDto } from '../../../core/models/profile.model';
 import { SkillDto } from '../../../core/models/skill.model';
 import { ExperienceDto } from '../../../core/models/experience.model';
@@ -28,6 +35,30 @@ export class AdminService {
     return this.api.get<ContactDto[]>('/contacts');
   }
 
+  /**
+   * Fetches one page of contact submissions, newest first.
+   * @param query - Cursor, page size and optional filters
+   * @returns Observable of the page with the cursor for the next one
+   */
+  getContactPage(query: ContactPageQuery = {}): Observable<ContactPage> {
+    const params = new URLSearchParams();
+    for (const [key, value] of Object.entries(query)) {
+      if (value !== undefined && value !== null && value !== '') {
+        params.set(key, String(value));
+      }
+    }
+    const search = params.toString();
+    return this.api.get<ContactPage>(search ? `/contacts/page?${search}` : '/contacts/page');
+  }
+
+  /**
+   * Fetches the total and unread contact counts for the inbox.
+   * @returns Observable of ContactCounts
+   */
+  getContactCounts(): Observable<ContactCounts> {
+    return this.api.get<ContactCounts>('/contacts/counts');
+  }
+
   /**
    * Marks a contact submission as read.
    * @param id - The contact ID
@@ -46,6 +77,15 @@ export class AdminService {
     return this.api.delete<void>(`/contacts/${id}`);
   }
 
+  /**
+   * Marks read, marks unread, archives or deletes many contacts in one request.
+   * @param request - The action and the contacts it applies to (ids or filter)
+   * @returns Observable of the result with the number of contacts changed
+   */
+  applyContactBulk(request: ContactBulkRequest): Observable<ContactBulkResult> {
+    return this.api.post<ContactBulkResult>('/contacts/bulk', request);
+  }
+
   // ── Blogs ─────────────────────────────────────────────────
 
   /**
@@ -98,6 +138,35 @@ export class AdminService {
     });
   }
 
+  /**
+   * Fetches the autosave draft of a blog post.
+   * @param blogId - The blog ID
+   * @returns Observable of the draft (revision 0 when nothing has been autosaved)
+   */
+  getBlogDraft(blogId: string): Observable<BlogDraft> {
+    return this.api.get<BlogDraft>(`/blogs/${blogId}/draft`);
+  }
+
+  /**
+   * Sends content edits to the autosave draft.
+   * @param blogId - The blog ID
+   * @param baseRevision - Draft revision the edits were computed against
+   * @param edits - Edits, applied in order
+   * @returns Observable of the new draft revision (without content)
+   */
+  patchBlogDraft(blogId: string, baseRevision: number, edits: BlogTextEdit[]): Observable<BlogDraft> {
+    return this.api.patch<BlogDraft>(`/blogs/${blogId}/draft`, { baseRevision, edits });
+  }
+
+  /**
+   * Discards the autosave draft of a blog post.
+   * @param blogId - The blog ID
+   * @returns Observable of void
+   */
+  discardBlogDraft(blogId: string): Observable<void> {
+    return this.api.delete<void>(`/blogs/${blogId}/draft`);
+  }
+
   // ── Profile ───────────────────────────────────────────────
 
   /**
@@ -109,6 +178,15 @@ export class AdminService {
     return this.api.put<ProfileDto>('/profile', profile);
   }
 
+  /**
+   * Reorders social links in one request; each one's sortOrder becomes its position in the list.
+   * @param ids - Social link IDs in their new order
+   * @returns Observable of void
+   */
+  reorderSocialLinks(ids: string[]): Observable<void> {
+    return this.api.put<void>('/profile/social-links/order', { ids });
+  }
+
   // ── Skills ────────────────────────────────────────────────
 
   /**
@@ -139,6 +217,15 @@ export class AdminService {
     return this.api.delete<void>(`/skills/${id}`);
   }
 
+  /**
+   * Reorders skills in one request; each one's sortOrder becomes its position in the list.
+   * @param ids - Skills IDs in their new order
+   * @returns Observable of void
+   */
+  reorderSkills(ids: string[]): Observable<void> {
+    return this.api.put<void>('/skills/order', { ids });
+  }
+
   // ── Experiences ───────────────────────────────────────────
 
   /**
@@ -169,6 +256,15 @@ export class AdminService {
     return this.api.delete<void>(`/experiences/${id}`);
   }
 
+  /**
+   * Reorders experiences in one request; each one's sortOrder becomes its position in the list.
+   * @param ids - Experiences IDs in their new order
+   * @returns Observable of void
+   */
+  reorderExperiences(ids: string[]): Observable<void> {
+    return this.api.put<void>('/experiences/order', { ids });
+  }
+
   // ── Projects ──────────────────────────────────────────────
 
   /**
@@ -199,6 +295,15 @@ export class AdminService {
     return this.api.delete<void>(`/projects/${id}`);
   }
 
+  /**
+   * Reorders projects in one request; each one's sortOrder becomes its position in the list.
+   * @param ids - Projects IDs in their new order
+   * @returns Observable of void
+   */
+  reorderProjects(ids: string[]): Observable<void> {
+    return this.api.put<void>('/projects/order', { ids });
+  }
+
   /**
    * Uploads a thumbnail image for a project.
    * @param projectId - The project ID
@@ -2,7 +2,7 @@ import { ComponentFixture, TestBed } from '@angular/core/testing';
 import { NO_ERRORS_SCHEMA } from '@angular/core';
 import { vi } from 'vitest';
 import { of, throwError } from 'rxjs';
-import { ActivatedRoute } from '@angular/router';
+import { ActivatedRoute, convertToParamMap } from '@angular/router';
 import { BlogDetailPageComponent } from './blog-detail-page.component';
 import { BlogService } from '../../services/blog.service';
 import { SeoService } from '../../../../core/services/seo.service';
@@ -43,11 +43,7 @@ describe('BlogDetailPageComponent', () => {
         {
           provide: ActivatedRoute,
           useValue: {
-            snapshot: {
-              paramMap: {
-                get: vi.fn().mockReturnValue(slug)
-              }
-            }
+            paramMap: of(convertToParamMap(slug ? { slug } : {}))
           }
         },
         {
@@ -1,12 +1,13 @@
-import { Component, ChangeDetectionStrategy, OnInit, ChangeDetectorRef } from '@angular/core';
+import { Component, ChangeDetectionStrategy, OnInit, OnDestroy, ChangeDetectorRef } from '@angular/core';
 import { ActivatedRoute } from '@angular/router';
+import { Subscription } from 'rxjs';
 import { BlogDto } from '../../../../core/models/blog.model';
 import { BlogService } from '../../services/blog.service';
 import { SeoService } from '../../../../core/services/seo.service';
 
 /**
  * Blog detail page displaying a full blog post.
- * Fetches the blog by slug from the route parameter.
+ * Fetches the blog by slug from the route parameter, and again when a related post is opened.
  */
 @Component({
   selector: 'app-blog-detail-page',
@@ -15,7 +16,7 @@ import { SeoService } from '../../../../core/services/seo.service';
   styleUrls: ['./blog-detail-page.component.scss'],
   changeDetection: ChangeDetectionStrategy.OnPush
 })
-export class BlogDetailPageComponent implements OnInit {
+export class BlogDetailPageComponent implements OnInit, OnDestroy {
   /** The full blog post data */
   blog: BlogDto | null = null;
 
@@ -25,6 +26,8 @@ export class BlogDetailPageComponent implements OnInit {
   /** Error message */
   errorMessage = '';
 
+  private paramSub?: Subscription;
+
   constructor(
     private route: ActivatedRoute,
     private blogService: BlogService,
@@ -33,13 +36,21 @@ export class BlogDetailPageComponent implements OnInit {
   ) {}
 
   ngOnInit(): void {
-    const slug = this.route.snapshot.paramMap.get('slug');
-    if (slug) {
-      this.loadBlog(slug);
-    } else {
-      this.errorMessage = 'Blog post not found.';
-      this.isLoading = false;
-    }
+    // The component is reused when navigating between posts, so follow the param rather than the snapshot
+    this.paramSub = this.route.paramMap.subscribe(params => {
+      const slug = params.get('slug');
+      if (slug) {
+        this.loadBlog(slug);
+      } else {
+        this.errorMessage = 'Blog post not found.';
+        this.isLoading = false;
+        this.cdr.markForCheck();
+      }
+    });
+  }
+
+  ngOnDestroy(): void {
+    this.paramSub?.unsubscribe();
   }
 
   /**
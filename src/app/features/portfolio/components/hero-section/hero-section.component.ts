@@ -72,6 +72,11 @@ export class HeroSectionComponent implements OnInit {
       return `data:${profile.avatarContentType};base64,${profile.avatarBase64}`;
     }
 
+    // Stored avatar is served by its own endpoint, versioned so browsers can cache it
+    if (profile.avatarFileSize) {
+      return `/api/profile/avatar?v=${encodeURIComponent(profile.avatarUpdatedAt ?? '')}`;
+    }
+
     // Fallback to URL or default
     return profile.avatarUrl || 'assets/images/avatar.png';
   }
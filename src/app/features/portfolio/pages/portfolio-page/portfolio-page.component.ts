@@ -1,4 +1,5 @@
 import { Component, ChangeDetectionStrategy, ChangeDetectorRef, OnInit, OnDestroy } from '@angular/core';
+import { ActivatedRoute } from '@angular/router';
 import { forkJoin, Subscription } from 'rxjs';
 import { PortfolioService } from '../../services/portfolio.service';
 import { SettingsService } from '../../../../core/services/settings.service';
@@ -19,6 +20,7 @@ export class PortfolioPageComponent implements OnInit, OnDestroy {
   constructor(
     private portfolioService: PortfolioService,
     private settingsService: SettingsService,
+    private route: ActivatedRoute,
     private cdr: ChangeDetectorRef
   ) {}
 
@@ -39,6 +41,7 @@ export class PortfolioPageComponent implements OnInit, OnDestroy {
       next: () => {
         this.isLoading = false;
         this.cdr.markForCheck();
+        this.scrollToLinkedProject();
       },
       error: () => {
         // Still hide loader on error — sections handle their own fallbacks
@@ -48,6 +51,20 @@ export class PortfolioPageComponent implements OnInit, OnDestroy {
     });
   }
 
+  /**
+   * Project links from the sitemap (/projects/:id) open the portfolio at that project's card
+   */
+  private scrollToLinkedProject(): void {
+    const projectId = this.route.snapshot.paramMap.get('id');
+    if (!projectId) {
+      return;
+    }
+    // Wait for the sections to render after the loader is hidden
+    setTimeout(() => {
+      document.getElementById(`project-${projectId}`)?.scrollIntoView({ behavior: 'smooth', block: 'center' });
+    });
+  }
+
   ngOnDestroy(): void {
     this.settingsSub?.unsubscribe();
   }
@@ -3,7 +3,8 @@ import { RouterModule, Routes } from '@angular/router';
 import { PortfolioPageComponent } from './pages/portfolio-page/portfolio-page.component';
 
 const routes: Routes = [
-  { path: '', component: PortfolioPageComponent }
+  { path: '', component: PortfolioPageComponent },
+  { path: 'projects/:id', component: PortfolioPageComponent }
 ];
 
 @NgModule({